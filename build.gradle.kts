@@ -13,6 +13,17 @@ java {
     sourceCompatibility = JavaVersion.VERSION_21
 }
 
+// Benchmarks live in their own source set so that neither JMH nor the generated harness code ends up in the library or its tests.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+// The generator of the tuple family lives in its own source set as well, it is only run on demand by `generateTuples` and never shipped.
+val generator: SourceSet by sourceSets.creating
+
 // Todo create a version catalog or use somthing else so that consuming programs can use potentially different but still compatible library versions
 dependencies {
     compileOnly("org.projectlombok:lombok:1.18.30")
@@ -26,8 +37,46 @@ dependencies {
 
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+    // keeps the numbers of the allocation budget tests deterministic, otherwise they depend on what the JIT managed to scalar replace
+    jvmArgs("-XX:-DoEscapeAnalysis")
+}
+
+// Runs the benchmarks with the GC profiler so that the allocation rate (gc.alloc.rate.norm) is reported next to the timings.
+// A subset can be selected with a regex e.g. `gradle jmh -Pjmh.includes=OptionBenchmark`.
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    dependsOn(tasks.named(jmh.classesTaskName))
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(providers.gradleProperty("jmh.includes").getOrElse(".*Benchmark.*"))
+    args("-prof", "gc")
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
+// Regenerates the tuple records, the primitive tuples and the Tuple.SizeN interfaces in the main sources, the output is checked in.
+// Larger tuples can be generated with e.g. `gradle generateTuples -Ptuples.maxArity=12`.
+tasks.register<JavaExec>("generateTuples") {
+    group = "build"
+    description = "Generates the tuple family from TupleGenerator."
+
+    classpath = generator.runtimeClasspath
+    mainClass.set("the.oronco.tuple.generator.TupleGenerator")
+    args(layout.projectDirectory.dir("src/main/java/the/oronco/tuple").asFile.absolutePath)
+    args(providers.gradleProperty("tuples.maxArity").getOrElse("10"))
+}
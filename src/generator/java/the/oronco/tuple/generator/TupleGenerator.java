@@ -0,0 +1,641 @@
+package the.oronco.tuple.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the tuple family of {@code the.oronco.tuple} from one template, so that a change to the tuples is made once instead of once per
+ * arity:
+ * <ul>
+ *     <li>the records {@code Unit} up to {@code Decade} and {@code TupleN} for arities above ten,</li>
+ *     <li>the records of primitive values like {@code LongPair} and {@code IntLongPair},</li>
+ *     <li>the {@code Tuple.SizeN} interfaces and the permitted subtypes of {@code MultiValue}, which replace the regions between the
+ *     {@value #BEGIN} and {@value #END} marker comments of these files.</li>
+ * </ul>
+ * The output is checked in. Run it with {@code gradle generateTuples}, optionally passing {@code -Ptuples.maxArity=12} for larger tuples.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public final class TupleGenerator {
+    private static final int MAX_LINE_LENGTH = 150;
+    private static final String BEGIN = "// generated by TupleGenerator, begin ";
+    private static final String END = "// generated by TupleGenerator, end ";
+    private static final String HEADER = "// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.";
+
+    private static final List<String> NAMES = List.of("Empty", "Unit", "Pair", "Triplet", "Quartet", "Quintet", "Sextet", "Septet", "Octet",
+                                                      "Ennead", "Decade");
+    private static final Map<String, String> SINCE = Map.of("Unit", "05.03.24", "Pair", "05.03.24");
+    private static final String CLASSIC_SINCE = "06.03.24";
+    private static final String SINCE_NOW = "18.10.26";
+
+    /**
+     * Hand-written subtypes of the size interfaces.
+     */
+    private static final Map<Integer, List<String>> HAND_WRITTEN = Map.of(0, List.of("Empty"),
+                                                                          2, List.of("PairBatch.Row", "LongPairMap.Key"),
+                                                                          3, List.of("TripletBatch.Row", "IntTripletMap.Key"));
+
+    private record Primitive(String prefix, String type, String box) {
+        String equalityCheck(String component) {
+            return "double".equals(type) ? "bits == Double.doubleToLongBits(%s)".formatted(component) : "value == " + component;
+        }
+
+        /**
+         * @return the check that the box {@code value} holds the value of {@code component}, doubles are compared by their bits
+         */
+        String boxCheck(String component) {
+            return "double".equals(type) ? "Double.doubleToLongBits(value) == Double.doubleToLongBits(%s)".formatted(component)
+                                         : "value == " + component;
+        }
+
+        /**
+         * @return the check that {@code component} is the same value in {@code other}, doubles are compared by their bits like records do
+         */
+        String sameValueCheck(String component) {
+            return "double".equals(type) ? "Double.doubleToLongBits(%s) == Double.doubleToLongBits(other.%s)".formatted(component, component)
+                                         : "%s == other.%s".formatted(component, component);
+        }
+
+        /**
+         * @return the value of {@code component} that is mixed into the hash, all 64 bits for longs and doubles
+         */
+        String hashValue(String component) {
+            return "double".equals(type) ? "Double.doubleToLongBits(%s)".formatted(component) : component;
+        }
+    }
+
+    private static final List<Primitive> PRIMITIVES = List.of(new Primitive("Long", "long", "Long"),
+                                                              new Primitive("Int", "int", "Integer"),
+                                                              new Primitive("Double", "double", "Double"));
+    private static final List<Integer> PRIMITIVE_ARITIES = List.of(2, 3);
+
+    private final Path directory;
+    private final int maxArity;
+
+    private TupleGenerator(Path directory, int maxArity) {
+        this.directory = directory;
+        this.maxArity = maxArity;
+    }
+
+    /**
+     * @param args the directory of the {@code the.oronco.tuple} sources and the maximum arity
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TupleGenerator <tuple source directory> <max arity>");
+        }
+        int maxArity = Integer.parseInt(args[1]);
+        if (maxArity < NAMES.size() - 1) {
+            throw new IllegalArgumentException("The tuples up to %s cannot be left out, but the max arity was %d!".formatted(NAMES.getLast(),
+                                                                                                                              maxArity));
+        }
+        new TupleGenerator(Path.of(args[0]), maxArity).generate();
+    }
+
+    private void generate() throws IOException {
+        for (int arity = 1; arity <= maxArity; arity++) {
+            write(name(arity), record(arity));
+        }
+        for (List<Primitive> types : primitiveTuples()) {
+            write(primitiveName(types), primitiveRecord(types));
+        }
+        replaceRegion("Tuple", "size interfaces", sizeInterfaces());
+        replaceRegion("MultiValue", "permits", multiValuePermits());
+    }
+
+    private void write(String name, String source) throws IOException {
+        Files.writeString(directory.resolve(name + ".java"), source, StandardCharsets.UTF_8);
+    }
+
+    private void replaceRegion(String name, String region, String content) throws IOException {
+        Path file = directory.resolve(name + ".java");
+        String source = Files.readString(file, StandardCharsets.UTF_8);
+        int begin = source.indexOf(BEGIN + region);
+        int end = source.indexOf(END + region);
+        if (begin < 0 || end < begin) {
+            throw new IllegalStateException("%s has no region %s to generate!".formatted(file, region));
+        }
+        int contentStart = source.indexOf('\n', begin) + 1;
+        int contentEnd = source.lastIndexOf('\n', end) + 1;
+        Files.writeString(file, source.substring(0, contentStart) + content + source.substring(contentEnd), StandardCharsets.UTF_8);
+    }
+
+    private static String name(int arity) {
+        return arity < NAMES.size() ? NAMES.get(arity) : "Tuple" + arity;
+    }
+
+    /**
+     * Mixed records are only generated as pairs, one for every ordered combination of two different {@link #PRIMITIVES}, mixed triplets would
+     * already be 24 records.
+     *
+     * @return the component types of every record of primitives, the ones of a single primitive first
+     */
+    private static List<List<Primitive>> primitiveTuples() {
+        List<List<Primitive>> tuples = new ArrayList<>();
+        for (int arity : PRIMITIVE_ARITIES) {
+            for (Primitive primitive : PRIMITIVES) {
+                tuples.add(Collections.nCopies(arity, primitive));
+            }
+        }
+        for (Primitive first : PRIMITIVES) {
+            for (Primitive second : PRIMITIVES) {
+                if (first != second) {
+                    tuples.add(List.of(first, second));
+                }
+            }
+        }
+        return tuples;
+    }
+
+    private static boolean isHomogeneous(List<Primitive> types) {
+        return types.stream()
+                    .distinct()
+                    .count() == 1;
+    }
+
+    /**
+     * @return e.g. {@code LongPair} for two {@code long}s and {@code IntLongPair} for an {@code int} and a {@code long}
+     */
+    private static String primitiveName(List<Primitive> types) {
+        String prefix = isHomogeneous(types) ? types.getFirst()
+                                                    .prefix() : types.stream()
+                                                                     .map(Primitive::prefix)
+                                                                     .collect(Collectors.joining());
+        return prefix + name(types.size());
+    }
+
+    private static String since(int arity) {
+        return arity < NAMES.size() ? SINCE.getOrDefault(name(arity), CLASSIC_SINCE) : SINCE_NOW;
+    }
+
+    private static String join(int arity, IntFunction<String> element) {
+        return IntStream.range(0, arity)
+                        .mapToObj(element)
+                        .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @return the type parameters {@code T0, T1, ...} in the given order of indices
+     */
+    private static String types(int... indices) {
+        return IntStream.of(indices)
+                        .mapToObj(i -> "T" + i)
+                        .collect(Collectors.joining(", "));
+    }
+
+    private static int[] rotatedLeft(int arity) {
+        return IntStream.range(0, arity)
+                        .map(i -> (i + 1) % arity)
+                        .toArray();
+    }
+
+    private static int[] rotatedRight(int arity) {
+        return IntStream.range(0, arity)
+                        .map(i -> (i + arity - 1) % arity)
+                        .toArray();
+    }
+
+    /**
+     * Breaks a line that is longer than {@link #MAX_LINE_LENGTH} after the separators matched by {@code splitAfter}, continuing it with
+     * {@code indent}.
+     */
+    private static String wrap(String line, String splitAfter, String indent) {
+        if (line.length() <= MAX_LINE_LENGTH) {
+            return line;
+        }
+        StringBuilder wrapped = new StringBuilder();
+        StringBuilder current = new StringBuilder();
+        for (String token : line.split("(?<=" + splitAfter + ")")) {
+            boolean full = current.length() + token.stripTrailing()
+                                                   .length() > MAX_LINE_LENGTH;
+            if (full && current.length() > indent.length()) {
+                wrapped.append(current.toString()
+                                      .stripTrailing())
+                       .append('\n');
+                current = new StringBuilder(indent);
+            }
+            current.append(token);
+        }
+        return wrapped.append(current)
+                      .toString();
+    }
+
+    private static String wrap(String line) {
+        return wrap(line, ", ", " ".repeat(8));
+    }
+
+    /**
+     * Breaks a method signature that is too long after its opening parenthesis and then after its commas.
+     */
+    private static String wrapSignature(String signature) {
+        if (signature.length() <= MAX_LINE_LENGTH) {
+            return signature;
+        }
+        int open = signature.indexOf('(') + 1;
+        return signature.substring(0, open) + "\n" + wrap(" ".repeat(12) + signature.substring(open), ", ", " ".repeat(12));
+    }
+
+    private static String indexOfChain(List<String> conditions) {
+        StringBuilder chain = new StringBuilder();
+        for (int i = 0; i < conditions.size(); i++) {
+            chain.append(i == 0 ? "" : "\n             : ")
+                 .append(conditions.get(i))
+                 .append(" ? ")
+                 .append(i);
+        }
+        return chain.toString();
+    }
+
+    /**
+     * @return the body of an {@code equals(Object o)} that returns early for the same reference and otherwise compares the components one per
+     * line
+     */
+    private static String equalsBody(String type, List<String> comparisons) {
+        String chain = comparisons.stream()
+                                  .map(comparison -> "               && " + comparison)
+                                  .collect(Collectors.joining("\n"));
+        return """
+                        if (this == o) {
+                            return true;
+                        }
+                        return o instanceof %s other
+                %s;""".formatted(type, chain);
+    }
+
+    /**
+     * @return the body of a {@code hashCode()} that mixes the given component hashes with {@code Tuples.mixHash}
+     */
+    private static String hashBody(List<String> hashes) {
+        String mixes = hashes.stream()
+                             .map(hash -> "        hash = Tuples.mixHash(hash, %s);\n".formatted(hash))
+                             .collect(Collectors.joining());
+        return """
+                        int hash = Tuples.HASH_SEED;
+                %s        return Tuples.finishHash(hash, SIZE);""".formatted(mixes);
+    }
+
+    private String record(int arity) {
+        String name = name(arity);
+        String all = types(IntStream.range(0, arity)
+                                    .toArray());
+        String self = "%s<%s>".formatted(name, all);
+        String sameTypes = IntStream.range(0, arity)
+                                    .mapToObj(i -> "T")
+                                    .collect(Collectors.joining(", "));
+        String fromType = "Result<%s<%s>, TupleError>".formatted(name, sameTypes);
+        String values = join(arity, i -> "vals[" + i + "]");
+        String components = join(arity, i -> "_" + i);
+        String leftTypes = types(rotatedLeft(arity));
+        String rightTypes = types(rotatedRight(arity));
+
+        String header = wrap("public record %s(%s)".formatted(self, join(arity, i -> "T%d _%d".formatted(i, i))));
+        String implementsClause = wrap("        implements MultiValue<%s, %s<%s>, %s<%s>>, Tuple.Size%d<%s> {".formatted(self, name, leftTypes, name,
+                                                                                                                       rightTypes, arity, all));
+        String of = wrapSignature("    public static <%s> @NotNull %s of(%s) {".formatted(all, self, join(arity, i -> "T%d v%d".formatted(i, i))));
+        String ofOther = wrapSignature("    public static <%s> @NotNull %s of(@NotNull @NonNull Tuple.Size%d<%s> other) {".formatted(all, self, arity,
+                                                                                                                                   all));
+        String ofOtherBody = wrap("        return %s.of(%s);".formatted(name, join(arity, i -> "other._%d()".formatted(i))), ", ",
+                                  " ".repeat(12));
+        String cases = IntStream.range(0, arity)
+                                .mapToObj(i -> "            case %d -> _%d;".formatted(i, i))
+                                .collect(Collectors.joining("\n"));
+        String indexOf = indexOfChain(IntStream.range(0, arity)
+                                               .mapToObj(i -> "Objects.equals(_%d, other)".formatted(i))
+                                               .toList());
+        List<String> comparisons = IntStream.range(0, arity)
+                                            .mapToObj(i -> "Objects.equals(_%d, other._%d)".formatted(i, i))
+                                            .toList();
+        String equals = equalsBody("%s<%s>".formatted(name, join(arity, i -> "?")), comparisons);
+        String hash = hashBody(IntStream.range(0, arity)
+                                        .mapToObj(i -> "Objects.hashCode(_%d)".formatted(i))
+                                        .toList());
+        String toString = wrap("        return \"(\" + %s + ')';".formatted(join(arity, i -> "_" + i).replace(", ", " + \", \" + ")), "\\+ ",
+                               " ".repeat(16));
+
+        return """
+                %s
+                package the.oronco.tuple;
+
+                import lombok.NonNull;
+                import lombok.With;
+                import org.jetbrains.annotations.NotNull;
+                import org.jetbrains.annotations.Unmodifiable;
+                import the.oronco.adt.Result;
+
+                import java.util.Objects;
+
+                /**
+                 * @author Théo Roncoletta
+                 * @since %s
+                 **/
+                @With
+                @Unmodifiable
+                %s
+                %s
+                %s
+                        return new %s<>(%s);
+                    }
+
+                %s
+                %s
+                    }
+
+                    public static <T> @NotNull %s from(
+                            @NonNull @NotNull final T[] vals) {
+                        if (vals.length > SIZE) {
+                            return Result.err(new TupleError.CreateError.TooFewElements(SIZE, vals.length, 0));
+                        } else if (vals.length < SIZE) {
+                            return Result.err(new TupleError.CreateError.TooManyElements(SIZE, vals.length, 0));
+                        }
+                        return Result.ok(%s.of(%s));
+                    }
+
+                    public static <T> @NotNull %s from(
+                            @NonNull @NotNull final Iterable<T> iterable, long numberOfElementsToSkip) {
+                        return from(iterable, numberOfElementsToSkip, false);
+                    }
+
+                    public static <T> @NotNull %s from(
+                            @NonNull @NotNull final Iterable<T> iterable) {
+                        return from(iterable, 0, true);
+                    }
+
+                    private static <T> @NotNull %s from(
+                            @NonNull @NotNull final Iterable<T> iterable, long numberOfElementsToSkip, boolean exactSize) {
+
+                        return Tuples.extractValues(iterable, numberOfElementsToSkip, exactSize, SIZE)
+                                     .map(vals -> %s.of(%s))
+                                     .mapErr(e -> e);
+                    }
+
+                    @Override
+                    public Object getUnchecked(int index) {
+                        return switch (index) {
+                %s
+                            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+                        };
+                    }
+
+                    @Override
+                    public int indexOf(Object other) {
+                        return %s
+                             : -1;
+                    }
+
+                    @Override
+                    public @NotNull %s<%s> rotL() {
+                        return new %s<>(%s);
+                    }
+
+                    @Override
+                    public @NotNull %s<%s> rotR() {
+                        return new %s<>(%s);
+                    }
+
+                    @Override
+                    public boolean equals(Object o) {
+                %s
+                    }
+
+                    @Override
+                    public int hashCode() {
+                %s
+                    }
+
+                    @Override
+                    public String toString() {
+                %s
+                    }
+                }
+                """.formatted(HEADER, since(arity), header, implementsClause, of, name, join(arity, i -> "v" + i), ofOther, ofOtherBody, fromType,
+                              name, values, fromType, fromType, fromType, name, values, cases, indexOf, name, leftTypes, name,
+                              join(arity, i -> "_" + rotatedLeft(arity)[i]), name, rightTypes, name,
+                              join(arity, i -> "_" + rotatedRight(arity)[i]), equals, hash, toString);
+    }
+
+    private String primitiveRecord(List<Primitive> types) {
+        int arity = types.size();
+        String name = primitiveName(types);
+        String boxedName = name(arity);
+        String boxes = join(arity, i -> types.get(i)
+                                              .box());
+        List<String> components = IntStream.range(0, arity)
+                                           .mapToObj(i -> types.get(i)
+                                                               .type() + i)
+                                           .toList();
+        String componentList = String.join(", ", components);
+        String description = isHomogeneous(types) ? "{@code %s} values".formatted(types.getFirst()
+                                                                                           .type())
+                                                  : types.stream()
+                                                         .map(type -> "{@code %s}".formatted(type.type()))
+                                                         .collect(Collectors.joining(" and "));
+        String boxedAccessors = IntStream.range(0, arity)
+                                         .mapToObj(i -> """
+                                                     @Override
+                                                     public %s _%d() {
+                                                         return %s;
+                                                     }
+                                                 """.formatted(types.get(i)
+                                                                    .box(), i, components.get(i)))
+                                         .collect(Collectors.joining("\n"));
+        String cases = IntStream.range(0, arity)
+                                .mapToObj(i -> "            case %d -> %s;".formatted(i, components.get(i)))
+                                .collect(Collectors.joining("\n"));
+        String equals = equalsBody(name, IntStream.range(0, arity)
+                                                  .mapToObj(i -> types.get(i)
+                                                                      .sameValueCheck(components.get(i)))
+                                                  .toList());
+        String hash = hashBody(IntStream.range(0, arity)
+                                        .mapToObj(i -> types.get(i)
+                                                            .hashValue(components.get(i)))
+                                        .toList());
+        String leftName = primitiveName(IntStream.of(rotatedLeft(arity))
+                                                 .mapToObj(types::get)
+                                                 .toList());
+        String rightName = primitiveName(IntStream.of(rotatedRight(arity))
+                                                  .mapToObj(types::get)
+                                                  .toList());
+        String left = join(arity, i -> components.get(rotatedLeft(arity)[i]));
+        String right = join(arity, i -> components.get(rotatedRight(arity)[i]));
+
+        return """
+                %s
+                package the.oronco.tuple;
+
+                import lombok.NonNull;
+                import lombok.With;
+                import org.jetbrains.annotations.NotNull;
+                import org.jetbrains.annotations.Unmodifiable;
+
+                /**
+                 * A {@link %s} of %s that stores them unboxed. The boxed accessors of {@link Tuple.Size%d} box on every call, use the
+                 * primitive accessors {@code %s()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+                 *
+                 * @author Théo Roncoletta
+                 * @since %s
+                 **/
+                @With
+                @Unmodifiable
+                public record %s(%s)
+                        implements MultiValue<%s, %s, %s>, Tuple.Size%d<%s> {
+                    public static @NotNull %s of(%s) {
+                        return new %s(%s);
+                    }
+
+                    /**
+                     * @throws NullPointerException if a value of {@code other} is {@code null}
+                     */
+                    public static @NotNull %s of(@NotNull @NonNull Tuple.Size%d<%s> other) {
+                        return %s.of(%s);
+                    }
+
+                %s
+                    @Override
+                    public Object getUnchecked(int index) {
+                        return switch (index) {
+                %s
+                            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+                        };
+                    }
+
+                    @Override
+                    public int indexOf(Object other) {
+                %s
+                    }
+
+                    /**
+                     * @return the values of this tuple as boxed {@link %s}
+                     */
+                    public @NotNull %s<%s> to%s() {
+                        return %s.of(%s);
+                    }
+
+                    @Override
+                    public @NotNull %s rotL() {
+                        return new %s(%s);
+                    }
+
+                    @Override
+                    public @NotNull %s rotR() {
+                        return new %s(%s);
+                    }
+
+                    @Override
+                    public boolean equals(Object o) {
+                %s
+                    }
+
+                    @Override
+                    public int hashCode() {
+                %s
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "(" + %s + ')';
+                    }
+                }
+                """.formatted(HEADER, boxedName, description, arity, components.getFirst(), SINCE_NOW, name,
+                              join(arity, i -> types.get(i)
+                                                    .type() + " " + components.get(i)), name, leftName, rightName, arity, boxes, name,
+                              join(arity, i -> types.get(i)
+                                                    .type() + " v" + i), name, join(arity, i -> "v" + i), name, arity, boxes, name,
+                              join(arity, i -> "other._%d()".formatted(i)), boxedAccessors, cases, indexOfBody(types, components), boxedName,
+                              boxedName, boxes, boxedName, boxedName, componentList, leftName, leftName, left, rightName, rightName, right,
+                              equals, hash, componentList.replace(", ", " + \", \" + "));
+    }
+
+    /**
+     * @return the body of {@code indexOf(Object other)}, which only matches a box of the type of a component, like {@code equals} of the boxed
+     * tuple would
+     */
+    private static String indexOfBody(List<Primitive> types, List<String> components) {
+        if (isHomogeneous(types)) {
+            Primitive primitive = types.getFirst();
+            String bits = "double".equals(primitive.type()) ? "            long bits = Double.doubleToLongBits(value);\n" : "";
+            String chain = indexOfChain(components.stream()
+                                                  .map(primitive::equalityCheck)
+                                                  .toList()).replace("\n             : ", "\n                 : ");
+            return """
+                            if (other instanceof %s value) {
+                    %s            return %s
+                                     : -1;
+                            }
+                            return -1;""".formatted(primitive.box(), bits, chain);
+        }
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < types.size(); i++) {
+            body.append("""
+                                    if (other instanceof %s value && %s) {
+                                        return %d;
+                                    }
+                            """.formatted(types.get(i)
+                                               .box(), types.get(i)
+                                                            .boxCheck(components.get(i)), i));
+        }
+        return body.append("        return -1;")
+                   .toString();
+    }
+
+    private String sizeInterfaces() {
+        List<String> interfaces = new ArrayList<>();
+        for (int arity = 0; arity <= maxArity; arity++) {
+            List<String> permitted = new ArrayList<>();
+            if (arity < maxArity) {
+                permitted.add("Size" + (arity + 1));
+            }
+            if (arity > 0) {
+                permitted.add(name(arity));
+            }
+            permitted.addAll(HAND_WRITTEN.getOrDefault(arity, List.of()));
+            for (List<Primitive> types : primitiveTuples()) {
+                if (types.size() == arity) {
+                    permitted.add(primitiveName(types));
+                }
+            }
+            String own = arity == 0 ? "Size0" : "Size%d<%s>".formatted(arity, join(arity, i -> "T" + i));
+            String parent = switch (arity) {
+                case 0 -> "Tuple";
+                case 1 -> "Size0";
+                default -> "Size%d<%s>".formatted(arity - 1, join(arity - 1, i -> "T" + i));
+            };
+            String declaration = wrap("    sealed interface %s extends %s permits %s {".formatted(own, parent, String.join(", ", permitted)), ", ",
+                                      " ".repeat(12));
+            StringBuilder body = new StringBuilder(declaration).append('\n')
+                                                               .append("        int SIZE = ")
+                                                               .append(arity)
+                                                               .append(";\n\n")
+                                                               .append("        @Override\n")
+                                                               .append("        default int size() {\n")
+                                                               .append("            return SIZE;\n")
+                                                               .append("        }\n");
+            if (arity > 0) {
+                body.append("\n        T%d _%d();\n".formatted(arity - 1, arity - 1));
+            }
+            interfaces.add(body.append("    }\n")
+                               .toString());
+        }
+        return String.join("\n", interfaces);
+    }
+
+    private String multiValuePermits() {
+        List<String> permitted = new ArrayList<>();
+        for (int arity = 0; arity <= maxArity; arity++) {
+            permitted.add(name(arity));
+        }
+        for (List<Primitive> types : primitiveTuples()) {
+            permitted.add(primitiveName(types));
+        }
+        return wrap("        permits %s {".formatted(String.join(", ", permitted))) + "\n";
+    }
+}
@@ -0,0 +1,76 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Benchmarks the sealed-switch methods of {@link Condition} against an {@link Optional} that is filtered with the same bound.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+    private Predicate<Integer> positive = i -> i > 0;
+    private Integer value = 42;
+    private Condition<Integer> holds = Condition.holds(42, positive);
+    private Optional<Integer> present = Optional.of(42);
+
+    @Benchmark
+    public Condition<Integer> from() {
+        return Condition.from(value, positive);
+    }
+
+    @Benchmark
+    public Optional<Integer> fromBaseline() {
+        return Optional.of(value)
+                       .filter(positive);
+    }
+
+    @Benchmark
+    public Condition<Integer> map() {
+        return holds.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> mapBaseline() {
+        return present.map(i -> i + 1)
+                      .filter(positive);
+    }
+
+    @Benchmark
+    public Condition<Integer> filter() {
+        return holds.filter(i -> i < 100);
+    }
+
+    @Benchmark
+    public Optional<Integer> filterBaseline() {
+        return present.filter(i -> i < 100);
+    }
+
+    @Benchmark
+    public Condition<Integer> reBound() {
+        return holds.reBound(i -> i < 100);
+    }
+
+    @Benchmark
+    public Integer unwrapOr() {
+        return holds.unwrapOr(0);
+    }
+}
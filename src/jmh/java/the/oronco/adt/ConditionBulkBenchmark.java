@@ -0,0 +1,72 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import the.oronco.tuple.Pair;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Benchmarks validating an array of measurements, of which about half are in range, with {@link Condition#checkAll} against creating one
+ * {@link Condition} per element.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBulkBenchmark {
+    private static final long MIN = -500;
+    private static final long MAX = 500;
+
+    @Param({"1000000"})
+    private int size;
+
+    private long[] measurements;
+    private Long[] boxedMeasurements;
+    private final Predicate<Long> inRange = value -> value >= MIN && value <= MAX;
+
+    @Setup
+    public void setUp() {
+        measurements = new Random(42).longs(size, -1000, 1000)
+                                     .toArray();
+        boxedMeasurements = new Long[size];
+        for (int i = 0; i < size; i++) {
+            boxedMeasurements[i] = measurements[i];
+        }
+    }
+
+    @Benchmark
+    public Pair<BitSet, long[]> checkAllLongs() {
+        return Condition.checkAll(measurements, MIN, MAX);
+    }
+
+    @Benchmark
+    public Pair<BitSet, MultiOption<Long>> checkAllObjects() {
+        return Condition.checkAll(boxedMeasurements, inRange);
+    }
+
+    @Benchmark
+    public void conditionPerElementBaseline(Blackhole blackhole) {
+        for (Long measurement : boxedMeasurements) {
+            blackhole.consume(Condition.from(measurement, inRange));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks scans that stop early: the position of the first element above a threshold in the middle of a large list, found with the
+ * {@link ControlFlow} engine, with {@link java.util.stream.Stream#takeWhile}, and with an exception that aborts a {@code forEach}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlFlowBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private List<Integer> values;
+    private int threshold;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size)
+                          .boxed()
+                          .toList();
+        threshold = size / 2;
+    }
+
+    private static final class Found extends RuntimeException {
+        private final long index;
+
+        private Found(long index, boolean stackTrace) {
+            super(null, null, false, stackTrace);
+            this.index = index;
+        }
+    }
+
+    @Benchmark
+    public OptionLong position() {
+        return ControlFlow.position(values, v -> v > threshold);
+    }
+
+    @Benchmark
+    public OptionLong positionOfStream() {
+        return ControlFlow.position(values.stream()
+                                          .map(v -> v * 2)
+                                          .spliterator(), v -> v > 2 * threshold);
+    }
+
+    @Benchmark
+    public ControlFlow<Long, Long> tryFoldSum() {
+        return ControlFlow.tryFold(values, 0L, (sum, v) -> v > threshold ? new ControlFlow.Break<>(sum) : new ControlFlow.Continue<>(sum + v));
+    }
+
+    @Benchmark
+    public long takeWhileBaseline() {
+        return values.stream()
+                     .map(v -> v * 2)
+                     .takeWhile(v -> v <= 2 * threshold)
+                     .count();
+    }
+
+    @Benchmark
+    public long exceptionBaseline() {
+        long[] index = {0};
+        try {
+            values.forEach(v -> {
+                if (v > threshold) {
+                    throw new Found(index[0], true);
+                }
+                index[0]++;
+            });
+            return -1;
+        } catch (Found found) {
+            return found.index;
+        }
+    }
+
+    @Benchmark
+    public long stacklessExceptionBaseline() {
+        long[] index = {0};
+        try {
+            values.forEach(v -> {
+                if (v > threshold) {
+                    throw new Found(index[0], false);
+                }
+                index[0]++;
+            });
+            return -1;
+        } catch (Found found) {
+            return found.index;
+        }
+    }
+
+    @Benchmark
+    public long loopBaseline() {
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) > threshold) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,94 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the creation and the sealed-switch methods of {@link MultiOption} against plain {@link List} operations.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiOptionBenchmark {
+    @Param({"1", "10", "1000"})
+    private int size;
+
+    private List<Integer> values;
+    private MultiOption<Integer> multiOption;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size)
+                          .boxed()
+                          .toList();
+        multiOption = MultiOption.from(values);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> fromCollection() {
+        return MultiOption.from(values);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> fromIterator() {
+        return MultiOption.from(values.iterator());
+    }
+
+    @Benchmark
+    public List<Integer> fromCollectionBaseline() {
+        return List.copyOf(values);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> map() {
+        return multiOption.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public List<Integer> mapBaseline() {
+        return values.stream()
+                     .map(i -> i + 1)
+                     .toList();
+    }
+
+    @Benchmark
+    public long stream() {
+        return multiOption.stream()
+                          .count();
+    }
+
+    @Benchmark
+    public long streamBaseline() {
+        return values.stream()
+                     .count();
+    }
+
+    @Benchmark
+    public int size() {
+        return multiOption.size();
+    }
+
+    @Benchmark
+    public MultiOption<Integer> fromMultiOptions() {
+        return MultiOption.fromMultiOptions(List.of(multiOption, multiOption));
+    }
+}
@@ -0,0 +1,83 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks merging the results of many shards: {@code inputs} sorted {@link MultiOption}s of {@code size} values each, where neighbouring
+ * shards overlap by half. The baseline is the former implementation of {@link MultiOption#fromMultiOptions}, which collected into a set.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MultiOptionMergeBenchmark {
+    @Param({"1000"})
+    private int inputs;
+
+    @Param({"1000"})
+    private int size;
+
+    private List<MultiOption<Integer>> shards;
+
+    @Setup
+    public void setUp() {
+        shards = IntStream.range(0, inputs)
+                          .mapToObj(shard -> MultiOption.from(IntStream.range(shard * size / 2, shard * size / 2 + size)
+                                                                       .boxed()
+                                                                       .toList()))
+                          .toList();
+    }
+
+    @Benchmark
+    public MultiOption<Integer> concat() {
+        return MultiOption.concat(shards);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> distinct() {
+        return MultiOption.distinct(shards, inputs * size / 2 + size);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> fromMultiOptions() {
+        return MultiOption.fromMultiOptions(shards);
+    }
+
+    @Benchmark
+    public MultiOption<Integer> mergeSorted() {
+        return MultiOption.mergeSorted(shards, Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public MultiOption<Integer> toSetBaseline() {
+        return MultiOption.from(shards.stream()
+                                      .flatMap(multiOption -> switch (multiOption) {
+                                          case MultiOption.None<Integer> ignored -> Stream.of();
+                                          case MultiOption.One<Integer>(Integer value) -> Stream.of(value);
+                                          case MultiOption.Many<Integer>(var values) -> values.stream();
+                                      })
+                                      .collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,138 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the sealed-switch methods of {@link Option} against the equivalent {@link Optional} calls.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionBenchmark {
+    private Option<String> some = Option.some("something");
+    private Option<String> none = Option.none();
+    private Optional<String> present = Optional.of("something");
+    private Optional<String> empty = Optional.empty();
+
+    @Benchmark
+    public boolean isSome() {
+        return some.isSome();
+    }
+
+    @Benchmark
+    public boolean isPresentBaseline() {
+        return present.isPresent();
+    }
+
+    @Benchmark
+    public Option<Integer> mapSome() {
+        return some.map(String::length);
+    }
+
+    @Benchmark
+    public Option<Integer> mapNone() {
+        return none.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> mapPresentBaseline() {
+        return present.map(String::length);
+    }
+
+    @Benchmark
+    public Optional<Integer> mapEmptyBaseline() {
+        return empty.map(String::length);
+    }
+
+    @Benchmark
+    public Option<? extends Integer> andThenSome() {
+        return some.andThen(s -> Option.some(s.length()));
+    }
+
+    @Benchmark
+    public Optional<Integer> flatMapPresentBaseline() {
+        return present.flatMap(s -> Optional.of(s.length()));
+    }
+
+    @Benchmark
+    public Option<String> filterSome() {
+        return some.filter(s -> !s.isEmpty());
+    }
+
+    @Benchmark
+    public Optional<String> filterPresentBaseline() {
+        return present.filter(s -> !s.isEmpty());
+    }
+
+    @Benchmark
+    public Option<String> orSome() {
+        return some.or(none);
+    }
+
+    @Benchmark
+    public Optional<String> orPresentBaseline() {
+        return present.or(() -> empty);
+    }
+
+    @Benchmark
+    public String unwrapOrNone() {
+        return none.unwrapOr("default");
+    }
+
+    @Benchmark
+    public String orElseEmptyBaseline() {
+        return empty.orElse("default");
+    }
+
+    @Benchmark
+    public Result<String, String> okOrSome() {
+        return some.okOr("error");
+    }
+
+    @Benchmark
+    public ControlFlow<Option<Infallible>, String> branchSome() {
+        return some.branch();
+    }
+
+    @Benchmark
+    public long streamSome() {
+        return some.stream()
+                   .count();
+    }
+
+    @Benchmark
+    public long streamPresentBaseline() {
+        return present.stream()
+                      .count();
+    }
+
+    @Benchmark
+    public void iterateSome(Blackhole blackhole) {
+        for (String s : some) {
+            blackhole.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iteratePresentBaseline(Blackhole blackhole) {
+        present.ifPresent(blackhole::consume);
+    }
+}
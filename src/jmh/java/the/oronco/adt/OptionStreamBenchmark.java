@@ -0,0 +1,92 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks flattening large streams of options, where the per-element cost of {@link Option#stream()} and {@link Result#stream()} dominates.
+ * Every third element is empty.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class OptionStreamBenchmark {
+    @Param({"10000000"})
+    private int size;
+
+    private List<Option<Integer>> options;
+    private List<Result<Integer, String>> results;
+    private List<Optional<Integer>> optionals;
+
+    @Setup
+    public void setUp() {
+        options = IntStream.range(0, size)
+                           .mapToObj(i -> i % 3 == 0 ? Option.<Integer>none() : Option.some(i))
+                           .toList();
+        results = IntStream.range(0, size)
+                           .mapToObj(i -> i % 3 == 0 ? Result.<Integer, String>err("error") : Result.<Integer, String>ok(i))
+                           .toList();
+        optionals = IntStream.range(0, size)
+                             .mapToObj(i -> i % 3 == 0 ? Optional.<Integer>empty() : Optional.of(i))
+                             .toList();
+    }
+
+    @Benchmark
+    public long flatMapOption() {
+        return options.stream()
+                      .flatMap(Option::stream)
+                      .count();
+    }
+
+    @Benchmark
+    public long flatMapOptionParallel() {
+        return options.parallelStream()
+                      .flatMap(Option::stream)
+                      .count();
+    }
+
+    @Benchmark
+    public long flatMapResult() {
+        return results.stream()
+                      .flatMap(Result::stream)
+                      .count();
+    }
+
+    @Benchmark
+    public long iterateOption() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            for (Integer value : option) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long flatMapOptionalBaseline() {
+        return optionals.stream()
+                        .flatMap(Optional::stream)
+                        .count();
+    }
+}
@@ -0,0 +1,83 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link Result#parallelTraverse} with an increasing number of workers against the sequential {@link Result#traverse}. Every
+ * conversion burns a fixed amount of CPU, so the time per operation should drop linearly with the parallelism up to the number of cores.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelTraverseBenchmark {
+    private static final long TOKENS_PER_RECORD = 200;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"50000"})
+    private int size;
+
+    private List<Integer> records;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        records = IntStream.range(0, size)
+                           .boxed()
+                           .toList();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static Integer validate(Integer record) throws IllegalArgumentException {
+        Blackhole.consumeCPU(TOKENS_PER_RECORD);
+        if (record < 0) {
+            throw new IllegalArgumentException("negative record");
+        }
+        return record;
+    }
+
+    @Benchmark
+    public Result<List<Integer>, IllegalArgumentException> parallelTraverse() {
+        return Result.parallelTraverse(records, ParallelTraverseBenchmark::validate, pool);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequentialTraverseBaseline() {
+        return Result.traverse(records.stream(), record -> {
+            try {
+                return Result.ok(validate(record));
+            } catch (IllegalArgumentException e) {
+                return Result.err(e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,175 @@
+package the.oronco.adt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks the sealed-switch methods of {@link Result} against a plain record that stores either a value or an error.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+    /**
+     * The simplest possible representation of a result. Exactly one of the two components is non-null.
+     */
+    record Plain<T, E>(T ok, E err) {
+        <U> Plain<U, E> map(Function<? super T, ? extends U> f) {
+            return ok != null ? new Plain<>(f.apply(ok), null) : new Plain<>(null, err);
+        }
+
+        <U> Plain<U, E> andThen(Function<? super T, Plain<U, E>> f) {
+            return ok != null ? f.apply(ok) : new Plain<>(null, err);
+        }
+
+        T unwrapOr(T defaultValue) {
+            return ok != null ? ok : defaultValue;
+        }
+    }
+
+    private Result<String, String> ok = Result.ok("something");
+    private Result<String, String> err = Result.err("error");
+    private Plain<String, String> plainOk = new Plain<>("something", null);
+    private Plain<String, String> plainErr = new Plain<>(null, "error");
+    /**
+     * Successful results followed by one error, so the early return loops walk the whole chain and see both variants.
+     */
+    private List<Result<String, String>> chain = Stream.concat(IntStream.range(0, 999)
+                                                                        .mapToObj(i -> Result.<String, String>ok("something " + i)),
+                                                               Stream.of(Result.<String, String>err("error")))
+                                                       .toList();
+
+    @Benchmark
+    public boolean isOk() {
+        return ok.isOk();
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapOk() {
+        return ok.map(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapErr() {
+        return err.map(String::length);
+    }
+
+    @Benchmark
+    public Plain<Integer, String> mapOkBaseline() {
+        return plainOk.map(String::length);
+    }
+
+    @Benchmark
+    public Plain<Integer, String> mapErrBaseline() {
+        return plainErr.map(String::length);
+    }
+
+    @Benchmark
+    public Result<? extends Integer, ? extends String> andThenOk() {
+        return ok.andThen(s -> Result.ok(s.length()));
+    }
+
+    @Benchmark
+    public Result<? extends Integer, ? extends String> andThenErr() {
+        return err.andThen(s -> Result.ok(s.length()));
+    }
+
+    @Benchmark
+    public Plain<Integer, String> andThenOkBaseline() {
+        return plainOk.andThen(s -> new Plain<>(s.length(), null));
+    }
+
+    @Benchmark
+    public Result<String, Integer> mapErrOnOk() {
+        return ok.mapErr(String::length);
+    }
+
+    @Benchmark
+    public String unwrapOrErr() {
+        return err.unwrapOr("default");
+    }
+
+    @Benchmark
+    public String unwrapOrErrBaseline() {
+        return plainErr.unwrapOr("default");
+    }
+
+    @Benchmark
+    public Option<String> okOk() {
+        return ok.ok();
+    }
+
+    @Benchmark
+    public Optional<String> jOk() {
+        return ok.j();
+    }
+
+    @Benchmark
+    public ControlFlow<Result<Infallible, String>, String> branchOk() {
+        return ok.branch();
+    }
+
+    @Benchmark
+    public ControlFlow<Result<Infallible, String>, String> branchErr() {
+        return err.branch();
+    }
+
+    @Benchmark
+    public int earlyReturnBranch() {
+        int sum = 0;
+        for (Result<String, String> result : chain) {
+            switch (result.branch()) {
+                case ControlFlow.Continue<Result<Infallible, String>, String>(String value) -> sum += value.length();
+                case ControlFlow.Break<Result<Infallible, String>, String> ignored -> {
+                    return -1;
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int earlyReturnProtocol() {
+        int sum = 0;
+        for (Result<String, String> result : chain) {
+            if (!result.isContinue()) {
+                return -1;
+            }
+            sum += result.output()
+                         .length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int earlyReturnInstanceofBaseline() {
+        int sum = 0;
+        for (Result<String, String> result : chain) {
+            if (!(result instanceof Result.Ok<String, String>(String value))) {
+                return -1;
+            }
+            sum += value.length();
+        }
+        return sum;
+    }
+}
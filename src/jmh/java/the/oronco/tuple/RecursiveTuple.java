@@ -0,0 +1,345 @@
+package the.oronco.tuple;
+
+import the.oronco.adt.Option;
+import the.oronco.adt.Result;
+import the.oronco.tuple.TupleError.IndexError;
+import the.oronco.tuple.TupleError.IndexError.IndexSmallerZeroError;
+import the.oronco.tuple.TupleError.IndexError.IndexTooLargeError;
+
+import java.util.Objects;
+
+/**
+ * Copy of the former {@link Tuple#get(int)} and {@link Tuple#contains(Object)}, which recursed through one {@code SizeN.super} default method
+ * per value, so that {@link TupleBenchmark} can compare the direct access of the tuples against it.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+interface RecursiveTuple {
+    int size();
+
+    boolean contains(Object other);
+
+    default Result<Option<Object>, IndexError> get(int index) {
+        if (index < 0) {
+            return Result.err(new IndexSmallerZeroError(index));
+        } else {
+            return Result.err(new IndexTooLargeError(index, this.size() - 1));
+        }
+    }
+
+    static RecursiveTuple of(Object... values) {
+        return switch (values.length) {
+            case 2 -> new Values2(values[0], values[1]);
+            case 3 -> new Values3(values[0], values[1], values[2]);
+            case 4 -> new Values4(values[0], values[1], values[2], values[3]);
+            case 5 -> new Values5(values[0], values[1], values[2], values[3], values[4]);
+            case 6 -> new Values6(values[0], values[1], values[2], values[3], values[4], values[5]);
+            case 7 -> new Values7(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+            case 8 -> new Values8(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
+            case 9 -> new Values9(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8]);
+            case 10 -> new Values10(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9]);
+            default -> throw new IllegalArgumentException("Unsupported tuple size %d".formatted(values.length));
+        };
+    }
+
+    interface Size0 extends RecursiveTuple {
+        @Override
+        default int size() {
+            return 0;
+        }
+
+        @Override
+        default boolean contains(Object other) {
+            return false;
+        }
+    }
+
+    interface Size1 extends Size0 {
+        @Override
+        default int size() {
+            return 1;
+        }
+
+        Object _0();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._0(), other)) {
+                return true;
+            } else {
+                return Size0.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 0) {
+                return Result.ok(Option.from(this._0()));
+            } else {
+                return Size0.super.get(index);
+            }
+        }
+    }
+
+    interface Size2 extends Size1 {
+        @Override
+        default int size() {
+            return 2;
+        }
+
+        Object _1();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._1(), other)) {
+                return true;
+            } else {
+                return Size1.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 1) {
+                return Result.ok(Option.from(this._1()));
+            } else {
+                return Size1.super.get(index);
+            }
+        }
+    }
+
+    interface Size3 extends Size2 {
+        @Override
+        default int size() {
+            return 3;
+        }
+
+        Object _2();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._2(), other)) {
+                return true;
+            } else {
+                return Size2.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 2) {
+                return Result.ok(Option.from(this._2()));
+            } else {
+                return Size2.super.get(index);
+            }
+        }
+    }
+
+    interface Size4 extends Size3 {
+        @Override
+        default int size() {
+            return 4;
+        }
+
+        Object _3();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._3(), other)) {
+                return true;
+            } else {
+                return Size3.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 3) {
+                return Result.ok(Option.from(this._3()));
+            } else {
+                return Size3.super.get(index);
+            }
+        }
+    }
+
+    interface Size5 extends Size4 {
+        @Override
+        default int size() {
+            return 5;
+        }
+
+        Object _4();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._4(), other)) {
+                return true;
+            } else {
+                return Size4.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 4) {
+                return Result.ok(Option.from(this._4()));
+            } else {
+                return Size4.super.get(index);
+            }
+        }
+    }
+
+    interface Size6 extends Size5 {
+        @Override
+        default int size() {
+            return 6;
+        }
+
+        Object _5();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._5(), other)) {
+                return true;
+            } else {
+                return Size5.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 5) {
+                return Result.ok(Option.from(this._5()));
+            } else {
+                return Size5.super.get(index);
+            }
+        }
+    }
+
+    interface Size7 extends Size6 {
+        @Override
+        default int size() {
+            return 7;
+        }
+
+        Object _6();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._6(), other)) {
+                return true;
+            } else {
+                return Size6.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 6) {
+                return Result.ok(Option.from(this._6()));
+            } else {
+                return Size6.super.get(index);
+            }
+        }
+    }
+
+    interface Size8 extends Size7 {
+        @Override
+        default int size() {
+            return 8;
+        }
+
+        Object _7();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._7(), other)) {
+                return true;
+            } else {
+                return Size7.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 7) {
+                return Result.ok(Option.from(this._7()));
+            } else {
+                return Size7.super.get(index);
+            }
+        }
+    }
+
+    interface Size9 extends Size8 {
+        @Override
+        default int size() {
+            return 9;
+        }
+
+        Object _8();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._8(), other)) {
+                return true;
+            } else {
+                return Size8.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 8) {
+                return Result.ok(Option.from(this._8()));
+            } else {
+                return Size8.super.get(index);
+            }
+        }
+    }
+
+    interface Size10 extends Size9 {
+        @Override
+        default int size() {
+            return 10;
+        }
+
+        Object _9();
+
+        @Override
+        default boolean contains(Object other) {
+            if (Objects.equals(this._9(), other)) {
+                return true;
+            } else {
+                return Size9.super.contains(other);
+            }
+        }
+
+        @Override
+        default Result<Option<Object>, IndexError> get(int index) {
+            if (index == 9) {
+                return Result.ok(Option.from(this._9()));
+            } else {
+                return Size9.super.get(index);
+            }
+        }
+    }
+
+    record Values2(Object _0, Object _1) implements Size2 {}
+
+    record Values3(Object _0, Object _1, Object _2) implements Size3 {}
+
+    record Values4(Object _0, Object _1, Object _2, Object _3) implements Size4 {}
+
+    record Values5(Object _0, Object _1, Object _2, Object _3, Object _4) implements Size5 {}
+
+    record Values6(Object _0, Object _1, Object _2, Object _3, Object _4, Object _5) implements Size6 {}
+
+    record Values7(Object _0, Object _1, Object _2, Object _3, Object _4, Object _5, Object _6) implements Size7 {}
+
+    record Values8(Object _0, Object _1, Object _2, Object _3, Object _4, Object _5, Object _6, Object _7) implements Size8 {}
+
+    record Values9(Object _0, Object _1, Object _2, Object _3, Object _4, Object _5, Object _6, Object _7, Object _8) implements Size9 {}
+
+    record Values10(Object _0, Object _1, Object _2, Object _3, Object _4, Object _5, Object _6, Object _7, Object _8, Object _9) implements Size10 {}
+}
@@ -0,0 +1,85 @@
+package the.oronco.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a {@link TripletBatch} of {@code (long, String, double)} rows against a {@code List<Triplet<Long, String, Double>>} with the same
+ * rows.
+ * <p>
+ * The {@code scan} benchmarks sum the doubles of the rows with an even long. The allocation of {@code toBatch} and {@code toList} is the
+ * footprint of the batch and of the list, as both build their whole representation from the other one.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class TupleBatchBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private List<Triplet<Long, String, Double>> list;
+    private TripletBatch<Long, String, Double> batch;
+
+    @Setup
+    public void setUp() {
+        String[] names = {"alpha", "beta", "gamma", "delta"};
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Triplet.of(1000L + i, names[i % names.length], i * 0.5));
+        }
+        batch = TripletBatch.from(list, Column.longs(), Column.objects(), Column.doubles());
+    }
+
+    @Benchmark
+    public double scanList() {
+        double sum = 0;
+        for (Triplet<Long, String, Double> row : list) {
+            if (row._0() % 2 == 0) {
+                sum += row._2();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double scanBatch() {
+        Column<Long> ids = batch.column0();
+        Column<Double> values = batch.column2();
+        double sum = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (ids.getLong(i) % 2 == 0) {
+                sum += values.getDouble(i);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public TripletBatch<Long, String, Double> toBatch() {
+        return TripletBatch.from(list, Column.longs(), Column.objects(), Column.doubles());
+    }
+
+    @Benchmark
+    public List<Triplet<Long, String, Double>> toList() {
+        return batch.toList();
+    }
+}
@@ -0,0 +1,131 @@
+package the.oronco.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the indexed access of the tuples from {@link Pair} up to {@link Decade} against a plain {@link List} holding the same values and
+ * against the former recursive implementation in {@link RecursiveTuple}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TupleBenchmark {
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    private Tuple tuple;
+    private RecursiveTuple recursive;
+    private List<Object> baseline;
+    private Object missing = "missing";
+
+    @Setup
+    public void setUp() {
+        tuple = switch (size) {
+            case 2 -> Pair.of(0, 1);
+            case 3 -> Triplet.of(0, 1, 2);
+            case 4 -> Quartet.of(0, 1, 2, 3);
+            case 5 -> Quintet.of(0, 1, 2, 3, 4);
+            case 6 -> Sextet.of(0, 1, 2, 3, 4, 5);
+            case 7 -> Septet.of(0, 1, 2, 3, 4, 5, 6);
+            case 8 -> Octet.of(0, 1, 2, 3, 4, 5, 6, 7);
+            case 9 -> Ennead.of(0, 1, 2, 3, 4, 5, 6, 7, 8);
+            case 10 -> Decade.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+            default -> throw new IllegalArgumentException("Unsupported tuple size %d".formatted(size));
+        };
+        baseline = List.<Object>of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)
+                       .subList(0, size);
+        recursive = RecursiveTuple.of(baseline.toArray());
+    }
+
+    @Benchmark
+    public void getEveryIndex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(tuple.get(i));
+        }
+    }
+
+    @Benchmark
+    public void getEveryIndexRecursive(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(recursive.get(i));
+        }
+    }
+
+    @Benchmark
+    public void getUncheckedEveryIndex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(tuple.getUnchecked(i));
+        }
+    }
+
+    @Benchmark
+    public void getOrNullEveryIndex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(tuple.getOrNull(i));
+        }
+    }
+
+    @Benchmark
+    public void getEveryIndexBaseline(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(baseline.get(i));
+        }
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return tuple.contains(missing);
+    }
+
+    @Benchmark
+    public boolean containsMissingRecursive() {
+        return recursive.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOfMissing() {
+        return tuple.indexOf(missing);
+    }
+
+    @Benchmark
+    public boolean containsMissingBaseline() {
+        return baseline.contains(missing);
+    }
+
+    @Benchmark
+    public void iterateValues(Blackhole blackhole) {
+        for (Object value : (Iterable<?>) tuple) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void forEachValue(Blackhole blackhole) {
+        tuple.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Pair<Integer, Integer> pairOf() {
+        return Pair.of(0, 1);
+    }
+}
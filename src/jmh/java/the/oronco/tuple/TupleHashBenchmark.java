@@ -0,0 +1,83 @@
+package the.oronco.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmarks looking up grid coordinates {@code (x, y)} in a {@link HashMap} and a {@link ConcurrentHashMap} of {@code keys} entries, keyed by
+ * a {@link Pair}, by a {@link HashedTuple} of a pair and by {@link RecordPair}, a plain record with the default record hash that the tuples
+ * had before.
+ * <p>
+ * The lookups use keys that are equal to but not the same as the keys in the map, so that the maps have to call {@code equals}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class TupleHashBenchmark {
+    private static final int PROBES = 1 << 16;
+
+    /**
+     * The tuples before they got their own hash, the default record hash is about {@code 31 * x + y}.
+     */
+    record RecordPair(Integer x, Integer y) {}
+
+    @Param({"10000000"})
+    private int keys;
+
+    @Param({"record", "pair", "hashed"})
+    private String key;
+
+    @Param({"HashMap", "ConcurrentHashMap"})
+    private String map;
+
+    private Map<Object, Integer> entries;
+    private Object[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int side = (int) Math.ceil(Math.sqrt(keys));
+        IntFunction<Object> keyOf = switch (key) {
+            case "record" -> i -> new RecordPair(i / side, i % side);
+            case "pair" -> i -> Pair.of(i / side, i % side);
+            case "hashed" -> i -> HashedTuple.of(Pair.of(i / side, i % side));
+            default -> throw new IllegalArgumentException(key);
+        };
+        entries = "HashMap".equals(map) ? new HashMap<>() : new ConcurrentHashMap<>();
+        for (int i = 0; i < keys; i++) {
+            entries.put(keyOf.apply(i), i);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        probes = new Object[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = keyOf.apply(random.nextInt(keys));
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return entries.get(probes[next++ & PROBES - 1]);
+    }
+}
@@ -0,0 +1,108 @@
+package the.oronco.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a {@link LongPairMap} against a {@code HashMap<LongPair, String>} with the same {@code size} random keys.
+ * <p>
+ * The {@code get} benchmarks look up a present key, the {@code HashMap} needs a {@link LongPair} per lookup for that. The {@code put}
+ * benchmarks insert the keys into a map that starts empty and is replaced once it holds all of them, they run in sample mode so that the
+ * percentiles show the inserts that grow the map.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class TupleMapBenchmark {
+    private static final String VALUE = "value";
+    private static final int PROBES = 1 << 16;
+
+    @Param({"1000000"})
+    private int size;
+
+    private long[] keys0;
+    private long[] keys1;
+    private int[] probes;
+    private int next;
+
+    private LongPairMap<String> tupleMap;
+    private Map<LongPair, String> hashMap;
+    private LongPairMap<String> growingTupleMap;
+    private Map<LongPair, String> growingHashMap;
+    private int inserted;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        keys0 = new long[size];
+        keys1 = new long[size];
+        tupleMap = new LongPairMap<>();
+        hashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys0[i] = random.nextLong();
+            keys1[i] = random.nextLong();
+            tupleMap.put(keys0[i], keys1[i], VALUE);
+            hashMap.put(LongPair.of(keys0[i], keys1[i]), VALUE);
+        }
+        probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = random.nextInt(size);
+        }
+        growingTupleMap = new LongPairMap<>();
+        growingHashMap = new HashMap<>();
+    }
+
+    @Benchmark
+    public String getTupleMap() {
+        int key = probes[next++ & PROBES - 1];
+        return tupleMap.get(keys0[key], keys1[key]);
+    }
+
+    @Benchmark
+    public String getHashMap() {
+        int key = probes[next++ & PROBES - 1];
+        return hashMap.get(LongPair.of(keys0[key], keys1[key]));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public String putTupleMap() {
+        if (inserted == size) {
+            growingTupleMap = new LongPairMap<>();
+            inserted = 0;
+        }
+        int key = inserted++;
+        return growingTupleMap.put(keys0[key], keys1[key], VALUE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public String putHashMap() {
+        if (inserted == size) {
+            growingHashMap = new HashMap<>();
+            inserted = 0;
+        }
+        int key = inserted++;
+        return growingHashMap.put(LongPair.of(keys0[key], keys1[key]), VALUE);
+    }
+}
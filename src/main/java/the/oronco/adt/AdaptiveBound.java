@@ -0,0 +1,118 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of {@link Bound#allOf(List)} and {@link Bound#anyOf(List)}.
+ * <p>
+ * A bound is decisive for a check if it alone decides the outcome: it fails for {@code allOf} or holds for {@code anyOf}. Sampled checks time
+ * every bound they run and count how often each was decisive. After a number of samples the bounds are sorted by their average cost divided by
+ * their chance to be decisive, so the cheap and decisive bounds run first. The statistics are updated without synchronization: a lost update
+ * only makes the order a little less accurate, and the order itself is replaced as a whole.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+final class AdaptiveBound<T> implements Bound<T> {
+    private static final int SAMPLE_EVERY = 64;
+    private static final int SAMPLES_PER_REORDER = 256;
+
+    /**
+     * {@code true} for {@code allOf}, {@code false} for {@code anyOf}; a bound is decisive if its result differs from it.
+     */
+    private final boolean all;
+    private final Predicate<? super T>[] bounds;
+    private final int sampleMask;
+    private final int samplesPerReorder;
+    private final long[] nanos;
+    private final long[] runs;
+    private final long[] decisive;
+    private volatile int[] order;
+    private int checks;
+    private int samples;
+
+    AdaptiveBound(boolean all, @NotNull List<? extends Predicate<? super T>> bounds) {
+        this(all, bounds, SAMPLE_EVERY, SAMPLES_PER_REORDER);
+    }
+
+    /**
+     * @param sampleEvery a power of two
+     */
+    @SuppressWarnings("unchecked")
+    AdaptiveBound(boolean all, @NotNull List<? extends Predicate<? super T>> bounds, int sampleEvery, int samplesPerReorder) {
+        this.all = all;
+        this.bounds = bounds.toArray(Predicate[]::new);
+        this.sampleMask = sampleEvery - 1;
+        this.samplesPerReorder = samplesPerReorder;
+        this.nanos = new long[this.bounds.length];
+        this.runs = new long[this.bounds.length];
+        this.decisive = new long[this.bounds.length];
+        this.order = IntStream.range(0, this.bounds.length)
+                              .toArray();
+    }
+
+    @Override
+    public boolean test(T value) {
+        int[] current = order;
+        if ((++checks & sampleMask) == 0) {
+            return sample(value, current);
+        }
+        for (int index : current) {
+            if (bounds[index].test(value) != all) {
+                return !all;
+            }
+        }
+        return all;
+    }
+
+    private boolean sample(T value, int[] current) {
+        boolean result = all;
+        for (int index : current) {
+            long start = System.nanoTime();
+            boolean holds = bounds[index].test(value);
+            nanos[index] += System.nanoTime() - start;
+            runs[index]++;
+            if (holds != all) {
+                decisive[index]++;
+                result = !all;
+                break;
+            }
+        }
+        if (++samples % samplesPerReorder == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private void reorder() {
+        double[] rank = new double[bounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            // bounds that were never reached get a low rank, so that they are moved to the front and measured
+            double cost = (nanos[i] + 1.0) / (runs[i] + 1.0);
+            double chanceToDecide = (decisive[i] + 1.0) / (runs[i] + 2.0);
+            rank[i] = cost / chanceToDecide;
+        }
+        order = IntStream.range(0, bounds.length)
+                         .boxed()
+                         .sorted((left, right) -> Double.compare(rank[left], rank[right]))
+                         .mapToInt(Integer::intValue)
+                         .toArray();
+    }
+
+    /**
+     * @return the indices of the bounds in the order in which they are currently checked
+     */
+    int @NotNull [] order() {
+        return order.clone();
+    }
+
+    @Override
+    public String toString() {
+        return (all ? "allOf" : "anyOf") + Arrays.toString(bounds);
+    }
+}
@@ -0,0 +1,95 @@
+package the.oronco.adt;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A bound of a {@link Condition}: a predicate that can be composed and tuned for repeated checks.
+ * <p>
+ * {@link #and(Predicate)}, {@link #or(Predicate)} and {@link #negate()} short-circuit like the ones of {@link Predicate} but stay bounds.
+ * {@link #allOf(List)} and {@link #anyOf(List)} combine many bounds and reorder them by their measured cost, so that the checks that are cheap
+ * and decide the outcome most often run first. {@link #memoized(int)} remembers the verdicts for the last checked values, so that a value that
+ * passes through a long chain of combinators is checked once.
+ *
+ * @param <T> type of the checked values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@FunctionalInterface
+public interface Bound<T> extends Predicate<T> {
+
+    /**
+     * @return {@code predicate} itself if it is a bound or a bound that tests it
+     */
+    @SuppressWarnings("unchecked") // a bound only consumes values, so a bound of a supertype of T is a bound of T
+    static <T> @NotNull Bound<T> of(@NotNull @NonNull Predicate<? super T> predicate) {
+        return predicate instanceof Bound<?> bound ? (Bound<T>) bound : predicate::test;
+    }
+
+    static <T> @NotNull Bound<T> not(@NotNull @NonNull Predicate<? super T> predicate) {
+        return Bound.<T>of(predicate)
+                    .negate();
+    }
+
+    /**
+     * Combines bounds that must all hold. The bounds are checked in an order that is adapted at runtime: every 64th check is timed, and from
+     * these samples the bounds are sorted by their average cost divided by the share of checks in which they failed, which is the order with the
+     * lowest expected cost for independent bounds. The bounds must therefore not depend on their order.
+     *
+     * @param bounds the bounds that must all hold
+     * @param <T>    type of the checked values
+     *
+     * @return a bound that holds if all bounds hold
+     */
+    static <T> @NotNull Bound<T> allOf(@NotNull @NonNull List<? extends Predicate<? super T>> bounds) {
+        return new AdaptiveBound<>(true, bounds);
+    }
+
+    /**
+     * Combines bounds of which at least one must hold, with an adaptive order like {@link #allOf(List)}.
+     *
+     * @param bounds the bounds of which at least one must hold
+     * @param <T>    type of the checked values
+     *
+     * @return a bound that holds if any bound holds
+     */
+    static <T> @NotNull Bound<T> anyOf(@NotNull @NonNull List<? extends Predicate<? super T>> bounds) {
+        return new AdaptiveBound<>(false, bounds);
+    }
+
+    @Override
+    @Contract(pure = true)
+    default @NotNull Bound<T> and(@NotNull @NonNull Predicate<? super T> other) {
+        return value -> test(value) && other.test(value);
+    }
+
+    @Override
+    @Contract(pure = true)
+    default @NotNull Bound<T> or(@NotNull @NonNull Predicate<? super T> other) {
+        return value -> test(value) || other.test(value);
+    }
+
+    @Override
+    @Contract(pure = true)
+    default @NotNull Bound<T> negate() {
+        return value -> !test(value);
+    }
+
+    /**
+     * Remembers the verdicts of this bound for up to {@code capacity} values, which are compared by identity. This only makes sense for immutable
+     * values, as a changed value would get the verdict of its old state. The remembered values are kept reachable until they are replaced by
+     * other values.
+     *
+     * @param capacity the number of remembered verdicts, rounded up to a power of two
+     *
+     * @return a bound that checks every value with this bound only once while it is remembered
+     */
+    @Contract(pure = true)
+    default @NotNull Bound<T> memoized(int capacity) {
+        return new MemoizedBound<>(this, capacity);
+    }
+}
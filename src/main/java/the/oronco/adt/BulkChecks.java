@@ -0,0 +1,114 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import the.oronco.tuple.Pair;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of {@link Condition#checkAll}.
+ * <p>
+ * The verdicts are packed into the words of a {@link BitSet} right away, and the valid values are copied into an array that is sized from the
+ * number of set bits, so no {@link Condition} is created per element. The range checks of the primitive overloads have no branches, so the loop
+ * runs at the same speed however valid and invalid values are mixed. The valid values are then copied by iterating over the set bits only.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class BulkChecks {
+
+    @SuppressWarnings("unchecked") // the array holds the elements of a List<? extends T>
+    <T> @NotNull Pair<BitSet, MultiOption<T>> checkAll(@NotNull List<? extends T> values, @NotNull Predicate<? super T> bound) {
+        // the valid values are looked up by index, which has to be fast
+        return checkAllRandomAccess(values instanceof RandomAccess ? values : (List<? extends T>) Arrays.asList(values.toArray()), bound);
+    }
+
+    private <T> @NotNull Pair<BitSet, MultiOption<T>> checkAllRandomAccess(@NotNull List<? extends T> values, @NotNull Predicate<? super T> bound) {
+        int size = values.size();
+        long[] words = new long[wordCount(size)];
+        int index = 0;
+        for (T value : values) {
+            if (value != null && bound.test(value)) {
+                words[index >>> 6] |= 1L << index;
+            }
+            index++;
+        }
+        Object[] valid = new Object[bitCount(words)];
+        int next = 0;
+        for (int word = 0; word < words.length; word++) {
+            for (long bits = words[word]; bits != 0; bits &= bits - 1) {
+                valid[next++] = values.get((word << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+        return Pair.of(BitSet.valueOf(words), ImmutableArrayList.multiOptionOfChecked(valid));
+    }
+
+    /**
+     * @return the bits of the values that lie in {@code [min, max]} and these values
+     */
+    @NotNull Pair<BitSet, long[]> checkAll(long @NotNull [] values, long min, long max) {
+        long[] words = new long[wordCount(values.length)];
+        // v is in [min, max] exactly if v - min is not above max - min when both are read as unsigned, so a single comparison is enough
+        long width = max - min;
+        for (int word = 0; word < words.length; word++) {
+            int from = word << 6;
+            int to = Math.min(from + 64, values.length);
+            long bits = 0;
+            for (int i = from; i < to; i++) {
+                bits |= (Long.compareUnsigned(values[i] - min, width) <= 0 ? 1L : 0L) << i;
+            }
+            words[word] = min <= max ? bits : 0;
+        }
+        long[] valid = new long[bitCount(words)];
+        int next = 0;
+        for (int word = 0; word < words.length; word++) {
+            for (long bits = words[word]; bits != 0; bits &= bits - 1) {
+                valid[next++] = values[(word << 6) + Long.numberOfTrailingZeros(bits)];
+            }
+        }
+        return Pair.of(BitSet.valueOf(words), valid);
+    }
+
+    /**
+     * @return the bits of the values that lie in {@code [min, max]} and these values, {@code NaN} lies in no range
+     */
+    @NotNull Pair<BitSet, double[]> checkAll(double @NotNull [] values, double min, double max) {
+        long[] words = new long[wordCount(values.length)];
+        for (int word = 0; word < words.length; word++) {
+            int from = word << 6;
+            int to = Math.min(from + 64, values.length);
+            long bits = 0;
+            for (int i = from; i < to; i++) {
+                double value = values[i];
+                bits |= (value >= min & value <= max ? 1L : 0L) << i;
+            }
+            words[word] = bits;
+        }
+        double[] valid = new double[bitCount(words)];
+        int next = 0;
+        for (int word = 0; word < words.length; word++) {
+            for (long bits = words[word]; bits != 0; bits &= bits - 1) {
+                valid[next++] = values[(word << 6) + Long.numberOfTrailingZeros(bits)];
+            }
+        }
+        return Pair.of(BitSet.valueOf(words), valid);
+    }
+
+    private int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private int bitCount(long @NotNull [] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
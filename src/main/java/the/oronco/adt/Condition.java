@@ -1,5 +1,8 @@
 package the.oronco.adt;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -15,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 import the.oronco.Rusty;
 import the.oronco.adt.exceptions.ConditionDoesNotHoldException;
 import the.oronco.adt.exceptions.ValueNotValidForBoundError;
+import the.oronco.tuple.Pair;
 
 /**
  * Condition describes a Monad that always asserts a certain condition over the contained value.
@@ -37,7 +41,9 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
 
     record Holds<T>(@NotNull @NonNull T value, @NotNull @NonNull Predicate<? super T> bound) implements Condition<@NotNull T> {
         public Holds {
-            if (bound.test(value)) {
+            if (bound instanceof VerifiedBound<? super T> verified) {
+                bound = verified.bound();
+            } else if (!bound.test(value)) {
                 throw new ValueNotValidForBoundError("The value %s is not valid for the given bound!".formatted(value));
             }
         }
@@ -77,8 +83,8 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
      */
     default @NotNull Stream<T> stream() {
         return switch (this) {
-            case Holds<T>(T value, var ignored) -> Stream.of(value);
-            case HoldsNot<T> ignored -> Stream.of();
+            case Holds<T>(T value, var ignored) -> ZeroOrOneIterator.streamOf(value);
+            case HoldsNot<T> ignored -> ZeroOrOneIterator.emptyStream();
         };
     }
 
@@ -173,7 +179,10 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
      */
     default @NotNull Condition<T> map(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull T> f) {
         return switch (this) {
-            case Holds<T>(T value, var bound) -> from(f.apply(value), bound);
+            case Holds<T>(T value, var bound) -> {
+                T mapped = f.apply(value);
+                yield mapped == value ? this : from(mapped, bound);
+            }
             case HoldsNot<T> ignored -> holdsNot();
         };
     }
@@ -205,6 +214,7 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
     default @NotNull Condition<T> reBound(
             @NotNull @NonNull Predicate<? super @NotNull T> bound) {
         return switch (this) {
+            case Holds<T>(T value, var currentBound) when currentBound == bound -> this;
             case Holds<T>(T value, var ignored) -> from(value, bound);
             case HoldsNot<T> ignored -> holdsNot();
         };
@@ -227,8 +237,8 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
      * @return an option that is either {@code Some<T>} and conforms to the {@code Predicate<? super T>} or {@code None<T>}
      */
     default @NotNull Condition<T> filter(@NotNull @NonNull Predicate<? super @NotNull T> predicate) {
-        if (this instanceof Holds<T>(T value, var bound) && (predicate.test(value))) {
-            return holds(value, bound);
+        if (this instanceof Holds<T>(T value, var ignored) && (predicate.test(value))) {
+            return this;
         }
         return holdsNot();
     }
@@ -264,22 +274,30 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
 
     static <T> @NotNull Condition<T> fromOption(@NotNull @NonNull Option<T> option,
                                                 @NotNull @NonNull Predicate<? super @NotNull T> bound) {
-        return option.map(val -> from(val, bound))
-                     .unwrapOrElse(Condition::holdsNot);
+        return switch (option) {
+            case Option.Some<T>(T value) -> from(value, bound);
+            case Option.None<T> ignored -> holdsNot();
+        };
     }
 
+    /**
+     * Checks the bound once for the value; to check the value against the same bound repeatedly, use a {@link Bound#memoized(int) memoized}
+     * bound.
+     */
     static <T> @NotNull Condition<T> from(@Nullable T value, @NotNull Predicate<? super @NotNull T> bound) {
-        return fromOption(Option.from(value), bound);
+        if (value != null && bound.test(value)) {
+            return new Holds<>(value, new VerifiedBound<>(bound));
+        }
+        return holdsNot();
     }
 
     static <T> @NotNull Condition<T> from(@Nullable T value) {
-        return fromOption(Option.from(value), ALWAYS_TRUE);
-
+        return from(value, ALWAYS_TRUE);
     }
 
     static <T> @NotNull Condition<T> holds(@NotNull T value, @NotNull Predicate<? super @NotNull T> bound) throws ValueNotValidForBoundError {
         if (bound.test(value)) {
-            return new Holds<>(value, bound);
+            return new Holds<>(value, new VerifiedBound<>(bound));
         }
         throw createValueNotInBoundError(value);
     }
@@ -299,12 +317,57 @@ public sealed interface Condition<T> extends Rusty<Optional<T>> {
     static <T> @NotNull Result<Condition<T>, ValueNotValidForBoundError> holdsSafe(@NotNull T value, @NotNull Predicate<? super @NotNull T> bound) {
         //noinspection ConstantValue
         if (value != null && bound.test(value)) {
-            return Result.ok(new Holds<>(value, bound));
+            return Result.ok(new Holds<>(value, new VerifiedBound<>(bound)));
         } else {
             return Result.err(createValueNotInBoundError(value));
         }
     }
 
+    /**
+     * Checks all values against the same bound without creating a {@code Condition} for each of them. A {@code null} value does not hold, like
+     * for {@link #from(Object, Predicate)}.
+     *
+     * @param values the values to check
+     * @param bound  the bound that the values should hold
+     * @param <T>    type of the values
+     *
+     * @return the bits of the values that hold, at their index in {@code values}, and these values in order
+     */
+    static <T> @NotNull Pair<BitSet, MultiOption<T>> checkAll(@NotNull @NonNull List<? extends T> values,
+                                                              @NotNull @NonNull Predicate<? super @NotNull T> bound) {
+        return BulkChecks.checkAll(values, bound);
+    }
+
+    /**
+     * @see #checkAll(List, Predicate)
+     */
+    static <T> @NotNull Pair<BitSet, MultiOption<T>> checkAll(T @NotNull @NonNull [] values, @NotNull @NonNull Predicate<? super @NotNull T> bound) {
+        return BulkChecks.checkAll(Arrays.asList(values), bound);
+    }
+
+    /**
+     * Checks which values lie in the range {@code [min, max]}. The check has no branches, so it runs at the same speed however the valid values
+     * are distributed.
+     *
+     * @param values the values to check
+     * @param min    the smallest valid value
+     * @param max    the largest valid value
+     *
+     * @return the bits of the values in the range, at their index in {@code values}, and these values in order
+     */
+    static @NotNull Pair<BitSet, long[]> checkAll(long @NotNull @NonNull [] values, long min, long max) {
+        return BulkChecks.checkAll(values, min, max);
+    }
+
+    /**
+     * Checks which values lie in the range {@code [min, max]}, {@code NaN} lies in no range.
+     *
+     * @see #checkAll(long[], long, long)
+     */
+    static @NotNull Pair<BitSet, double[]> checkAll(double @NotNull @NonNull [] values, double min, double max) {
+        return BulkChecks.checkAll(values, min, max);
+    }
+
     @NotNull
     private static <T> ValueNotValidForBoundError createValueNotInBoundError(@NotNull T value) {
         return new ValueNotValidForBoundError("Cannot create a condition with a value (%s) and a bound that does not allow the given value!".formatted(
@@ -1,16 +1,25 @@
 package the.oronco.adt;
 
+import java.util.Spliterator;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import the.oronco.adt.exceptions.WrongBranchError;
 
 /**
  * Describes a control flow through the type system. This allows (if the compiler is clever which in java it isn't) for highly optimized
  * code as execution paths might be determined at compile time.
  *
+ * <p>
+ * {@link #tryFold(Spliterator, Object, BiFunction)} and the methods built on it drive a loop with it: the loop stops as soon as the step
+ * function returns a {@code Break}. To stop a stream early, pass its {@link java.util.stream.Stream#spliterator() spliterator}, then the
+ * elements after the {@code Break} are never produced.
+ *
  * @author the_oronco@posteo.net
  * @since 11/02/2024
  */
@@ -18,14 +27,26 @@ public sealed interface ControlFlow<B, C> extends Try<C, ControlFlow<B, Infallib
     @Override
     default ControlFlow<ControlFlow<B, Infallible>, C> branch() {
         return switch (this) {
-            case ControlFlow.Continue<B, C> cntu -> new Continue<>(cntu.c);
-            case ControlFlow.Break<B, C> brk -> new Break<>(new Break<>(brk.b));
+            case ControlFlow.Continue<B, C> cntu -> cntu.as();
+            case ControlFlow.Break<B, C> brk -> new Break<>(brk.as());
         };
     }
 
-    record Break<B, C>(B b) implements ControlFlow<B, C> {}
+    record Break<B, C>(B b) implements ControlFlow<B, C> {
+        @Contract(value = "-> this", pure = true)
+        @SuppressWarnings("unchecked") // the continue type of a Break only exists for the compiler
+        public <D> ControlFlow<B, D> as() {
+            return (ControlFlow<B, D>) this;
+        }
+    }
 
-    record Continue<B, C>(C c) implements ControlFlow<B, C> {}
+    record Continue<B, C>(C c) implements ControlFlow<B, C> {
+        @Contract(value = "-> this", pure = true)
+        @SuppressWarnings("unchecked") // the break type of a Continue only exists for the compiler
+        public <A> ControlFlow<A, C> as() {
+            return (ControlFlow<A, C>) this;
+        }
+    }
 
     default boolean isBreak() {
         return switch (this) {
@@ -34,6 +55,7 @@ public sealed interface ControlFlow<B, C> extends Try<C, ControlFlow<B, Infallib
         };
     }
 
+    @Override
     default boolean isContinue() {
         return switch (this) {
             case ControlFlow.Break<B, C> ignored -> false;
@@ -41,6 +63,32 @@ public sealed interface ControlFlow<B, C> extends Try<C, ControlFlow<B, Infallib
         };
     }
 
+    /**
+     * @return the value of a {@code Continue}
+     *
+     * @throws WrongBranchError if {@code this} is a {@code Break}
+     */
+    @Override
+    default @NotNull C output() throws WrongBranchError {
+        return switch (this) {
+            case ControlFlow.Break<B, C> ignored -> throw new WrongBranchError("Break has no output!");
+            case ControlFlow.Continue<B, C> cntu -> cntu.c;
+        };
+    }
+
+    /**
+     * @return {@code this} break, which is its own residual
+     *
+     * @throws WrongBranchError if {@code this} is a {@code Continue}
+     */
+    @Override
+    default @NotNull ControlFlow<B, Infallible> residual() throws WrongBranchError {
+        return switch (this) {
+            case ControlFlow.Break<B, C> brk -> brk.as();
+            case ControlFlow.Continue<B, C> ignored -> throw new WrongBranchError("Continue has no residual!");
+        };
+    }
+
     default Option<B> breakValue() {
         return switch (this) {
             case ControlFlow.Break<B, C> brk -> Option.some(brk.b);
@@ -51,7 +99,7 @@ public sealed interface ControlFlow<B, C> extends Try<C, ControlFlow<B, Infallib
     default <T, F extends Function<B, T>> ControlFlow<T, C> mapBreak(F f) {
         return switch (this) {
             case ControlFlow.Break<B, C> brk -> new Break<>(f.apply(brk.b));
-            case ControlFlow.Continue<B, C> cntu -> new Continue<>(cntu.c);
+            case ControlFlow.Continue<B, C> cntu -> cntu.as();
         };
     }
 
@@ -64,8 +112,108 @@ public sealed interface ControlFlow<B, C> extends Try<C, ControlFlow<B, Infallib
 
     default <T, F extends Function<C, T>> ControlFlow<B, T> mapContinue(F f) {
         return switch (this) {
-            case ControlFlow.Break<B, C> brk -> new Break<>(brk.b);
+            case ControlFlow.Break<B, C> brk -> brk.as();
             case ControlFlow.Continue<B, C> cntu -> new Continue<>(f.apply(cntu.c));
         };
     }
+
+    /**
+     * @return the shared {@code Continue} for steps that continue without a value
+     */
+    @SuppressWarnings("unchecked") // the break type of a Continue only exists for the compiler
+    static <B> @NotNull ControlFlow<B, Result.GOOD> proceed() {
+        return (ControlFlow<B, Result.GOOD>) Flyweights.CONTINUE_GOOD;
+    }
+
+    /**
+     * Folds the elements of {@code source} into an accumulator until {@code f} returns a {@code Break}.
+     *
+     * @param source the elements to fold
+     * @param init   the initial accumulator
+     * @param f      computes the next accumulator from the current one and an element or breaks
+     * @param <T>    type of the elements
+     * @param <A>    type of the accumulator
+     * @param <B>    type of the break value
+     *
+     * @return the first {@code Break} or a {@code Continue} with the final accumulator
+     */
+    static <T, A, B> @NotNull ControlFlow<B, A> tryFold(@NotNull @NonNull Iterable<? extends T> source,
+                                                        @NotNull @NonNull A init,
+                                                        @NotNull @NonNull BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f) {
+        return TryFold.fold(source.iterator(), init, f);
+    }
+
+    /**
+     * Like {@link #tryFold(Iterable, Object, BiFunction)} but pulls the elements with {@link Spliterator#tryAdvance}, so no element after the
+     * {@code Break} is produced.
+     */
+    static <T, A, B> @NotNull ControlFlow<B, A> tryFold(@NotNull @NonNull Spliterator<? extends T> source,
+                                                        @NotNull @NonNull A init,
+                                                        @NotNull @NonNull BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f) {
+        return TryFold.fold(source, init, f);
+    }
+
+    /**
+     * Calls {@code f} for every element until it returns a {@code Break}.
+     *
+     * @return the value of the {@code Break} if {@code f} returned one
+     */
+    static <T, B> @NotNull Option<B> tryForEach(@NotNull @NonNull Iterable<? extends T> source,
+                                                @NotNull @NonNull Function<? super T, ? extends ControlFlow<B, ?>> f) {
+        return tryFold(source, Result.GOOD, forEachStep(f)).breakValue();
+    }
+
+    static <T, B> @NotNull Option<B> tryForEach(@NotNull @NonNull Spliterator<? extends T> source,
+                                                @NotNull @NonNull Function<? super T, ? extends ControlFlow<B, ?>> f) {
+        return tryFold(source, Result.GOOD, forEachStep(f)).breakValue();
+    }
+
+    /**
+     * @return the first {@code Some} that {@code f} returns for an element, the elements after it are not looked at
+     */
+    static <T, R> @NotNull Option<R> findMap(@NotNull @NonNull Iterable<? extends T> source,
+                                             @NotNull @NonNull Function<? super T, ? extends Option<? extends R>> f) {
+        return found(tryFold(source, Result.GOOD, findMapStep(f)));
+    }
+
+    static <T, R> @NotNull Option<R> findMap(@NotNull @NonNull Spliterator<? extends T> source,
+                                             @NotNull @NonNull Function<? super T, ? extends Option<? extends R>> f) {
+        return found(tryFold(source, Result.GOOD, findMapStep(f)));
+    }
+
+    /**
+     * @return the index of the first element that matches {@code predicate}, the elements after it are not looked at
+     */
+    static <T> @NotNull OptionLong position(@NotNull @NonNull Iterable<? extends T> source, @NotNull @NonNull Predicate<? super T> predicate) {
+        var counter = new TryFold.PositionCounter<T>(predicate);
+        return counter.position(tryFold(source, Result.GOOD, counter));
+    }
+
+    static <T> @NotNull OptionLong position(@NotNull @NonNull Spliterator<? extends T> source,
+                                            @NotNull @NonNull Predicate<? super T> predicate) {
+        var counter = new TryFold.PositionCounter<T>(predicate);
+        return counter.position(tryFold(source, Result.GOOD, counter));
+    }
+
+    private static <T, B> @NotNull BiFunction<Result.GOOD, T, ControlFlow<B, Result.GOOD>> forEachStep(
+            @NotNull Function<? super T, ? extends ControlFlow<B, ?>> f) {
+        return (good, element) -> switch (f.apply(element)) {
+            case Break<B, ?> brk -> brk.as();
+            case Continue<B, ?> ignored -> proceed();
+        };
+    }
+
+    private static <T, R> @NotNull BiFunction<Result.GOOD, T, ControlFlow<Option<? extends R>, Result.GOOD>> findMapStep(
+            @NotNull Function<? super T, ? extends Option<? extends R>> f) {
+        return (good, element) -> {
+            Option<? extends R> mapped = f.apply(element);
+            return mapped.isSome() ? new Break<>(mapped) : proceed();
+        };
+    }
+
+    @SuppressWarnings("unchecked") // an option is immutable, so an option of a subtype of R is an option of R
+    private static <R> @NotNull Option<R> found(@NotNull ControlFlow<Option<? extends R>, Result.GOOD> flow) {
+        return flow instanceof Break<Option<? extends R>, Result.GOOD>(Option<? extends R> found) ? (Option<R>) found : Option.none();
+    }
+
 }
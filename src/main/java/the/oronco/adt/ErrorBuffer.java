@@ -0,0 +1,290 @@
+package the.oronco.adt;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, append-only sequence of errors as accumulated by a {@link Validation}.
+ * <p>
+ * The errors are stored in a chain of chunks that grow from 4 to 256 slots. Appending returns a new buffer that shares all chunks with the old
+ * one: the first buffer that appends to a chunk claims the next free slot, only a second append to the same old buffer has to copy the partly
+ * filled last chunk. Accumulating {@code n} errors one by one therefore allocates one small buffer object per error plus the chunks, instead of a
+ * new list per step.
+ * <p>
+ * A buffer keeps at most {@link #capacity()} errors. Errors appended beyond that are dropped, but still counted in {@link #totalCount()}, so a
+ * validation of a huge input cannot exhaust the memory with its errors.
+ *
+ * @param <E> type of the errors
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public final class ErrorBuffer<E> implements Iterable<E>, Serializable {
+    /**
+     * The capacity of buffers that keep all errors.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final int FIRST_CHUNK_LENGTH = 4;
+    private static final int MAX_CHUNK_LENGTH = 256;
+
+    private static final ErrorBuffer<?> EMPTY = new ErrorBuffer<>(null, 0, 0, UNBOUNDED);
+
+    private static final class Chunk implements Serializable {
+        private final Object[] items;
+        private final @Nullable Chunk previous;
+        /**
+         * Index of the first slot of this chunk in the whole buffer.
+         */
+        private final int offset;
+        /**
+         * Number of slots that were already handed out to some buffer.
+         */
+        private final AtomicInteger claimed;
+
+        private Chunk(int length, @Nullable Chunk previous, int offset, int claimed) {
+            this.items = new Object[length];
+            this.previous = previous;
+            this.offset = offset;
+            this.claimed = new AtomicInteger(claimed);
+        }
+    }
+
+    private final @Nullable Chunk last;
+    private final int size;
+    private final long totalCount;
+    private final int capacity;
+
+    private ErrorBuffer(@Nullable Chunk last, int size, long totalCount, int capacity) {
+        this.last = last;
+        this.size = size;
+        this.totalCount = totalCount;
+        this.capacity = capacity;
+    }
+
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked") // the empty buffer holds no errors
+    public static <E> @NotNull ErrorBuffer<E> empty() {
+        return (ErrorBuffer<E>) EMPTY;
+    }
+
+    /**
+     * @param capacity the maximum number of errors to keep
+     * @param <E>      type of the errors
+     *
+     * @return an empty buffer that keeps at most {@code capacity} errors
+     *
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public static <E> @NotNull ErrorBuffer<E> empty(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity of an error buffer must not be negative but was %d!".formatted(capacity));
+        }
+        return capacity == UNBOUNDED ? empty() : new ErrorBuffer<>(null, 0, 0, capacity);
+    }
+
+    public static <E> @NotNull ErrorBuffer<E> of(@NotNull @NonNull E error) {
+        return ErrorBuffer.<E>empty()
+                          .append(error);
+    }
+
+    public static <E> @NotNull ErrorBuffer<E> of(@NotNull @NonNull E error, int capacity) {
+        return ErrorBuffer.<E>empty(capacity)
+                          .append(error);
+    }
+
+    /**
+     * @return the number of errors kept in this buffer
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of errors that were appended to this buffer, including the dropped ones
+     */
+    @Contract(pure = true)
+    public long totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the number of errors that were appended to this buffer after it was full
+     */
+    @Contract(pure = true)
+    public long droppedCount() {
+        return totalCount - size;
+    }
+
+    /**
+     * @return the maximum number of errors kept in this buffer
+     */
+    @Contract(pure = true)
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return {@code true} if no error was ever appended to this buffer
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Appends an error, which is dropped and only counted if the buffer is already full.
+     *
+     * @param error the error to append
+     *
+     * @return a buffer with all errors of this buffer followed by {@code error}
+     */
+    public @NotNull ErrorBuffer<E> append(@NotNull @NonNull E error) {
+        if (size == capacity) {
+            return new ErrorBuffer<>(last, size, totalCount + 1, capacity);
+        }
+        return new ErrorBuffer<>(appendTo(last, size, error), size + 1, totalCount + 1, capacity);
+    }
+
+    /**
+     * Appends all errors of another buffer, up to the capacity of this buffer. The errors that the other buffer dropped are counted as dropped
+     * ones of the result too.
+     *
+     * @param other the errors to append
+     *
+     * @return a buffer with all errors of this buffer followed by the ones of {@code other}
+     */
+    @SuppressWarnings("unchecked") // a buffer is immutable, so a buffer of a subtype of E is a buffer of E
+    public @NotNull ErrorBuffer<E> appendAll(@NotNull @NonNull ErrorBuffer<? extends E> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty() && other.capacity == capacity) {
+            return (ErrorBuffer<E>) other;
+        }
+        Chunk chunk = last;
+        int newSize = size;
+        for (Object error : other.toArray()) {
+            if (newSize == capacity) {
+                break;
+            }
+            chunk = appendTo(chunk, newSize++, error);
+        }
+        return new ErrorBuffer<>(chunk, newSize, totalCount + other.totalCount, capacity);
+    }
+
+    /**
+     * Converts every kept error. The number of dropped errors and the capacity stay the same.
+     *
+     * @param f   function that converts an error
+     * @param <F> type of the converted errors
+     *
+     * @return a buffer with the converted errors
+     */
+    public <F> @NotNull ErrorBuffer<F> map(@NotNull @NonNull Function<? super @NotNull E, ? extends @NotNull F> f) {
+        Chunk chunk = null;
+        int newSize = 0;
+        for (Object error : toArray()) {
+            @SuppressWarnings("unchecked") // only Es are appended
+            F converted = f.apply((E) error);
+            chunk = appendTo(chunk, newSize++, Objects.requireNonNull(converted, "the converted error"));
+        }
+        return new ErrorBuffer<>(chunk, newSize, totalCount, capacity);
+    }
+
+    /**
+     * @return the first error of this buffer if any is kept
+     */
+    @SuppressWarnings("unchecked") // only Es are appended
+    public @NotNull Option<E> first() {
+        if (size == 0) {
+            return Option.none();
+        }
+        Chunk chunk = last;
+        while (chunk.previous != null) {
+            chunk = chunk.previous;
+        }
+        return Option.some((E) chunk.items[0]);
+    }
+
+    @SuppressWarnings("unchecked") // only Es are appended
+    public @NotNull @Unmodifiable List<E> toList() {
+        return (List<E>) Collections.unmodifiableList(Arrays.asList(toArray()));
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return toList().iterator();
+    }
+
+    public @NotNull Stream<E> stream() {
+        return toList().stream();
+    }
+
+    /**
+     * Appends {@code error} to the buffer of the given size that ends in the given chunk, claiming the next slot of the chunk if no other buffer
+     * did so yet.
+     *
+     * @return the last chunk of the new buffer
+     */
+    private static @NotNull Chunk appendTo(@Nullable Chunk last, int size, @NotNull Object error) {
+        if (last != null) {
+            int slot = size - last.offset;
+            if (slot < last.items.length) {
+                if (last.claimed.compareAndSet(slot, slot + 1)) {
+                    last.items[slot] = error;
+                    return last;
+                }
+                // another buffer already appended to this chunk, so it has to be copied up to the size of this buffer
+                var copy = new Chunk(last.items.length, last.previous, last.offset, slot + 1);
+                System.arraycopy(last.items, 0, copy.items, 0, slot);
+                copy.items[slot] = error;
+                return copy;
+            }
+        }
+        int length = last == null ? FIRST_CHUNK_LENGTH : Math.min(last.items.length * 2, MAX_CHUNK_LENGTH);
+        var chunk = new Chunk(length, last, size, 1);
+        chunk.items[0] = error;
+        return chunk;
+    }
+
+    private Object @NotNull [] toArray() {
+        Object[] errors = new Object[size];
+        int end = size;
+        for (Chunk chunk = last; chunk != null; chunk = chunk.previous) {
+            System.arraycopy(chunk.items, 0, errors, chunk.offset, end - chunk.offset);
+            end = chunk.offset;
+        }
+        return errors;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ErrorBuffer<?> other && totalCount == other.totalCount && Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(toArray()) + Long.hashCode(totalCount);
+    }
+
+    @Override
+    public String toString() {
+        String errors = Arrays.toString(toArray());
+        return droppedCount() == 0 ? errors : "%s (+%d dropped)".formatted(errors, droppedCount());
+    }
+}
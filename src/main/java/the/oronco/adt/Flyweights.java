@@ -0,0 +1,132 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import the.oronco.tuple.Empty;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared instances of the ADT variants for payloads that are used so often that allocating a new record for each of them would only produce
+ * garbage. All the cached variants are immutable and compare by value, so handing out the same instance is not observable except through
+ * {@code ==}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class Flyweights {
+    private final int SMALL_LOW = -128;
+    private final int SMALL_HIGH = 127;
+
+    /**
+     * Upper bound for the number of values that {@link Option#someInterned(Object)} remembers. Once it is reached new values are no longer
+     * interned, so a caller that interns unbounded input cannot exhaust the heap.
+     */
+    final int INTERNED_CAPACITY = 4096;
+
+    private final Option.Some<Boolean> SOME_TRUE = new Option.Some<>(Boolean.TRUE);
+    private final Option.Some<Boolean> SOME_FALSE = new Option.Some<>(Boolean.FALSE);
+    private final Option.Some<Empty> SOME_EMPTY = new Option.Some<>(Empty.EMPTY);
+    private final Option.Some<?>[] SOME_INTEGERS = new Option.Some<?>[SMALL_HIGH - SMALL_LOW + 1];
+    private final Option.Some<?>[] SOME_LONGS = new Option.Some<?>[SMALL_HIGH - SMALL_LOW + 1];
+    private final OptionInt.Some[] SOME_INTS = new OptionInt.Some[SMALL_HIGH - SMALL_LOW + 1];
+    private final OptionLong.Some[] SOME_PRIMITIVE_LONGS = new OptionLong.Some[SMALL_HIGH - SMALL_LOW + 1];
+
+    static {
+        for (int i = SMALL_LOW; i <= SMALL_HIGH; i++) {
+            SOME_INTEGERS[i - SMALL_LOW] = new Option.Some<>(i);
+            SOME_LONGS[i - SMALL_LOW] = new Option.Some<>((long) i);
+            SOME_INTS[i - SMALL_LOW] = new OptionInt.Some(i);
+            SOME_PRIMITIVE_LONGS[i - SMALL_LOW] = new OptionLong.Some(i);
+        }
+    }
+
+    private final Option.Some<?>[] NOT_CACHED = new Option.Some<?>[0];
+
+    /**
+     * The shared {@code Some}s of the constants of an enum, or {@link #NOT_CACHED} for enums that were loaded by a class loader that can be
+     * unloaded before this library, whose constants would otherwise be kept alive by the cache and pin their class loader.
+     */
+    private final ClassValue<Option.Some<?>[]> SOME_ENUMS = new ClassValue<>() {
+        @Override
+        protected Option.Some<?>[] computeValue(@NotNull Class<?> type) {
+            if (!isLoadedByAncestorLoader(type)) {
+                return NOT_CACHED;
+            }
+            Object[] constants = type.getEnumConstants();
+            Option.Some<?>[] somes = new Option.Some<?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                somes[i] = new Option.Some<>(constants[i]);
+            }
+            return somes;
+        }
+    };
+
+    private final ConcurrentMap<Object, Option.Some<?>> INTERNED = new ConcurrentHashMap<>();
+
+    final Result.Ok<Result.GOOD, ?> OK_GOOD = new Result.Ok<>(Result.GOOD);
+
+    final ControlFlow.Continue<?, Result.GOOD> CONTINUE_GOOD = new ControlFlow.Continue<>(Result.GOOD);
+
+    /**
+     * Looks up the shared {@code Some} for values that are always cached: booleans, {@link Integer}s and {@link Long}s between -128 and 127, enum
+     * constants of enums loaded by the class loader of this library or its parents and {@link Empty#EMPTY}.
+     *
+     * @return the shared {@code Some} or {@code null} if the value is not cached
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable Option<T> cachedSome(@Nullable T value) {
+        Option.Some<?> cached = switch (value) {
+            case null -> null;
+            case Boolean b -> b ? SOME_TRUE : SOME_FALSE;
+            case Integer i when i >= SMALL_LOW && i <= SMALL_HIGH -> SOME_INTEGERS[i - SMALL_LOW];
+            case Long l when l >= SMALL_LOW && l <= SMALL_HIGH -> SOME_LONGS[(int) (l - SMALL_LOW)];
+            case Enum<?> e -> {
+                Option.Some<?>[] somes = SOME_ENUMS.get(e.getDeclaringClass());
+                yield somes == NOT_CACHED ? null : somes[e.ordinal()];
+            }
+            case Empty ignored -> SOME_EMPTY;
+            default -> null;
+        };
+        return (Option<T>) cached;
+    }
+
+    /**
+     * @return whether {@code type} was loaded by the class loader of this library or one of its parents, which live at least as long as it
+     */
+    private boolean isLoadedByAncestorLoader(@NotNull Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader own = Flyweights.class.getClassLoader(); own != null; own = own.getParent()) {
+            if (own == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable OptionInt cachedSome(int value) {
+        return value >= SMALL_LOW && value <= SMALL_HIGH ? SOME_INTS[value - SMALL_LOW] : null;
+    }
+
+    @Nullable OptionLong cachedSome(long value) {
+        return value >= SMALL_LOW && value <= SMALL_HIGH ? SOME_PRIMITIVE_LONGS[(int) (value - SMALL_LOW)] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> @NotNull Option<T> internedSome(@NotNull T value) {
+        Option.Some<?> interned = INTERNED.get(value);
+        if (interned != null) {
+            return (Option<T>) interned;
+        }
+        if (INTERNED.size() >= INTERNED_CAPACITY) {
+            return new Option.Some<>(value);
+        }
+        return (Option<T>) INTERNED.computeIfAbsent(value, Option.Some::new);
+    }
+}
@@ -0,0 +1,141 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The values of a {@link MultiOption.Many} that were checked for {@code null} when they were copied into the array, so that a {@code Many} can
+ * trust them without scanning them again. The array is never handed out, so the list is immutable.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+final class ImmutableArrayList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+    private static final String NULL_VALUE = "No null values are allowed in a MultiOption!";
+
+    private final Object[] values;
+
+    private ImmutableArrayList(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Copies the values of an array that the caller still owns.
+     */
+    static <T> @NotNull ImmutableArrayList<T> copyOf(T @NotNull [] values) {
+        return new ImmutableArrayList<>(requireNoNulls(Arrays.copyOf(values, values.length, Object[].class)));
+    }
+
+    /**
+     * Copies the values of a collection, {@link Collection#toArray()} already returns a new array, so this copies only once.
+     */
+    @SuppressWarnings("unchecked") // an ImmutableArrayList is immutable, so one of a subtype of T is one of T
+    static <T> @NotNull ImmutableArrayList<T> copyOf(@NotNull Collection<? extends T> values) {
+        if (values instanceof ImmutableArrayList<? extends T> trusted) {
+            return (ImmutableArrayList<T>) trusted;
+        }
+        return new ImmutableArrayList<>(requireNoNulls(values.toArray()));
+    }
+
+    /**
+     * Wraps an array that no one else references and whose values were already checked for {@code null}.
+     */
+    static <T> @NotNull ImmutableArrayList<T> wrapChecked(Object @NotNull [] values) {
+        return new ImmutableArrayList<>(values);
+    }
+
+    /**
+     * Creates the {@code MultiOption} of an array of values like {@link #wrapChecked(Object[])}, a {@code Many} only if there is more than one
+     * value.
+     */
+    @SuppressWarnings("unchecked") // only Ts are stored
+    static <T> @NotNull MultiOption<T> multiOptionOfChecked(Object @NotNull [] values) {
+        return switch (values.length) {
+            case 0 -> MultiOption.none();
+            case 1 -> MultiOption.one((T) values[0]);
+            default -> new MultiOption.Many<>(wrapChecked(values));
+        };
+    }
+
+    /**
+     * Maps all values into a new list without an intermediate collection.
+     */
+    <R> @NotNull ImmutableArrayList<R> map(@NotNull Function<? super T, ? extends R> f) {
+        Object[] mapped = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = Objects.requireNonNull(f.apply(get(i)), NULL_VALUE);
+        }
+        return new ImmutableArrayList<>(mapped);
+    }
+
+    private static Object @NotNull [] requireNoNulls(Object @NotNull [] values) {
+        for (Object value : values) {
+            Objects.requireNonNull(value, NULL_VALUE);
+        }
+        return values;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // only Ts are stored
+    public T get(int index) {
+        return (T) values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // only Ts are stored
+    public void forEach(@NotNull Consumer<? super T> action) {
+        for (Object value : values) {
+            action.accept((T) value);
+        }
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < values.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked") // only Ts are stored
+            public T next() {
+                if (next >= values.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) values[next++];
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+}
@@ -0,0 +1,53 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Implementation of {@link Bound#memoized(int)}: a direct-mapped cache of verdicts, indexed by the identity hash of the value. A value that maps
+ * to an occupied slot replaces the verdict that was there.
+ * <p>
+ * The slots are read and written without synchronization. That is safe because a verdict is immutable, so a thread sees either a complete
+ * verdict or an older one, and an older verdict for another value is just a cache miss.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+final class MemoizedBound<T> implements Bound<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private record Verdict(Object value, boolean holds) {}
+
+    private final Predicate<? super T> bound;
+    private final Verdict[] verdicts;
+    private final int mask;
+
+    MemoizedBound(@NotNull Predicate<? super T> bound, int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity of a memoized bound must be between 1 and 2^30 but was %d!".formatted(capacity));
+        }
+        int slots = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.bound = bound;
+        this.verdicts = new Verdict[slots];
+        this.mask = slots - 1;
+    }
+
+    @Override
+    public boolean test(T value) {
+        int hash = System.identityHashCode(value);
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        Verdict verdict = verdicts[slot];
+        if (verdict != null && verdict.value() == value) {
+            return verdict.holds();
+        }
+        boolean holds = bound.test(value);
+        verdicts[slot] = new Verdict(value, holds);
+        return holds;
+    }
+
+    @Override
+    public String toString() {
+        return "memoized(" + bound + ")";
+    }
+}
@@ -2,14 +2,15 @@ package the.oronco.adt;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -52,8 +53,9 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
     }
     @Unmodifiable record Many<T>(@NotNull @NonNull Collection<@NotNull @NonNull T> values) implements MultiOption<@NotNull T> {
         public Many {
-            if (!values.stream()
-                       .allMatch(Objects::nonNull)) {
+            // trusted values were checked when they were copied, the values of a lazy Many are checked while iterating them
+            if (!(values instanceof ImmutableArrayList<T>) && !(values instanceof OneShotValues<T>) && !values.stream()
+                                                                                                                 .allMatch(Objects::nonNull)) {
                 throw new NullPointerException("No null values are allowed in a MultiOption!");
             }
         }
@@ -132,12 +134,22 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
     @Contract(value = "-> new", pure = true)
     default @NotNull Stream<T> stream() {
         return switch (this) {
-            case None<T> ignored -> Stream.of();
-            case One<T>(T value) -> Stream.of(value);
+            case None<T> ignored -> ZeroOrOneIterator.emptyStream();
+            case One<T>(T value) -> ZeroOrOneIterator.streamOf(value);
             case Many<T>(var values) -> values.stream();
         };
     }
 
+    @Override
+    @Contract(value = "-> new", pure = true)
+    default @NotNull Spliterator<T> spliterator() {
+        return switch (this) {
+            case None<T> ignored -> ZeroOrOneIterator.empty();
+            case One<T>(T value) -> ZeroOrOneIterator.of(value);
+            case Many<T>(var values) -> values.spliterator();
+        };
+    }
+
     @Override
     @Contract(value = "-> new", pure = true)
     default @NotNull Set<T> toSet() {
@@ -154,6 +166,7 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
         return switch (this) {
             case None<T> ignored -> List.of();
             case One<T>(T value) -> List.of(value);
+            case Many<T>(var values) when values instanceof ImmutableArrayList<T> trusted -> trusted;
             case Many<T>(var values) -> List.copyOf(values);
         };
     }
@@ -162,9 +175,8 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
     @Contract(value = "-> new", pure = true)
     default @NotNull Iterator<T> iterator() {
         return switch (this) {
-            case None<T> ignored -> Collections.emptyIterator();
-            case One<T>(T value) -> Stream.of(value)
-                                     .iterator();
+            case None<T> ignored -> ZeroOrOneIterator.empty();
+            case One<T>(T value) -> ZeroOrOneIterator.of(value);
             case Many<T>(var values) -> values.iterator();
         };
     }
@@ -303,7 +315,14 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
     default <R> @NotNull MultiOption<R> map(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull R> f) {
         return switch (this) {
             case None<T> ignored -> none();
-            case One<T>(T value) -> one(f.apply(value));
+            case One<T>(T value) -> {
+                R mapped = f.apply(value);
+                @SuppressWarnings("unchecked") // only reinterpreted if the mapped value is the contained value, which then has to be an R
+                MultiOption<R> result = mapped == value ? (MultiOption<R>) this : one(mapped);
+                yield result;
+            }
+            case Many<T>(var values) when values instanceof ImmutableArrayList<T> trusted -> new Many<>(trusted.map(f));
+            case Many<T>(var values) when values instanceof OneShotValues<T> lazy -> new Many<>(lazy.map(f));
             case Many<T>(var values) -> many(values.stream()
                                                  .map(f)
                                                  .collect(Collectors.toList()));
@@ -487,14 +506,100 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
         }
     }
 
+    /**
+     * Merges multiple MultiOptions into one that contains every distinct value once, in the order in which they are first found.
+     *
+     * @see #distinct(Collection, int)
+     */
     static <T> @NotNull MultiOption<T> fromMultiOptions(@NotNull @NonNull Collection<@NotNull MultiOption<@NotNull T>> multipleMultiOptions) {
-        return MultiOption.from(multipleMultiOptions.stream()
-                                                    .flatMap(multiOption -> switch (multiOption) {
-                                                        case None<T> ignored -> Stream.of();
-                                                        case One<T>(T value) -> Stream.of(value);
-                                                        case Many<T>(var values) -> values.stream();
-                                                    })
-                                                    .collect(Collectors.toSet()));
+        return MultiOptionMerges.distinct(multipleMultiOptions, MultiOptionMerges.knownSize(multipleMultiOptions));
+    }
+
+    /**
+     * Concatenates the values of multiple MultiOptions in order. The values are copied once into an array that is presized from the
+     * {@link #size()} of the inputs.
+     *
+     * @param multiOptions the MultiOptions to concatenate
+     * @param <T>          type of the values
+     *
+     * @return all values of the inputs in order
+     */
+    static <T> @NotNull MultiOption<T> concat(@NotNull @NonNull Collection<? extends @NotNull MultiOption<? extends @NotNull T>> multiOptions) {
+        return MultiOptionMerges.concat(multiOptions);
+    }
+
+    /**
+     * Merges multiple MultiOptions into one that contains every distinct value once, in the order in which they are first found.
+     *
+     * @param multiOptions the MultiOptions to merge
+     * @param expectedSize the expected number of distinct values, which is used to presize the set of seen values and the result so that they
+     *                     do not have to grow
+     * @param <T>          type of the values
+     *
+     * @return the distinct values of the inputs
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    static <T> @NotNull MultiOption<T> distinct(@NotNull @NonNull Collection<? extends @NotNull MultiOption<? extends @NotNull T>> multiOptions,
+                                                int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected number of distinct values must not be negative but was %d!".formatted(expectedSize));
+        }
+        return MultiOptionMerges.distinct(multiOptions, expectedSize);
+    }
+
+    /**
+     * Merges MultiOptions whose values are each sorted by {@code comparator} into one sorted MultiOption, by repeatedly taking the smallest
+     * head of the inputs from a heap. Equal values are taken from the earlier input first.
+     *
+     * @param sortedMultiOptions the MultiOptions to merge, each sorted by {@code comparator}
+     * @param comparator         the order of the values
+     * @param <T>                type of the values
+     *
+     * @return all values of the inputs, sorted
+     */
+    static <T> @NotNull MultiOption<T> mergeSorted(
+            @NotNull @NonNull Collection<? extends @NotNull MultiOption<? extends @NotNull T>> sortedMultiOptions,
+            @NotNull @NonNull Comparator<? super @NotNull T> comparator) {
+        return MultiOptionMerges.mergeSorted(sortedMultiOptions, comparator);
+    }
+
+    /**
+     * Creates a MultiOption from an iterator without materializing it: only the first two elements are pulled to decide between {@link None},
+     * {@link One} and {@link Many}. The values of a {@code Many} pull the rest of the elements from the iterator while they are iterated, so the
+     * memory used stays constant whatever the number of elements.
+     * <p>
+     * The values of such a {@code Many} can be iterated or streamed only once. Everything that looks at all values consumes them, including
+     * {@link #size()}, {@link #toList()} and the {@code unwrap} methods; {@link #map(Function)} stays lazy.
+     *
+     * @param source the elements, which must not be {@code null}
+     * @param <T>    type of the elements
+     *
+     * @return a {@link MultiOption} whose {@code Many} is backed by the rest of {@code source}
+     */
+    static <T> @NotNull MultiOption<T> lazy(@NotNull @NonNull Iterator<? extends @NotNull T> source) {
+        if (!source.hasNext()) {
+            return none();
+        }
+        T first = source.next();
+        if (!source.hasNext()) {
+            return one(first);
+        }
+        return new Many<>(new OneShotValues<>(first, source.next(), source));
+    }
+
+    /**
+     * Lazy version of {@link #from(Iterable)} and {@link #of(Streamable)} for large query results, see {@link #lazy(Iterator)}.
+     */
+    static <T> @NotNull MultiOption<T> lazy(@NotNull @NonNull Iterable<? extends @NotNull T> source) {
+        return lazy(source.iterator());
+    }
+
+    /**
+     * Creates a MultiOption that pulls the elements of a stream only while its values are iterated, see {@link #lazy(Iterator)}.
+     */
+    static <T> @NotNull MultiOption<T> lazy(@NotNull @NonNull Stream<? extends @NotNull T> source) {
+        return lazy(source.iterator());
     }
 
     /**
@@ -504,6 +609,37 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
         return MultiOption.from(streamable);
     }
 
+    /**
+     * Returns the value at {@code index}, which is constant time for a {@code Many} that holds a {@link List}.
+     *
+     * @param index the index of the value
+     *
+     * @return the value at the index
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    default @NotNull T get(int index) {
+        return switch (this) {
+            case None<T> ignored -> throw new IndexOutOfBoundsException("None has no value at index %d!".formatted(index));
+            case One<T>(T value) -> {
+                Objects.checkIndex(index, 1);
+                yield value;
+            }
+            case Many<T>(var values) when values instanceof List<T> list -> list.get(index);
+            case Many<T>(var values) -> {
+                Objects.checkIndex(index, Integer.MAX_VALUE);
+                // counts the values while iterating, as a lazy Many cannot be iterated again to take its size
+                int length = 0;
+                for (T value : values) {
+                    if (length++ == index) {
+                        yield value;
+                    }
+                }
+                throw new IndexOutOfBoundsException("Index %d out of bounds for length %d".formatted(index, length));
+            }
+        };
+    }
+
     default int size() {
         return switch (this) {
             case None<T> ignored -> 0;
@@ -530,12 +666,23 @@ public sealed interface MultiOption<T> extends Rusty<Collection<T>>, Streamable<
         return new One<>(single);
     }
 
+    /**
+     * Creates a {@code Many} from the values. A {@link List} is copied and its values are checked for {@code null} once while they are copied.
+     * Any other collection is kept as it is, so that the {@code Many} compares like it, e.g. a {@code Many} of a {@link java.util.Set} equals
+     * one of the same values in any order but never one of a {@code List}.
+     */
     static <T> @NotNull MultiOption<T> many(@NotNull @NonNull Collection<@NotNull T> many) {
-        return (MultiOption<T>) new Many<>(many);
+        if (many instanceof List<T>) {
+            return new Many<>(ImmutableArrayList.copyOf(many));
+        }
+        return new Many<>(many);
     }
 
+    /**
+     * Creates a {@code Many} from a copy of the array, so that changing the array afterwards does not change the {@code Many}.
+     */
     @SafeVarargs
     static <T> @NotNull MultiOption<T> many(@NotNull @NonNull T... many) {
-        return many(Arrays.asList(many));
+        return new Many<>(ImmutableArrayList.copyOf(many));
     }
 }
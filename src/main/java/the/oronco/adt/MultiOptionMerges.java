@@ -0,0 +1,156 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link MultiOption#concat}, {@link MultiOption#distinct} and {@link MultiOption#mergeSorted}.
+ * <p>
+ * The values of the inputs were already checked for {@code null}, so the merges copy them straight into one array that is presized from the
+ * sizes of the inputs and becomes the values of the resulting {@code Many}. Only inputs with lazy values do not know their size, those make the
+ * array grow like a list.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class MultiOptionMerges {
+    /**
+     * The largest number of values that {@link #distinct} presizes for, the same as the largest capacity of a {@link java.util.HashMap}.
+     */
+    private static final int MAXIMUM_PRESIZE = 1 << 30;
+
+    <T> @NotNull MultiOption<T> concat(@NotNull Collection<? extends MultiOption<? extends T>> inputs) {
+        var values = new Values(knownSize(inputs));
+        for (MultiOption<? extends T> input : inputs) {
+            forEach(input, values);
+        }
+        return values.toMultiOption();
+    }
+
+    <T> @NotNull MultiOption<T> distinct(@NotNull Collection<? extends MultiOption<? extends T>> inputs, int expectedSize) {
+        // no more distinct values than all inputs hold can be found, so the hint only matters as long as a lazy input hides its size
+        int presize = Math.min(expectedSize, hasLazyValues(inputs) ? MAXIMUM_PRESIZE : knownSize(inputs));
+        var values = new Values(presize);
+        HashSet<Object> seen = HashSet.newHashSet(presize);
+        for (MultiOption<? extends T> input : inputs) {
+            forEach(input, value -> {
+                if (seen.add(value)) {
+                    values.accept(value);
+                }
+            });
+        }
+        return values.toMultiOption();
+    }
+
+    <T> @NotNull MultiOption<T> mergeSorted(@NotNull Collection<? extends MultiOption<? extends T>> inputs,
+                                            @NotNull Comparator<? super T> comparator) {
+        var values = new Values(knownSize(inputs));
+        // ties are taken from the earlier input, so the merge is stable
+        var heads = new PriorityQueue<Cursor<T>>(Math.max(1, inputs.size()), (left, right) -> {
+            int order = comparator.compare(left.head, right.head);
+            return order != 0 ? order : Integer.compare(left.input, right.input);
+        });
+        int input = 0;
+        for (MultiOption<? extends T> multiOption : inputs) {
+            var cursor = new Cursor<T>(multiOption.iterator(), input++);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        while (!heads.isEmpty()) {
+            Cursor<T> smallest = heads.poll();
+            values.accept(smallest.head);
+            if (smallest.advance()) {
+                heads.add(smallest);
+            }
+        }
+        return values.toMultiOption();
+    }
+
+    /**
+     * @return the sum of the sizes of the inputs whose size is known without consuming them
+     */
+    int knownSize(@NotNull Collection<? extends MultiOption<?>> inputs) {
+        long size = 0;
+        for (MultiOption<?> input : inputs) {
+            if (!isLazy(input)) {
+                size += input.size();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+
+    private boolean hasLazyValues(@NotNull Collection<? extends MultiOption<?>> inputs) {
+        for (MultiOption<?> input : inputs) {
+            if (isLazy(input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLazy(@NotNull MultiOption<?> input) {
+        return input instanceof MultiOption.Many<?>(var many) && many instanceof OneShotValues<?>;
+    }
+
+    private <T> void forEach(@NotNull MultiOption<? extends T> input, @NotNull Consumer<Object> action) {
+        switch (input) {
+            case MultiOption.None<? extends T> ignored -> {
+            }
+            case MultiOption.One<? extends T>(T value) -> action.accept(value);
+            case MultiOption.Many<? extends T>(var many) -> many.forEach(action);
+        }
+    }
+
+    private static final class Cursor<T> {
+        private final Iterator<? extends T> values;
+        private final int input;
+        private T head;
+
+        private Cursor(Iterator<? extends T> values, int input) {
+            this.values = values;
+            this.input = input;
+        }
+
+        private boolean advance() {
+            if (!values.hasNext()) {
+                return false;
+            }
+            head = values.next();
+            return true;
+        }
+    }
+
+    /**
+     * Array of values that were already checked for {@code null}.
+     */
+    private static final class Values implements Consumer<Object> {
+        private Object[] values;
+        private int size;
+
+        private Values(int expectedSize) {
+            this.values = new Object[Math.max(expectedSize, 0)];
+        }
+
+        @Override
+        public void accept(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+            }
+            values[size++] = value;
+        }
+
+        private <T> @NotNull MultiOption<T> toMultiOption() {
+            return ImmutableArrayList.multiOptionOfChecked(size == values.length ? values : Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * The values of a lazy {@link MultiOption.Many} as created by {@link MultiOption#lazy(Iterator)}: the first two values were already pulled from
+ * the source to decide that it is a {@code Many}, the rest is pulled only while iterating.
+ * <p>
+ * The values can be iterated only once, a second iteration throws an {@link IllegalStateException}. As the source is never buffered,
+ * {@link #size()} has to count the values by iterating them, so it consumes the values too. The rest of the values is checked for {@code null}
+ * while iterating, as checking them up front would need to buffer them.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+final class OneShotValues<T> extends AbstractCollection<T> {
+    private static final String NULL_VALUE = "No null values are allowed in a MultiOption!";
+
+    private final T first;
+    private final T second;
+    private final Iterator<? extends T> rest;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    OneShotValues(@NotNull T first, @NotNull T second, @NotNull Iterator<? extends T> rest) {
+        this.first = Objects.requireNonNull(first, NULL_VALUE);
+        this.second = Objects.requireNonNull(second, NULL_VALUE);
+        this.rest = rest;
+    }
+
+    private void consume() {
+        if (!consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException("The values of a lazy MultiOption can only be iterated once!");
+        }
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        consume();
+        return new Values();
+    }
+
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Counts the values by iterating them, afterwards they can no longer be iterated.
+     */
+    @Override
+    public int size() {
+        long size = 0;
+        for (var values = iterator(); values.hasNext(); values.next()) {
+            size++;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return drain().toArray();
+    }
+
+    @Override
+    public <A> A @NotNull [] toArray(A @NotNull [] array) {
+        return drain().toArray(array);
+    }
+
+    private @NotNull ArrayList<T> drain() {
+        var values = new ArrayList<T>();
+        iterator().forEachRemaining(values::add);
+        return values;
+    }
+
+    /**
+     * Maps the first two values right away and the rest while iterating the result. The values of {@code this} are consumed by the result.
+     */
+    <R> @NotNull OneShotValues<R> map(@NotNull Function<? super T, ? extends R> f) {
+        consume();
+        return new OneShotValues<>(f.apply(first), f.apply(second), new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rest.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return f.apply(rest.next());
+            }
+        });
+    }
+
+    /**
+     * Does not iterate the values, so that printing a lazy {@code MultiOption} does not consume it.
+     */
+    @Override
+    public @NotNull String toString() {
+        return consumed.get() ? "[consumed]" : "[%s, %s, ...]".formatted(first, second);
+    }
+
+    private final class Values implements Iterator<T> {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            return position < 2 || rest.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return switch (position) {
+                case 0 -> {
+                    position++;
+                    yield first;
+                }
+                case 1 -> {
+                    position++;
+                    yield second;
+                }
+                default -> {
+                    if (!rest.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    yield Objects.requireNonNull(rest.next(), NULL_VALUE);
+                }
+            };
+        }
+    }
+}
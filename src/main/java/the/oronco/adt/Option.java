@@ -14,17 +14,20 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.springframework.data.util.Streamable;
 import the.oronco.Rusty;
 import the.oronco.adt.exceptions.UnwrappedBadValueException;
+import the.oronco.adt.exceptions.WrongBranchError;
 import the.oronco.adt.exceptions.WrongKindOfExceptionError;
 import the.oronco.adt.funcs.ThrowingFunction;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 // TODO examples like in the rust documentation
@@ -93,8 +96,8 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     @Contract(pure = true)
     default @NotNull Stream<T> stream() {
         return switch (this) {
-            case Some<T>(T value) -> Stream.of(value);
-            case None<T> ignored -> Stream.of();
+            case Some<T>(T value) -> ZeroOrOneIterator.streamOf(value);
+            case None<T> ignored -> ZeroOrOneIterator.emptyStream();
         };
     }
 
@@ -189,9 +192,13 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
      * @return a new {@code Option<R>} with the converted value
      */
     @Override
+    @SuppressWarnings("unchecked") // only reinterpreted if the mapped value is the contained value, which then has to be an R
     default <R> @NotNull Option<R> map(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull R> f) {
         return switch (this) {
-            case Some<T>(T value) -> some(f.apply(value));
+            case Some<T>(T value) -> {
+                R mapped = f.apply(value);
+                yield mapped == value ? (Option<R>) this : some(mapped);
+            }
             case None<T> ignored -> none();
         };
     }
@@ -206,11 +213,8 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     default <R, X extends Exception> @NotNull Option<R> safeMap(
             @NotNull @NonNull ThrowingFunction<? super @NotNull T, ? extends @NotNull R, ? extends @NotNull X> f) throws WrongKindOfExceptionError {
         return switch (this) {
-            case Some<T>(T value) -> switch (f.apply(value)
-                                              .ok()) {
-                case Some<? extends R>(R val) -> some(val);
-                case None<? extends R> none -> none.as();
-            };
+            case Some<T>(T value) -> covariant(f.apply(value)
+                                                .ok());
             case None<T> ignored -> none();
         };
     }
@@ -325,9 +329,17 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     @Contract(pure = true)
     default @NotNull Iterator<T> iter() {
         return switch (this) {
-            case Some<T>(T value) -> Stream.of(value)
-                                           .iterator();
-            case None<T> ignored -> Collections.emptyIterator();
+            case Some<T>(T value) -> ZeroOrOneIterator.of(value);
+            case None<T> ignored -> ZeroOrOneIterator.empty();
+        };
+    }
+
+    @Override
+    @Contract(pure = true)
+    default @NotNull Spliterator<T> spliterator() {
+        return switch (this) {
+            case Some<T>(T value) -> ZeroOrOneIterator.of(value);
+            case None<T> ignored -> ZeroOrOneIterator.empty();
         };
     }
 
@@ -335,9 +347,8 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     @Contract(pure = true)
     default @NotNull Iterator<T> iterator() {
         return switch (this) {
-            case Some<T>(T value) -> Stream.of(value)
-                                           .iterator();
-            case None<T> ignored -> Collections.emptyIterator();
+            case Some<T>(T value) -> ZeroOrOneIterator.of(value);
+            case None<T> ignored -> ZeroOrOneIterator.empty();
         };
     }
 
@@ -396,7 +407,7 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     @Contract("_ -> !null")
     default @NotNull Option<T> filter(@NotNull @NonNull Predicate<? super @NotNull T> predicate) {
         if (this instanceof Some<T>(T value) && (predicate.test(value))) {
-            return some(value);
+            return this;
         }
         return none();
     }
@@ -413,7 +424,7 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     @Contract(pure = true)
     default @NotNull Option<T> or(@NotNull @NonNull Option<T> other) {
         return switch (this) {
-            case Some<T>(T value) -> some(value);
+            case Some<T> some -> some;
             case None<T> ignored -> other;
         };
     }
@@ -428,10 +439,10 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
      * @param other the other {@code Option<T>} that should be returned instead if {@code this} is {@code None<T>}
      * @return an {@code Option<T>} that is either {@code this} or the {@code other} wrapped in an {@code Option<T>}
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(value = "_ -> !null", pure = true)
     default @Nullable Option<T> orNullable(@Nullable T other) {
         return switch (this) {
-            case Some<T>(T value) -> some(value);
+            case Some<T> some -> some;
             case None<T> ignored -> Option.from(other);
         };
     }
@@ -445,7 +456,7 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
      */
     default @NotNull Option<? extends T> orElse(@NotNull @NonNull Supplier<@NotNull Option<? extends @NotNull T>> other) {
         return switch (this) {
-            case Some<T>(T value) -> some(value);
+            case Some<T> some -> some;
             case None<T> ignored -> other.get();
         };
     }
@@ -456,10 +467,10 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
      * @param other a {@code Supplier} that provides the {@code other} {@code Option<T>} in case that {@code this} is {@code None<T>}
      * @return the {@code Option<T>} if it contains a value, otherwise calls the {@code Supplier} and returns the result in an {@code Option<T>}
      */
-    @Contract("_ -> new")
+    @Contract("_ -> !null")
     default @NotNull Option<T> orNullableElse(@NotNull @NonNull Supplier<? extends @Nullable T> other) {
         return switch (this) {
-            case Some<T>(T value) -> some(value);
+            case Some<T> some -> some;
             case None<T> ignored -> Option.from(other.get());
         };
     }
@@ -470,11 +481,11 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
      * @param other the other {@code Option<T>}
      * @return an {Option<T>} according to the above condition
      */
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(value = "_ -> !null", pure = true)
     default @NotNull Option<T> xOr(@NotNull @NonNull Option<T> other) {
         return switch (this) {
-            case Some<T>(T thisValue) when !(other instanceof Some<T>) -> some(thisValue);
-            case None<T> ignored when other instanceof Some<T>(T otherValue) -> some(otherValue);
+            case Some<T> some when !(other instanceof Some<T>) -> some;
+            case None<T> ignored when other instanceof Some<T> some -> some;
             default -> none();
         };
     }
@@ -518,6 +529,49 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
         return some(value);
     }
 
+    /**
+     * Turns a stream of options into an option of a list. The list contains the values in encounter order if all options were {@code Some},
+     * otherwise {@code None} is returned.
+     * <p>
+     * Elements are pulled from the stream one at a time and no further element is evaluated once a {@code None} was seen.
+     *
+     * @param options the options to combine
+     * @param <T>     type of the values
+     *
+     * @return a {@code Some} of an unmodifiable list of all values or {@code None}
+     */
+    static <T> @NotNull Option<List<T>> sequence(@NotNull @NonNull Stream<? extends @NotNull Option<? extends T>> options) {
+        return Traversals.traverseOptions(options.spliterator(), Function.identity());
+    }
+
+    /**
+     * Applies {@code f} to the values in encounter order and collects the contained results into a list. Stops at the first {@code None}; neither
+     * {@code f} nor the stream is evaluated for the remaining values.
+     *
+     * @param values the values to convert
+     * @param f      conversion that might not have a result
+     * @param <S>    type of the values
+     * @param <T>    type of the converted values
+     *
+     * @return a {@code Some} of an unmodifiable list of all converted values or {@code None}
+     */
+    static <S, T> @NotNull Option<List<T>> traverse(@NotNull @NonNull Stream<? extends S> values,
+                                                    @NotNull @NonNull Function<? super S, ? extends @NotNull Option<? extends T>> f) {
+        return Traversals.traverseOptions(values.spliterator(), f);
+    }
+
+    /**
+     * Collector version of {@link #sequence(Stream)}. It ignores all elements after the first {@code None}, but as a collector cannot stop its
+     * stream the remaining elements are still evaluated. Prefer {@link #sequence(Stream)} when that matters.
+     *
+     * @param <T> type of the values
+     *
+     * @return a collector that combines options into an option of a list
+     */
+    static <T> @NotNull Collector<Option<? extends T>, ?, Option<List<T>>> sequenceCollector() {
+        return Traversals.optionCollector();
+    }
+
     /**
      * Allows for this to be returned by Spring JPA repositories.
      */
@@ -530,9 +584,33 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
     }
 
 
-    @Contract(value = "_ -> new", pure = true)
+    /**
+     * Creates a {@code Some} of the value. Booleans, {@link Integer}s and {@link Long}s between -128 and 127, constants of enums loaded by the class
+     * loader of this library or its parents and {@link the.oronco.tuple.Empty#EMPTY} share a cached instance, so only compare the returned
+     * options with {@code equals}.
+     */
+    @Contract(value = "_ -> !null", pure = true)
     static <T> @NotNull Option<T> some(@NotNull T value) {
-        return new Some<>(value);
+        Option<T> cached = Flyweights.cachedSome(value);
+        return cached != null ? cached : new Some<>(value);
+    }
+
+    /**
+     * Like {@link #some(Object)} but also shares the {@code Some} between all calls with an equal value. Use it for small sets of values that are
+     * wrapped over and over again, e.g. the names of a few states. The values have to be immutable as they are kept as keys.
+     * <p>
+     * At most 4096 values are interned; calls with further values behave like {@link #some(Object)}. The value of the
+     * returned {@code Some} may be a different, but equal, instance than the given one.
+     *
+     * @param value the value to wrap
+     * @param <T>   type of the value
+     *
+     * @return a {@code Some} of the value that is shared with the previous calls with an equal value
+     */
+    @Contract(value = "_ -> !null")
+    static <T> @NotNull Option<T> someInterned(@NotNull @NonNull T value) {
+        Option<T> cached = Flyweights.cachedSome(value);
+        return cached != null ? cached : Flyweights.internedSome(value);
     }
 
     @Contract(value = "-> !null", pure = true)
@@ -541,12 +619,47 @@ public sealed interface Option<T> extends Rusty<Optional<T>>, Try<T, Option<Infa
         return (Option<T>) NONE;
     }
 
+    /**
+     * Reinterprets an {@code Option<? extends T>} as an {@code Option<T>}. This is safe as an option cannot be modified, so nothing that is not a
+     * {@code T} can be put into it.
+     */
+    @Contract(value = "_ -> param1", pure = true)
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull Option<T> covariant(@NotNull Option<? extends T> option) {
+        return (Option<T>) option;
+    }
+
     @Override
-    @Contract(value = "-> new", pure = true)
-    default @NotNull ControlFlow<Option<Infallible>, T> branch() {
+    @Contract(pure = true)
+    default boolean isContinue() {
+        return isSome();
+    }
+
+    /**
+     * @return the contained value
+     *
+     * @throws WrongBranchError if {@code this} is {@code None<T>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull T output() throws WrongBranchError {
+        return switch (this) {
+            case Some<T>(T value) -> value;
+            case None<T> ignored -> throw new WrongBranchError("None has no output!");
+        };
+    }
+
+    /**
+     * @return the shared {@code None}
+     *
+     * @throws WrongBranchError if {@code this} is {@code Some<T>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull Option<Infallible> residual() throws WrongBranchError {
         return switch (this) {
-            case Some<T>(T value) -> new ControlFlow.Continue<>(value);
-            case None<T> ignored -> new ControlFlow.Break<>(none());
+            case Some<T> ignored -> throw new WrongBranchError("Some has no residual!");
+            case None<T> ignored -> none();
         };
     }
 }
@@ -0,0 +1,483 @@
+package the.oronco.adt;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+import org.intellij.lang.annotations.MagicConstant;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import the.oronco.Rusty;
+import the.oronco.adt.exceptions.UnwrappedBadValueException;
+import the.oronco.adt.exceptions.WrongBranchError;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A specialization of {@link Option} for {@code double} values. A {@code Some} stores the value without boxing it into a {@link Double}, which saves one
+ * object per value compared to an {@code Option<Double>}.
+ * <p>
+ * Use {@link OptionDouble#boxed()} and {@link OptionDouble#from(Option)} to convert losslessly between both representations and
+ * {@link OptionDouble#j()} and {@link OptionDouble#from(java.util.OptionalDouble)} for the Java equivalent {@link java.util.OptionalDouble}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public sealed interface OptionDouble extends Rusty<OptionalDouble>, Try<Double, OptionDouble>, Serializable {
+    @MagicConstant
+    None NONE = new None();
+
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @Unmodifiable
+    final class None implements OptionDouble {}
+
+    @Unmodifiable record Some(double value) implements OptionDouble {}
+
+    @Contract(pure = true)
+    default boolean isSome() {
+        return switch (this) {
+            case Some(var ignored) -> true;
+            case None ignored -> false;
+        };
+    }
+
+    @Contract(pure = true)
+    default boolean isNone() {
+        return switch (this) {
+            case Some(var ignored) -> false;
+            case None ignored -> true;
+        };
+    }
+
+    /**
+     * Returns true if the option is a Some and the value inside it matches a predicate.
+     *
+     * @param predicate predicate to evaluate the value against if the {@code OptionDouble} is {@code Some}
+     * @return if the value exists && the predicate matches
+     */
+    default boolean isSomeAnd(@NotNull @NonNull DoublePredicate predicate) {
+        return switch (this) {
+            case Some(double value) -> predicate.test(value);
+            case None ignored -> false;
+        };
+    }
+
+    /**
+     * Creates a {@link java.util.stream.DoubleStream} from the {@code OptionDouble} that contains the value of {@code Some} and is empty otherwise.
+     *
+     * @return the stream that contains the value of {@code Some} and is empty otherwise
+     */
+    @Contract(pure = true)
+    default @NotNull DoubleStream stream() {
+        return switch (this) {
+            case Some(double value) -> DoubleStream.of(value);
+            case None ignored -> DoubleStream.empty();
+        };
+    }
+
+    /**
+     * @param errorMessage the error message that is thrown when the {@code OptionDouble} is {@code None}
+     * @return the value if the {@code OptionDouble} is {@code Some}
+     * @throws the.oronco.adt.exceptions.UnwrappedBadValueException with the given Error message when the {@code OptionDouble} is {@code None}
+     */
+    default double unwrap(String errorMessage) throws @NotNull UnwrappedBadValueException {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> throw new UnwrappedBadValueException(errorMessage);
+        };
+    }
+
+    /**
+     * @param error the Exception that is thrown when the {@code OptionDouble} is {@code None}
+     * @return the value if the {@code OptionDouble} is {@code Some}
+     * @throws E with the given Exception when the {@code OptionDouble} is {@code None}
+     */
+    default <E extends Exception> double unwrap(@NonNull E error) throws @NotNull E {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> throw error;
+        };
+    }
+
+    /**
+     * @param exceptionSupplier supplier that returns the Exception that is thrown when the {@code OptionDouble} is {@code None}
+     * @return the value if the {@code OptionDouble} is {@code Some}
+     * @throws E with the given Exception when the {@code OptionDouble} is {@code None}
+     */
+    default <E extends Exception> double unwrapElse(@NotNull @NonNull Supplier<@NotNull E> exceptionSupplier) throws @NotNull E {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> throw exceptionSupplier.get();
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value and throws otherwise. (Similar to {@link OptionDouble#unwrap(String)} but without a custom error
+     * message)
+     * <p>
+     * The usage of this method is discouraged as control flow through exceptions can be hard to understand and organize. Use
+     * {@link OptionDouble#unwrapOr(double)} or {@link OptionDouble#unwrapOrElse(DoubleSupplier)} instead.
+     *
+     * @return the value if the {@code OptionDouble} is {@code Some}
+     * @throws the.oronco.adt.exceptions.UnwrappedBadValueException when the {@code OptionDouble} is {@code None}
+     */
+    @Contract(pure = true)
+    default double unwrap() throws @NotNull UnwrappedBadValueException {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> throw new UnwrappedBadValueException("Option was unwrapped but it had no value!");
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value and a default value otherwise.
+     *
+     * @param defaultValue default value that should be returned in the case that {@code OptionDouble} is {@code None}
+     * @return the value if the {@code OptionDouble} is {@code Some} and the default value otherwise
+     */
+    @Contract(pure = true)
+    default double unwrapOr(double defaultValue) {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value or computes it with the given {@code DoubleSupplier}.
+     *
+     * @param supplier the supplier that computes the value if {@code OptionDouble} is {@code None}
+     * @return the value in {@code Some} or the result of the {@code DoubleSupplier}
+     */
+    default double unwrapOrElse(@NotNull @NonNull DoubleSupplier supplier) {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> supplier.getAsDouble();
+        };
+    }
+
+    /**
+     * Maps an {@code OptionDouble} to another {@code OptionDouble} by applying a function to a contained value (if Some) or returns None (if None).
+     *
+     * @param f function that converts the value
+     * @return a new {@code OptionDouble} with the converted value
+     */
+    default @NotNull OptionDouble map(@NotNull @NonNull DoubleUnaryOperator f) {
+        return switch (this) {
+            case Some(double value) -> some(f.applyAsDouble(value));
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Maps an {@code OptionDouble} to {@code Option<R>} by applying a function to a contained value (if Some) or returns None (if None).
+     *
+     * @param f   function that converts the value to {@code R}
+     * @param <R> type that the value of a {@code Some} should be converted to
+     * @return a new {@code Option<R>} with the converted value
+     */
+    default <R> @NotNull Option<R> mapToObj(@NotNull @NonNull DoubleFunction<? extends @NotNull R> f) {
+        return switch (this) {
+            case Some(double value) -> Option.some(f.apply(value));
+            case None ignored -> Option.none();
+        };
+    }
+
+    /**
+     * Calls the provided {@code DoubleConsumer} with the contained value (if {@code Some}) and returns itself.
+     *
+     * @param consumer function that accepts the value (if {@code Some})
+     * @return the {@code OptionDouble} it was called on
+     */
+    default @NotNull OptionDouble inspect(@NotNull @NonNull DoubleConsumer consumer) {
+        if (this instanceof Some(double value)) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the provided default result (if {@code None}), or applies a function to the contained value (if {@code Some}).
+     * <p>
+     * Arguments passed to {@link OptionDouble#mapOr(DoubleFunction, Object)} are eagerly evaluated; if you are passing the result of a function call,
+     * it is recommended to use {@link OptionDouble#mapOrElse(DoubleFunction, Supplier)}, which is lazily evaluated.
+     *
+     * @param defaultValue default value that is returned if {@code None}
+     * @param f            function that converts the value in case of {@code Some}
+     * @param <R>          the target type that should be mapped to
+     * @return the mapped value or the default value if {@code None}
+     */
+    default <R> @NotNull R mapOr(@NotNull @NonNull DoubleFunction<? extends @NotNull R> f, @NotNull @NonNull R defaultValue) {
+        return switch (this) {
+            case Some(double value) -> f.apply(value);
+            case None ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Computes a default function result (if {@code None}), or applies a different function to the contained value (if {@code Some}).
+     *
+     * @param d   {@code Supplier<? extends R>} that supplies a value if {@code None}
+     * @param f   function that converts the value in case of {@code Some}
+     * @param <R> the target type that should be mapped to
+     * @return the mapped value or the default value if {@code None}
+     */
+    default <R> @NotNull R mapOrElse(@NotNull @NonNull DoubleFunction<? extends @NotNull R> f, @NotNull @NonNull Supplier<? extends @NotNull R> d) {
+        return switch (this) {
+            case Some(double value) -> f.apply(value);
+            case None ignored -> d.get();
+        };
+    }
+
+    /**
+     * Transforms the {@code OptionDouble} into a {@code ResultDouble<E>}, mapping {@code Some(v)} to {@code Ok(v)} and {@code None} to
+     * {@code Err(err)}.
+     * <p>
+     * Arguments passed to {@link OptionDouble#okOr(Object)} are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use {@link OptionDouble#okOrElse(Supplier)}, which is lazily evaluated.
+     *
+     * @param err error value that should be returned.
+     * @param <E> type of the error that should be returned
+     * @return a result representing the {@code OptionDouble} in form of a {@code ResultDouble<E>}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default <E> @NotNull ResultDouble<E> okOr(@NotNull @NonNull E err) {
+        return switch (this) {
+            case Some(double value) -> ResultDouble.ok(value);
+            case None ignored -> ResultDouble.err(err);
+        };
+    }
+
+    /**
+     * Transforms the {@code OptionDouble} into a {@code ResultDouble<E>}, mapping {@code Some(v)} to {@code Ok(v)} and {@code None} to
+     * {@code Err(err())}.
+     *
+     * @param err a {@code Supplier<E>} of the error value that should be returned
+     * @param <E> type of the error that should be returned
+     * @return a result representing the {@code OptionDouble} in form of a {@code ResultDouble<E>}
+     */
+    @Contract("_ -> new")
+    default <E> @NotNull ResultDouble<E> okOrElse(@NotNull @NonNull Supplier<? extends @NotNull E> err) {
+        return switch (this) {
+            case Some(double value) -> ResultDouble.ok(value);
+            case None ignored -> ResultDouble.err(err.get());
+        };
+    }
+
+    /**
+     * Returns an iterator over the possibly contained value.
+     *
+     * @return an iterator over the possibly contained value
+     */
+    @Contract(pure = true)
+    default @NotNull PrimitiveIterator.OfDouble iter() {
+        return switch (this) {
+            case Some(double value) -> ZeroOrOnePrimitiveIterator.DoubleIterator.of(value);
+            case None ignored -> ZeroOrOnePrimitiveIterator.DoubleIterator.empty();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionDouble} is {@code None}, otherwise returns {@code other}.
+     *
+     * @param other other {@code OptionDouble} that should be returned when this is {@code Some}
+     * @return either the {@code other} {@code OptionDouble} or {@code None} when this is {@code None}
+     */
+    @Contract(pure = true)
+    default @NotNull OptionDouble and(@NotNull @NonNull OptionDouble other) {
+        return switch (this) {
+            case Some ignored -> other;
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionDouble} is {@code None}, otherwise calls the function with the wrapped value and returns the result.
+     *
+     * @param f function that creates the option that should be returned when this is {@code Some}
+     * @return either the result of {@code f(some.value)} or {@code None} when this is {@code None}
+     */
+    default @NotNull OptionDouble andThen(@NotNull @NonNull DoubleFunction<@NotNull OptionDouble> f) {
+        return switch (this) {
+            case Some(double value) -> f.apply(value);
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionDouble} is {@code None} or the wrapped value does not match the predicate, otherwise returns
+     * {@code this}.
+     *
+     * @param predicate predicate to filter the value on if it is {@code Some}
+     * @return an option that is either {@code Some} and conforms to the predicate or {@code None}
+     */
+    @Contract("_ -> !null")
+    default @NotNull OptionDouble filter(@NotNull @NonNull DoublePredicate predicate) {
+        if (this instanceof Some(double value) && predicate.test(value)) {
+            return this;
+        }
+        return none();
+    }
+
+    /**
+     * Returns the {@code OptionDouble} if it contains a value, otherwise returns {@code other}.
+     *
+     * @param other the other {@code OptionDouble} that should be returned instead if {@code this} is {@code None}
+     * @return an {@code OptionDouble} that is either {@code this} or the {@code other} {@code OptionDouble}
+     */
+    @Contract(pure = true)
+    default @NotNull OptionDouble or(@NotNull @NonNull OptionDouble other) {
+        return switch (this) {
+            case Some ignored -> this;
+            case None ignored -> other;
+        };
+    }
+
+    /**
+     * Returns the option if it contains a value, otherwise calls the supplier and returns the result.
+     *
+     * @param other a {@code Supplier} that provides the {@code other} {@code OptionDouble} in case that {@code this} is {@code None}
+     * @return the {@code OptionDouble} if it contains a value, otherwise the result of the {@code Supplier}
+     */
+    default @NotNull OptionDouble orElse(@NotNull @NonNull Supplier<@NotNull OptionDouble> other) {
+        return switch (this) {
+            case Some ignored -> this;
+            case None ignored -> other.get();
+        };
+    }
+
+    /**
+     * Returns {@code Some} if exactly one of {@code this}, {@code other} is {@code Some}, otherwise returns {@code None}.
+     *
+     * @param other the other {@code OptionDouble}
+     * @return an {@code OptionDouble} according to the above condition
+     */
+    @Contract(pure = true)
+    default @NotNull OptionDouble xOr(@NotNull @NonNull OptionDouble other) {
+        return switch (this) {
+            case Some ignored when other instanceof None -> this;
+            case None ignored when other instanceof Some -> other;
+            default -> none();
+        };
+    }
+
+    /**
+     * Creates a Java {@link java.util.OptionalDouble} out of the option.
+     *
+     * @return an optional containing the value of the option
+     */
+    @Override
+    @Contract(value = "-> new", pure = true)
+    default @NotNull OptionalDouble j() {
+        return toOptional();
+    }
+
+    /**
+     * Creates a Java {@link java.util.OptionalDouble} out of the option.
+     *
+     * @return an optional containing the value of the option
+     */
+    @Contract(value = "-> new", pure = true)
+    default @NotNull OptionalDouble toOptional() {
+        return switch (this) {
+            case Some(double value) -> OptionalDouble.of(value);
+            case None ignored -> OptionalDouble.empty();
+        };
+    }
+
+    /**
+     * Converts the {@code OptionDouble} into the equivalent {@code Option<Double>}.
+     *
+     * @return an {@code Option<Double>} that contains the boxed value if {@code this} is {@code Some}
+     */
+    @Contract(pure = true)
+    default @NotNull Option<Double> boxed() {
+        return switch (this) {
+            case Some(double value) -> Option.some(value);
+            case None ignored -> Option.none();
+        };
+    }
+
+    @Override
+    @Contract(pure = true)
+    default boolean isContinue() {
+        return isSome();
+    }
+
+    /**
+     * @return the contained value boxed into a {@code Double}; use {@link #unwrap()} to get it without boxing
+     *
+     * @throws WrongBranchError if {@code this} is {@code None}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull Double output() throws WrongBranchError {
+        return switch (this) {
+            case Some(double value) -> value;
+            case None ignored -> throw new WrongBranchError("None has no output!");
+        };
+    }
+
+    /**
+     * @return the shared {@code None}
+     *
+     * @throws WrongBranchError if {@code this} is {@code Some}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull OptionDouble residual() throws WrongBranchError {
+        return switch (this) {
+            case Some ignored -> throw new WrongBranchError("Some has no residual!");
+            case None ignored -> none();
+        };
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    static @NotNull OptionDouble some(double value) {
+        return new Some(value);
+    }
+
+    @Contract(value = "-> !null", pure = true)
+    static @NotNull OptionDouble none() {
+        return NONE;
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionDouble from(@Nullable Double value) {
+        if (value == null) {
+            return none();
+        }
+        return some(value);
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionDouble from(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @NotNull @NonNull OptionalDouble optional) {
+        if (optional.isPresent()) {
+            return some(optional.getAsDouble());
+        }
+        return none();
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionDouble from(@NotNull @NonNull Option<? extends @NotNull Double> option) {
+        return switch (option) {
+            case Option.Some<? extends Double>(Double value) -> some(value);
+            case Option.None<? extends Double> ignored -> none();
+        };
+    }
+}
@@ -0,0 +1,487 @@
+package the.oronco.adt;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+import org.intellij.lang.annotations.MagicConstant;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import the.oronco.Rusty;
+import the.oronco.adt.exceptions.UnwrappedBadValueException;
+import the.oronco.adt.exceptions.WrongBranchError;
+
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A specialization of {@link Option} for {@code int} values. A {@code Some} stores the value without boxing it into a {@link Integer}, which saves one
+ * object per value compared to an {@code Option<Integer>}.
+ * <p>
+ * Use {@link OptionInt#boxed()} and {@link OptionInt#from(Option)} to convert losslessly between both representations and
+ * {@link OptionInt#j()} and {@link OptionInt#from(java.util.OptionalInt)} for the Java equivalent {@link java.util.OptionalInt}.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public sealed interface OptionInt extends Rusty<OptionalInt>, Try<Integer, OptionInt>, Serializable {
+    @MagicConstant
+    None NONE = new None();
+
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @Unmodifiable
+    final class None implements OptionInt {}
+
+    @Unmodifiable record Some(int value) implements OptionInt {}
+
+    @Contract(pure = true)
+    default boolean isSome() {
+        return switch (this) {
+            case Some(var ignored) -> true;
+            case None ignored -> false;
+        };
+    }
+
+    @Contract(pure = true)
+    default boolean isNone() {
+        return switch (this) {
+            case Some(var ignored) -> false;
+            case None ignored -> true;
+        };
+    }
+
+    /**
+     * Returns true if the option is a Some and the value inside it matches a predicate.
+     *
+     * @param predicate predicate to evaluate the value against if the {@code OptionInt} is {@code Some}
+     * @return if the value exists && the predicate matches
+     */
+    default boolean isSomeAnd(@NotNull @NonNull IntPredicate predicate) {
+        return switch (this) {
+            case Some(int value) -> predicate.test(value);
+            case None ignored -> false;
+        };
+    }
+
+    /**
+     * Creates a {@link java.util.stream.IntStream} from the {@code OptionInt} that contains the value of {@code Some} and is empty otherwise.
+     *
+     * @return the stream that contains the value of {@code Some} and is empty otherwise
+     */
+    @Contract(pure = true)
+    default @NotNull IntStream stream() {
+        return switch (this) {
+            case Some(int value) -> IntStream.of(value);
+            case None ignored -> IntStream.empty();
+        };
+    }
+
+    /**
+     * @param errorMessage the error message that is thrown when the {@code OptionInt} is {@code None}
+     * @return the value if the {@code OptionInt} is {@code Some}
+     * @throws the.oronco.adt.exceptions.UnwrappedBadValueException with the given Error message when the {@code OptionInt} is {@code None}
+     */
+    default int unwrap(String errorMessage) throws @NotNull UnwrappedBadValueException {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> throw new UnwrappedBadValueException(errorMessage);
+        };
+    }
+
+    /**
+     * @param error the Exception that is thrown when the {@code OptionInt} is {@code None}
+     * @return the value if the {@code OptionInt} is {@code Some}
+     * @throws E with the given Exception when the {@code OptionInt} is {@code None}
+     */
+    default <E extends Exception> int unwrap(@NonNull E error) throws @NotNull E {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> throw error;
+        };
+    }
+
+    /**
+     * @param exceptionSupplier supplier that returns the Exception that is thrown when the {@code OptionInt} is {@code None}
+     * @return the value if the {@code OptionInt} is {@code Some}
+     * @throws E with the given Exception when the {@code OptionInt} is {@code None}
+     */
+    default <E extends Exception> int unwrapElse(@NotNull @NonNull Supplier<@NotNull E> exceptionSupplier) throws @NotNull E {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> throw exceptionSupplier.get();
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value and throws otherwise. (Similar to {@link OptionInt#unwrap(String)} but without a custom error
+     * message)
+     * <p>
+     * The usage of this method is discouraged as control flow through exceptions can be hard to understand and organize. Use
+     * {@link OptionInt#unwrapOr(int)} or {@link OptionInt#unwrapOrElse(IntSupplier)} instead.
+     *
+     * @return the value if the {@code OptionInt} is {@code Some}
+     * @throws the.oronco.adt.exceptions.UnwrappedBadValueException when the {@code OptionInt} is {@code None}
+     */
+    @Contract(pure = true)
+    default int unwrap() throws @NotNull UnwrappedBadValueException {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> throw new UnwrappedBadValueException("Option was unwrapped but it had no value!");
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value and a default value otherwise.
+     *
+     * @param defaultValue default value that should be returned in the case that {@code OptionInt} is {@code None}
+     * @return the value if the {@code OptionInt} is {@code Some} and the default value otherwise
+     */
+    @Contract(pure = true)
+    default int unwrapOr(int defaultValue) {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Some} value or computes it with the given {@code IntSupplier}.
+     *
+     * @param supplier the supplier that computes the value if {@code OptionInt} is {@code None}
+     * @return the value in {@code Some} or the result of the {@code IntSupplier}
+     */
+    default int unwrapOrElse(@NotNull @NonNull IntSupplier supplier) {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> supplier.getAsInt();
+        };
+    }
+
+    /**
+     * Maps an {@code OptionInt} to another {@code OptionInt} by applying a function to a contained value (if Some) or returns None (if None).
+     *
+     * @param f function that converts the value
+     * @return a new {@code OptionInt} with the converted value
+     */
+    default @NotNull OptionInt map(@NotNull @NonNull IntUnaryOperator f) {
+        return switch (this) {
+            case Some(int value) -> some(f.applyAsInt(value));
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Maps an {@code OptionInt} to {@code Option<R>} by applying a function to a contained value (if Some) or returns None (if None).
+     *
+     * @param f   function that converts the value to {@code R}
+     * @param <R> type that the value of a {@code Some} should be converted to
+     * @return a new {@code Option<R>} with the converted value
+     */
+    default <R> @NotNull Option<R> mapToObj(@NotNull @NonNull IntFunction<? extends @NotNull R> f) {
+        return switch (this) {
+            case Some(int value) -> Option.some(f.apply(value));
+            case None ignored -> Option.none();
+        };
+    }
+
+    /**
+     * Calls the provided {@code IntConsumer} with the contained value (if {@code Some}) and returns itself.
+     *
+     * @param consumer function that accepts the value (if {@code Some})
+     * @return the {@code OptionInt} it was called on
+     */
+    default @NotNull OptionInt inspect(@NotNull @NonNull IntConsumer consumer) {
+        if (this instanceof Some(int value)) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the provided default result (if {@code None}), or applies a function to the contained value (if {@code Some}).
+     * <p>
+     * Arguments passed to {@link OptionInt#mapOr(IntFunction, Object)} are eagerly evaluated; if you are passing the result of a function call,
+     * it is recommended to use {@link OptionInt#mapOrElse(IntFunction, Supplier)}, which is lazily evaluated.
+     *
+     * @param defaultValue default value that is returned if {@code None}
+     * @param f            function that converts the value in case of {@code Some}
+     * @param <R>          the target type that should be mapped to
+     * @return the mapped value or the default value if {@code None}
+     */
+    default <R> @NotNull R mapOr(@NotNull @NonNull IntFunction<? extends @NotNull R> f, @NotNull @NonNull R defaultValue) {
+        return switch (this) {
+            case Some(int value) -> f.apply(value);
+            case None ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Computes a default function result (if {@code None}), or applies a different function to the contained value (if {@code Some}).
+     *
+     * @param d   {@code Supplier<? extends R>} that supplies a value if {@code None}
+     * @param f   function that converts the value in case of {@code Some}
+     * @param <R> the target type that should be mapped to
+     * @return the mapped value or the default value if {@code None}
+     */
+    default <R> @NotNull R mapOrElse(@NotNull @NonNull IntFunction<? extends @NotNull R> f, @NotNull @NonNull Supplier<? extends @NotNull R> d) {
+        return switch (this) {
+            case Some(int value) -> f.apply(value);
+            case None ignored -> d.get();
+        };
+    }
+
+    /**
+     * Transforms the {@code OptionInt} into a {@code ResultInt<E>}, mapping {@code Some(v)} to {@code Ok(v)} and {@code None} to
+     * {@code Err(err)}.
+     * <p>
+     * Arguments passed to {@link OptionInt#okOr(Object)} are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use {@link OptionInt#okOrElse(Supplier)}, which is lazily evaluated.
+     *
+     * @param err error value that should be returned.
+     * @param <E> type of the error that should be returned
+     * @return a result representing the {@code OptionInt} in form of a {@code ResultInt<E>}
+     */
+    @Contract(value = "_ -> new", pure = true)
+    default <E> @NotNull ResultInt<E> okOr(@NotNull @NonNull E err) {
+        return switch (this) {
+            case Some(int value) -> ResultInt.ok(value);
+            case None ignored -> ResultInt.err(err);
+        };
+    }
+
+    /**
+     * Transforms the {@code OptionInt} into a {@code ResultInt<E>}, mapping {@code Some(v)} to {@code Ok(v)} and {@code None} to
+     * {@code Err(err())}.
+     *
+     * @param err a {@code Supplier<E>} of the error value that should be returned
+     * @param <E> type of the error that should be returned
+     * @return a result representing the {@code OptionInt} in form of a {@code ResultInt<E>}
+     */
+    @Contract("_ -> new")
+    default <E> @NotNull ResultInt<E> okOrElse(@NotNull @NonNull Supplier<? extends @NotNull E> err) {
+        return switch (this) {
+            case Some(int value) -> ResultInt.ok(value);
+            case None ignored -> ResultInt.err(err.get());
+        };
+    }
+
+    /**
+     * Returns an iterator over the possibly contained value.
+     *
+     * @return an iterator over the possibly contained value
+     */
+    @Contract(pure = true)
+    default @NotNull PrimitiveIterator.OfInt iter() {
+        return switch (this) {
+            case Some(int value) -> ZeroOrOnePrimitiveIterator.IntIterator.of(value);
+            case None ignored -> ZeroOrOnePrimitiveIterator.IntIterator.empty();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionInt} is {@code None}, otherwise returns {@code other}.
+     *
+     * @param other other {@code OptionInt} that should be returned when this is {@code Some}
+     * @return either the {@code other} {@code OptionInt} or {@code None} when this is {@code None}
+     */
+    @Contract(pure = true)
+    default @NotNull OptionInt and(@NotNull @NonNull OptionInt other) {
+        return switch (this) {
+            case Some ignored -> other;
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionInt} is {@code None}, otherwise calls the function with the wrapped value and returns the result.
+     *
+     * @param f function that creates the option that should be returned when this is {@code Some}
+     * @return either the result of {@code f(some.value)} or {@code None} when this is {@code None}
+     */
+    default @NotNull OptionInt andThen(@NotNull @NonNull IntFunction<@NotNull OptionInt> f) {
+        return switch (this) {
+            case Some(int value) -> f.apply(value);
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Returns {@code None} if the {@code OptionInt} is {@code None} or the wrapped value does not match the predicate, otherwise returns
+     * {@code this}.
+     *
+     * @param predicate predicate to filter the value on if it is {@code Some}
+     * @return an option that is either {@code Some} and conforms to the predicate or {@code None}
+     */
+    @Contract("_ -> !null")
+    default @NotNull OptionInt filter(@NotNull @NonNull IntPredicate predicate) {
+        if (this instanceof Some(int value) && predicate.test(value)) {
+            return this;
+        }
+        return none();
+    }
+
+    /**
+     * Returns the {@code OptionInt} if it contains a value, otherwise returns {@code other}.
+     *
+     * @param other the other {@code OptionInt} that should be returned instead if {@code this} is {@code None}
+     * @return an {@code OptionInt} that is either {@code this} or the {@code other} {@code OptionInt}
+     */
+    @Contract(pure = true)
+    default @NotNull OptionInt or(@NotNull @NonNull OptionInt other) {
+        return switch (this) {
+            case Some ignored -> this;
+            case None ignored -> other;
+        };
+    }
+
+    /**
+     * Returns the option if it contains a value, otherwise calls the supplier and returns the result.
+     *
+     * @param other a {@code Supplier} that provides the {@code other} {@code OptionInt} in case that {@code this} is {@code None}
+     * @return the {@code OptionInt} if it contains a value, otherwise the result of the {@code Supplier}
+     */
+    default @NotNull OptionInt orElse(@NotNull @NonNull Supplier<@NotNull OptionInt> other) {
+        return switch (this) {
+            case Some ignored -> this;
+            case None ignored -> other.get();
+        };
+    }
+
+    /**
+     * Returns {@code Some} if exactly one of {@code this}, {@code other} is {@code Some}, otherwise returns {@code None}.
+     *
+     * @param other the other {@code OptionInt}
+     * @return an {@code OptionInt} according to the above condition
+     */
+    @Contract(pure = true)
+    default @NotNull OptionInt xOr(@NotNull @NonNull OptionInt other) {
+        return switch (this) {
+            case Some ignored when other instanceof None -> this;
+            case None ignored when other instanceof Some -> other;
+            default -> none();
+        };
+    }
+
+    /**
+     * Creates a Java {@link java.util.OptionalInt} out of the option.
+     *
+     * @return an optional containing the value of the option
+     */
+    @Override
+    @Contract(value = "-> new", pure = true)
+    default @NotNull OptionalInt j() {
+        return toOptional();
+    }
+
+    /**
+     * Creates a Java {@link java.util.OptionalInt} out of the option.
+     *
+     * @return an optional containing the value of the option
+     */
+    @Contract(value = "-> new", pure = true)
+    default @NotNull OptionalInt toOptional() {
+        return switch (this) {
+            case Some(int value) -> OptionalInt.of(value);
+            case None ignored -> OptionalInt.empty();
+        };
+    }
+
+    /**
+     * Converts the {@code OptionInt} into the equivalent {@code Option<Integer>}.
+     *
+     * @return an {@code Option<Integer>} that contains the boxed value if {@code this} is {@code Some}
+     */
+    @Contract(pure = true)
+    default @NotNull Option<Integer> boxed() {
+        return switch (this) {
+            case Some(int value) -> Option.some(value);
+            case None ignored -> Option.none();
+        };
+    }
+
+    @Override
+    @Contract(pure = true)
+    default boolean isContinue() {
+        return isSome();
+    }
+
+    /**
+     * @return the contained value boxed into a {@code Integer}; use {@link #unwrap()} to get it without boxing
+     *
+     * @throws WrongBranchError if {@code this} is {@code None}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull Integer output() throws WrongBranchError {
+        return switch (this) {
+            case Some(int value) -> value;
+            case None ignored -> throw new WrongBranchError("None has no output!");
+        };
+    }
+
+    /**
+     * @return the shared {@code None}
+     *
+     * @throws WrongBranchError if {@code this} is {@code Some}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull OptionInt residual() throws WrongBranchError {
+        return switch (this) {
+            case Some ignored -> throw new WrongBranchError("Some has no residual!");
+            case None ignored -> none();
+        };
+    }
+
+    /**
+     * Creates a {@code Some} of the value. Values between -128 and 127 share a cached instance.
+     */
+    @Contract(value = "_ -> !null", pure = true)
+    static @NotNull OptionInt some(int value) {
+        OptionInt cached = Flyweights.cachedSome(value);
+        return cached != null ? cached : new Some(value);
+    }
+
+    @Contract(value = "-> !null", pure = true)
+    static @NotNull OptionInt none() {
+        return NONE;
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionInt from(@Nullable Integer value) {
+        if (value == null) {
+            return none();
+        }
+        return some(value);
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionInt from(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @NotNull @NonNull OptionalInt optional) {
+        if (optional.isPresent()) {
+            return some(optional.getAsInt());
+        }
+        return none();
+    }
+
+    @Contract(pure = true)
+    static @NotNull OptionInt from(@NotNull @NonNull Option<? extends @NotNull Integer> option) {
+        return switch (option) {
+            case Option.Some<? extends Integer>(Integer value) -> some(value);
+            case Option.None<? extends Integer> ignored -> none();
+        };
+    }
+}
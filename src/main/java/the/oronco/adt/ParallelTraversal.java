@@ -0,0 +1,122 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import the.oronco.adt.funcs.ThrowingFunction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of {@link Result#parallelTraverse(List, ThrowingFunction, ForkJoinPool)}.
+ * <p>
+ * The input is split in halves until the ranges are small enough, every leaf converts its range in order and stores the results at their input
+ * index. The first error is tracked together with its index: once an error is known, all work on indices after it is skipped, because only an
+ * error at a smaller index could still change the outcome. Tasks that cover smaller indices keep running, so the returned error is always the
+ * first one in encounter order.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+final class ParallelTraversal<T, R, X extends Exception> {
+    /**
+     * Number of leaves per worker; more leaves than workers keep the workers busy if some elements take longer than others.
+     */
+    private static final int LEAVES_PER_WORKER = 4;
+
+    private record FirstError<X>(int index, @Nullable X error) {}
+
+    private static final FirstError<?> NO_ERROR = new FirstError<>(Integer.MAX_VALUE, null);
+
+    private final Object[] inputs;
+    private final Object[] outputs;
+    private final ThrowingFunction<? super T, ? extends R, ? extends X> f;
+    private final int leafSize;
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<FirstError<X>> firstError = new AtomicReference<>((FirstError<X>) NO_ERROR);
+
+    private ParallelTraversal(@NotNull List<? extends T> values, @NotNull ThrowingFunction<? super T, ? extends R, ? extends X> f, int parallelism) {
+        this.inputs = values.toArray();
+        this.outputs = new Object[inputs.length];
+        this.f = f;
+        this.leafSize = Math.max(1, inputs.length / (parallelism * LEAVES_PER_WORKER));
+    }
+
+    static <T, R, X extends Exception> @NotNull Result<List<R>, X> traverse(@NotNull List<? extends T> values,
+                                                                             @NotNull ThrowingFunction<? super T, ? extends R, ? extends X> f,
+                                                                             @NotNull ForkJoinPool pool) {
+        var traversal = new ParallelTraversal<T, R, X>(values, f, pool.getParallelism());
+        if (traversal.inputs.length > 0) {
+            pool.invoke(traversal.new Range(0, traversal.inputs.length));
+        }
+        return traversal.result();
+    }
+
+    @SuppressWarnings("unchecked") // every output was set by f to an R as no error occurred
+    private @NotNull Result<List<R>, X> result() {
+        FirstError<X> first = firstError.get();
+        if (first.error() != null) {
+            return Result.err(first.error());
+        }
+        return Result.ok((List<R>) Collections.unmodifiableList(Arrays.asList(outputs)));
+    }
+
+    /**
+     * @return {@code true} if an error at an index before {@code index} is already known
+     */
+    private boolean cancelledAt(int index) {
+        return firstError.get()
+                         .index() < index;
+    }
+
+    private void recordError(int index, X error) {
+        FirstError<X> candidate = new FirstError<>(index, error);
+        FirstError<X> current = firstError.get();
+        while (index < current.index() && !firstError.compareAndSet(current, candidate)) {
+            current = firstError.get();
+        }
+    }
+
+    private final class Range extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        private Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelledAt(from)) {
+                return;
+            }
+            if (to - from <= leafSize) {
+                convert();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Range(from, middle), new Range(middle, to));
+        }
+
+        @SuppressWarnings("unchecked") // the inputs were taken from a List<? extends T>
+        private void convert() {
+            for (int i = from; i < to; i++) {
+                if (cancelledAt(i)) {
+                    return;
+                }
+                switch (f.apply((T) inputs[i])) {
+                    case Result.Ok<? extends R, ? extends X>(R output) -> outputs[i] = output;
+                    case Result.Err<? extends R, ? extends X>(X error) -> {
+                        recordError(i, error);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import the.oronco.tuple.Pair;
+import the.oronco.tuple.Triplet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Implementation of the partitioning collectors of {@link Result}.
+ * <p>
+ * Both kinds of collectors accumulate into {@link Buffers} that keep at most a given number of errors, but count all of them. The ordered
+ * collectors use one buffer per stream segment like any other collector. The concurrent ones give every thread its own buffer in a map that
+ * belongs to the collection, so the threads never contend while accumulating; the buffers are only merged once in the finisher.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class Partitioning {
+    private final int UNBOUNDED = Integer.MAX_VALUE;
+
+    <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Pair<List<T>, List<E>>> ordered() {
+        return ordered(UNBOUNDED, Buffers::toPair);
+    }
+
+    <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Triplet<List<T>, List<E>, Long>> ordered(int maxErrors) {
+        return ordered(checkedBound(maxErrors), Buffers::toTriplet);
+    }
+
+    <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Pair<List<T>, List<E>>> concurrent() {
+        return concurrent(UNBOUNDED, Buffers::toPair);
+    }
+
+    <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Triplet<List<T>, List<E>, Long>> concurrent(int maxErrors) {
+        return concurrent(checkedBound(maxErrors), Buffers::toTriplet);
+    }
+
+    private <T, E, R> @NotNull Collector<Result<? extends T, ? extends E>, ?, R> ordered(int maxErrors, Function<Buffers<T, E>, R> finisher) {
+        return Collector.of(() -> new Buffers<T, E>(maxErrors), Buffers::add, Buffers::merge, finisher);
+    }
+
+    private <T, E, R> @NotNull Collector<Result<? extends T, ? extends E>, ?, R> concurrent(int maxErrors,
+                                                                                            Function<Buffers<T, E>, R> finisher) {
+        return Collector.of(() -> new ThreadBuffers<T, E>(maxErrors),
+                            ThreadBuffers::add,
+                            ThreadBuffers::merge,
+                            buffers -> finisher.apply(buffers.drain()),
+                            Collector.Characteristics.CONCURRENT,
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    private int checkedBound(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("The maximum number of kept errors must not be negative but was %d!".formatted(maxErrors));
+        }
+        return maxErrors;
+    }
+
+    private static final class Buffers<T, E> {
+        private final ArrayList<T> oks = new ArrayList<>();
+        private final ArrayList<E> errors = new ArrayList<>();
+        private final int maxErrors;
+        private long errorCount;
+
+        private Buffers(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void add(Result<? extends T, ? extends E> result) {
+            switch (result) {
+                case Result.Ok<? extends T, ? extends E>(T value) -> oks.add(value);
+                case Result.Err<? extends T, ? extends E>(E error) -> {
+                    if (errors.size() < maxErrors) {
+                        errors.add(error);
+                    }
+                    errorCount++;
+                }
+            }
+        }
+
+        /**
+         * Appends the contents of {@code other}, which holds the elements after the ones of {@code this}.
+         */
+        private Buffers<T, E> merge(Buffers<T, E> other) {
+            oks.addAll(other.oks);
+            int room = maxErrors - errors.size();
+            errors.addAll(other.errors.size() <= room ? other.errors : other.errors.subList(0, room));
+            errorCount += other.errorCount;
+            return this;
+        }
+
+        private void clear() {
+            oks.clear();
+            oks.trimToSize();
+            errors.clear();
+            errors.trimToSize();
+        }
+
+        private Pair<List<T>, List<E>> toPair() {
+            return Pair.of(Collections.unmodifiableList(oks), Collections.unmodifiableList(errors));
+        }
+
+        private Triplet<List<T>, List<E>, Long> toTriplet() {
+            return Triplet.of(Collections.unmodifiableList(oks), Collections.unmodifiableList(errors), errorCount);
+        }
+    }
+
+    /**
+     * The buffers of one concurrent collection, one per accumulating thread. They are kept in a map of this collection rather than in a
+     * {@link ThreadLocal}, so that nothing stays reachable from the worker threads once the collection is done.
+     */
+    private static final class ThreadBuffers<T, E> {
+        private final int maxErrors;
+        private final ConcurrentHashMap<Thread, Buffers<T, E>> byThread = new ConcurrentHashMap<>();
+
+        private ThreadBuffers(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void add(Result<? extends T, ? extends E> result) {
+            Thread thread = Thread.currentThread();
+            Buffers<T, E> buffers = byThread.get(thread);
+            if (buffers == null) {
+                buffers = byThread.computeIfAbsent(thread, t -> new Buffers<>(maxErrors));
+            }
+            buffers.add(result);
+        }
+
+        private ThreadBuffers<T, E> merge(ThreadBuffers<T, E> other) {
+            other.byThread.forEach((thread, buffers) -> byThread.merge(thread, buffers, Buffers::merge));
+            other.byThread.clear();
+            return this;
+        }
+
+        /**
+         * Merges all buffers into the first one, emptying the others as it goes so that the peak memory stays at about one copy of the
+         * elements.
+         */
+        private Buffers<T, E> drain() {
+            Buffers<T, E> merged = null;
+            for (Buffers<T, E> buffers : byThread.values()) {
+                if (merged == null) {
+                    merged = buffers;
+                } else {
+                    merged.merge(buffers);
+                    buffers.clear();
+                }
+            }
+            byThread.clear();
+            return merged == null ? new Buffers<>(maxErrors) : merged;
+        }
+    }
+}
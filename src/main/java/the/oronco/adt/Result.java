@@ -3,12 +3,16 @@ package the.oronco.adt;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -19,12 +23,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.springframework.data.util.Streamable;
 import the.oronco.Rusty;
-import the.oronco.adt.ControlFlow.Break;
-import the.oronco.adt.ControlFlow.Continue;
 import the.oronco.adt.exceptions.ResultExpectedToBeErrorException;
 import the.oronco.adt.exceptions.ResultExpectedToBeOkException;
+import the.oronco.adt.exceptions.WrongBranchError;
 import the.oronco.adt.exceptions.WrongKindOfExceptionError;
 import the.oronco.adt.funcs.ThrowingFunction;
+import the.oronco.tuple.Pair;
+import the.oronco.tuple.Triplet;
 
 // TODO examples like in the rust documentation
 // TODO replace exceptions with better exceptions
@@ -42,17 +47,19 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
     Result.GOOD GOOD = new GOOD();
 
     @Unmodifiable record Ok<T, E>(@NotNull @NonNull T result) implements Result<@NotNull T, @NotNull E> {
-        @Contract(value = "-> new", pure = true)
+        @Contract(value = "-> this", pure = true)
+        @SuppressWarnings("unchecked") // the error type of an Ok only exists for the compiler
         public <F> Result<T, F> as() {
-            return Result.ok(this.result);
+            return (Result<T, F>) this;
         }
     }
 
     @Unmodifiable record Err<T, E>(@NotNull @NonNull E error) implements Result<T, E> {
-        @Contract(value = "-> new", pure = true)
+        @Contract(value = "-> this", pure = true)
         @Unmodifiable
+        @SuppressWarnings("unchecked") // the result type of an Err only exists for the compiler
         public <R> Result<R, E> as() {
-            return Result.err(this.error);
+            return (Result<R, E>) this;
         }
     }
 
@@ -135,10 +142,14 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
      * @return a new result with a converted value
      */
     @Override
+    @SuppressWarnings("unchecked") // only reinterpreted if the mapped value is the contained value, which then has to be an U
     default <U> @NotNull Result<U, E> map(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull U> f) {
         return switch (this) {
-            case Ok<T, E> ok -> ok(f.apply(ok.result));
-            case Err<T, E>(E error) -> err(error);
+            case Ok<T, E> ok -> {
+                U mapped = f.apply(ok.result);
+                yield mapped == ok.result ? (Result<U, E>) ok : ok(mapped);
+            }
+            case Err<T, E> err -> err.as();
         };
     }
 
@@ -161,9 +172,9 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
                                                                                        @NotNull @NonNull Function<? super @NotNull X, ? extends @NotNull E> ef) throws
                                                                                                                                                                 WrongKindOfExceptionError {
         return switch (this) {
-            case Result.Ok<T, E>(T result) -> f.andThen(r -> r.mapErr(ef))
-                                               .apply(result);
-            case Result.Err<T, E>(E error) -> Result.err(error);
+            case Result.Ok<T, E>(T result) -> f.apply(result)
+                                               .mapErr(ef);
+            case Result.Err<T, E> err -> err.as();
         };
     }
 
@@ -221,7 +232,7 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
      */
     default <U> Result<T, U> mapErr(@NotNull @NonNull Function<? super @NotNull E, ? extends @NotNull U> f) {
         return switch (this) {
-            case Ok<T, E>(T result) -> ok(result);
+            case Ok<T, E> ok -> ok.as();
             case Err<T, E>(E error) -> err(f.apply(error));
         };
     }
@@ -262,26 +273,31 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
     @Override
     default @NotNull Iterator<T> iterator() {
         return switch (this) {
-            case Ok<T, E>(T result) -> Stream.of(result)
-                                             .iterator();
-            case Err<T, E> ignored -> Collections.emptyIterator();
+            case Ok<T, E>(T result) -> ZeroOrOneIterator.of(result);
+            case Err<T, E> ignored -> ZeroOrOneIterator.empty();
         };
     }
 
-    // TODO use custom iterator
     default @NotNull Iterator<T> iter() {
         return switch (this) {
-            case Ok<T, E>(T result) -> Stream.of(result)
-                                             .iterator();
-            case Err<T, E> ignored -> Collections.emptyIterator();
+            case Ok<T, E>(T result) -> ZeroOrOneIterator.of(result);
+            case Err<T, E> ignored -> ZeroOrOneIterator.empty();
+        };
+    }
+
+    @Override
+    default @NotNull Spliterator<T> spliterator() {
+        return switch (this) {
+            case Ok<T, E>(T result) -> ZeroOrOneIterator.of(result);
+            case Err<T, E> ignored -> ZeroOrOneIterator.empty();
         };
     }
 
     @Override
     default @NotNull Stream<T> stream() {
         return switch (this) {
-            case Ok<T, E>(T result) -> Stream.of(result);
-            case Err<T, E> ignored -> Stream.of();
+            case Ok<T, E>(T result) -> ZeroOrOneIterator.streamOf(result);
+            case Err<T, E> ignored -> ZeroOrOneIterator.emptyStream();
         };
     }
 
@@ -480,7 +496,7 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
     default <U> @NotNull Result<U, E> and(@NotNull @NonNull Result<U, E> other) {
         return switch (this) {
             case Ok<T, E> ignored -> other;
-            case Err<T, E>(E error) -> err(error);
+            case Err<T, E> err -> err.as();
         };
     }
 
@@ -498,7 +514,7 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
     default <U> @NotNull Result<? extends U, ? extends E> andThen(@NotNull @NonNull Function<? super @NotNull T, @NotNull Result<? extends U, ? extends E>> f) {
         return switch (this) {
             case Ok<T, E>(T result) -> f.apply(result);
-            case Err<T, E>(E error) -> err(error);
+            case Err<T, E> err -> err.as();
         };
     }
 
@@ -515,7 +531,7 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
      */
     default <F> @NotNull Result<T, F> or(@NotNull @NonNull Result<T, F> other) {
         return switch (this) {
-            case Ok<T, E>(T result) -> ok(result);
+            case Ok<T, E> ok -> ok.as();
             case Err<T, E> ignored -> other;
         };
     }
@@ -533,7 +549,7 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
      */
     default <F> @NotNull Result<? extends T, ? extends F> orThen(@NotNull @NonNull Function<? super @NotNull E, Result<? extends T, ? extends F>> f) {
         return switch (this) {
-            case Ok<T, E>(T result) -> ok(result);
+            case Ok<T, E> ok -> ok.as();
             case Err<T, E>(E error) -> f.apply(error);
         };
     }
@@ -551,14 +567,22 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
         return new Err<>(error);
     }
 
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(value = "_ -> !null", pure = true)
+    @SuppressWarnings("unchecked") // Ok(GOOD) is shared between all error types
     static <T, E> @NotNull Result<T, E> ok(@NotNull @NonNull T result) {
+        if (result == GOOD) {
+            return (Result<T, E>) Flyweights.OK_GOOD;
+        }
         return new Ok<>(result);
     }
 
-    @Contract(value = " -> new", pure = true)
+    /**
+     * @return the shared {@code Ok(GOOD)}
+     */
+    @Contract(value = " -> !null", pure = true)
+    @SuppressWarnings("unchecked") // the error type of an Ok only exists for the compiler
     static <E> @NotNull Ok<GOOD, E> good() {
-        return new Ok<>(GOOD);
+        return (Ok<GOOD, E>) Flyweights.OK_GOOD;
     }
 
     static <T, E> @NotNull Result<T, E> from(T value, @NotNull @NonNull E error) {
@@ -576,6 +600,143 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
         };
     }
 
+    /**
+     * Turns a stream of results into a result of a list. The list contains the successful results in encounter order if all results were
+     * {@code Ok}, otherwise the first {@code Err} is returned.
+     * <p>
+     * Elements are pulled from the stream one at a time and no further element is evaluated once an {@code Err} was seen.
+     *
+     * @param results the results to combine
+     * @param <T>     type of the successful results
+     * @param <E>     type of the error
+     *
+     * @return an {@code Ok} of an unmodifiable list of all successful results or the first {@code Err}
+     */
+    static <T, E> @NotNull Result<List<T>, E> sequence(@NotNull @NonNull Stream<? extends @NotNull Result<? extends T, ? extends E>> results) {
+        return Traversals.traverseResults(results.spliterator(), Function.identity());
+    }
+
+    /**
+     * Applies {@code f} to the values in encounter order and collects the successful results into a list. Stops at the first {@code Err}, which
+     * is then returned; neither {@code f} nor the stream is evaluated for the remaining values.
+     *
+     * @param values the values to convert
+     * @param f      conversion that can fail
+     * @param <S>    type of the values
+     * @param <T>    type of the successful results
+     * @param <E>    type of the error
+     *
+     * @return an {@code Ok} of an unmodifiable list of all converted values or the first {@code Err}
+     */
+    static <S, T, E> @NotNull Result<List<T>, E> traverse(@NotNull @NonNull Stream<? extends S> values,
+                                                           @NotNull @NonNull Function<? super S, ? extends @NotNull Result<? extends T, ? extends E>> f) {
+        return Traversals.traverseResults(values.spliterator(), f);
+    }
+
+    /**
+     * Collector version of {@link #sequence(Stream)}. It keeps the first {@code Err} in encounter order and ignores all elements after it, but as
+     * a collector cannot stop its stream the remaining elements are still evaluated. Prefer {@link #sequence(Stream)} when that matters.
+     *
+     * @param <T> type of the successful results
+     * @param <E> type of the error
+     *
+     * @return a collector that combines results into a result of a list
+     */
+    static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Result<List<T>, E>> sequenceCollector() {
+        return Traversals.resultCollector();
+    }
+
+    /**
+     * Collects results into the list of the successful results and the list of errors, both in encounter order.
+     *
+     * @param <T> type of the successful results
+     * @param <E> type of the error
+     *
+     * @return a collector that partitions results into a pair of unmodifiable lists of the successful results and the errors
+     */
+    static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Pair<List<T>, List<E>>> partitioning() {
+        return Partitioning.ordered();
+    }
+
+    /**
+     * Like {@link #partitioning()} but keeps only the first {@code maxErrors} errors, so that a stream with a huge number of errors cannot
+     * exhaust the memory. The total number of errors is still counted.
+     *
+     * @param maxErrors the maximum number of errors to keep
+     * @param <T>       type of the successful results
+     * @param <E>       type of the error
+     *
+     * @return a collector that partitions results into a triplet of the successful results, the kept errors and the total number of errors
+     *
+     * @throws IllegalArgumentException if {@code maxErrors} is negative
+     */
+    static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Triplet<List<T>, List<E>, Long>> partitioning(int maxErrors) {
+        return Partitioning.ordered(maxErrors);
+    }
+
+    /**
+     * Concurrent version of {@link #partitioning()} for parallel streams. Every thread collects into its own buffers which are merged once at the
+     * end; the order of the elements in the lists is not defined.
+     *
+     * @param <T> type of the successful results
+     * @param <E> type of the error
+     *
+     * @return a concurrent, unordered collector that partitions results into a pair of unmodifiable lists of the successful results and the errors
+     */
+    static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Pair<List<T>, List<E>>> partitioningConcurrent() {
+        return Partitioning.concurrent();
+    }
+
+    /**
+     * Concurrent version of {@link #partitioning(int)} for parallel streams. Which of the errors are kept is not defined.
+     *
+     * @param maxErrors the maximum number of errors to keep
+     * @param <T>       type of the successful results
+     * @param <E>       type of the error
+     *
+     * @return a concurrent, unordered collector that partitions results into a triplet of the successful results, the kept errors and the total
+     * number of errors
+     *
+     * @throws IllegalArgumentException if {@code maxErrors} is negative
+     */
+    static <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Triplet<List<T>, List<E>, Long>> partitioningConcurrent(int maxErrors) {
+        return Partitioning.concurrent(maxErrors);
+    }
+
+    /**
+     * Applies {@code f} to all values in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #parallelTraverse(List, ThrowingFunction, ForkJoinPool)
+     */
+    static <T, R, X extends Exception> @NotNull Result<List<R>, X> parallelTraverse(@NotNull @NonNull List<? extends T> values,
+                                                                                     @NotNull @NonNull ThrowingFunction<? super T, ? extends R, ? extends X> f) {
+        return parallelTraverse(values, f, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code f} to all values in parallel and collects the results into a list in input order. If {@code f} throws for any value the
+     * exception thrown for the first such value in input order is returned as an {@code Err}.
+     * <p>
+     * Once an exception was thrown, values after it are no longer converted, as they cannot change the outcome. Values before it still are, as one
+     * of them might throw as well.
+     *
+     * @param values the values to convert
+     * @param f      conversion that might throw
+     * @param pool   the pool to run the conversion on
+     * @param <T>    type of the values
+     * @param <R>    type of the converted values
+     * @param <X>    type of the thrown exception
+     *
+     * @return an {@code Ok} of an unmodifiable list of all converted values or the {@code Err} of the first exception
+     *
+     * @throws WrongKindOfExceptionError if {@code f} throws an exception that is not an {@code X}
+     */
+    static <T, R, X extends Exception> @NotNull Result<List<R>, X> parallelTraverse(@NotNull @NonNull List<? extends T> values,
+                                                                                     @NotNull @NonNull ThrowingFunction<? super T, ? extends R, ? extends X> f,
+                                                                                     @NotNull @NonNull ForkJoinPool pool) throws WrongKindOfExceptionError {
+        return ParallelTraversal.traverse(values, f, pool);
+    }
+
     /**
      * Allows for this to be returned by Spring JPA repositories.
      */
@@ -588,10 +749,37 @@ public sealed interface Result<T, E> extends Rusty<Optional<T>>, Try<T, Result<I
         };
     }
 
-    default @NotNull ControlFlow<Result<Infallible, E>, T> branch() {
+    @Override
+    @Contract(pure = true)
+    default boolean isContinue() {
+        return isOk();
+    }
+
+    /**
+     * @return the successful result
+     *
+     * @throws WrongBranchError if {@code this} is an {@code Err<T, E>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull T output() throws WrongBranchError {
+        return switch (this) {
+            case Ok<T, E>(T result) -> result;
+            case Err<T, E> ignored -> throw new WrongBranchError("Err has no output!");
+        };
+    }
+
+    /**
+     * @return {@code this} error, which is its own residual
+     *
+     * @throws WrongBranchError if {@code this} is an {@code Ok<T, E>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull Result<Infallible, E> residual() throws WrongBranchError {
         return switch (this) {
-            case Ok<T, E>(T result) -> new Continue<>(result);
-            case Err<T, E>(E error) -> new Break<>(err(error));
+            case Ok<T, E> ignored -> throw new WrongBranchError("Ok has no residual!");
+            case Err<T, E> err -> err.as();
         };
     }
 }
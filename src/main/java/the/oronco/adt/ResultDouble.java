@@ -0,0 +1,519 @@
+package the.oronco.adt;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import the.oronco.Rusty;
+import the.oronco.adt.exceptions.ResultExpectedToBeErrorException;
+import the.oronco.adt.exceptions.ResultExpectedToBeOkException;
+import the.oronco.adt.exceptions.WrongBranchError;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+
+/**
+ * A specialization of {@link Result} for {@code double} results. An {@code Ok} stores the result without boxing it into a {@link Double}, which saves
+ * one object per successful result compared to a {@code Result<Double, E>}.
+ * <p>
+ * Use {@link the.oronco.adt.funcs.ThrowingToDoubleFunction} to turn a method like {@code double parse(String) throws X} into a function that returns a
+ * {@code ResultDouble<X>}.
+ *
+ * @param <E> type of the error
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public sealed interface ResultDouble<E> extends Rusty<OptionalDouble>, Try<Double, ResultDouble<E>>, Serializable {
+
+    @Unmodifiable record Ok<E>(double result) implements ResultDouble<E> {
+        @Contract(pure = true)
+        @SuppressWarnings("unchecked") // the error type of an Ok only exists for the compiler
+        public <F> ResultDouble<F> as() {
+            return (ResultDouble<F>) this;
+        }
+    }
+
+    @Unmodifiable record Err<E>(@NotNull @NonNull E error) implements ResultDouble<E> {}
+
+    @Contract(pure = true)
+    default boolean isOk() {
+        return switch (this) {
+            case Ok<E> ignored -> true;
+            case Err<E> ignored -> false;
+        };
+    }
+
+    /**
+     * Returns {@code true} if the result is {@code Ok<E>} and the contained value matches the predicate.
+     *
+     * @param predicate condition that an {@code Ok<E>} result should conform to
+     *
+     * @return if the result is {@code Ok<E>} and conforms to the given predicate
+     */
+    default boolean isOkAnd(@NotNull @NonNull DoublePredicate predicate) {
+        return switch (this) {
+            case Ok<E>(double result) -> predicate.test(result);
+            case Err<E> ignored -> false;
+        };
+    }
+
+    @Contract(pure = true)
+    default boolean isErr() {
+        return switch (this) {
+            case Ok<E> ignored -> false;
+            case Err<E> ignored -> true;
+        };
+    }
+
+    /**
+     * Returns {@code true} if the result is {@code Err<E>} and the contained error matches the predicate.
+     *
+     * @param predicate condition that an {@code Err<E>} error value should conform to
+     *
+     * @return if the result is {@code Err<E>} and conforms to the given predicate
+     */
+    default boolean isErrAnd(@NotNull @NonNull Predicate<? super @NotNull E> predicate) {
+        return switch (this) {
+            case Ok<E> ignored -> false;
+            case Err<E>(E error) -> predicate.test(error);
+        };
+    }
+
+    /**
+     * Converts from {@code ResultDouble<E>} to {@code OptionDouble} discarding the error.
+     *
+     * @return an {@code OptionDouble} representing the {@code Ok<E>} if any
+     */
+    default @NotNull OptionDouble ok() {
+        return switch (this) {
+            case Ok<E>(double result) -> OptionDouble.some(result);
+            case Err<E> ignored -> OptionDouble.none();
+        };
+    }
+
+    /**
+     * Converts from {@code ResultDouble<E>} to {@code Option<E>} discarding the result.
+     *
+     * @return an {@code Option<E>} representing the {@code Err<E>} if any
+     */
+    default @NotNull Option<E> err() {
+        return switch (this) {
+            case Ok<E> ignored -> Option.none();
+            case Err<E>(E error) -> Option.some(error);
+        };
+    }
+
+    /**
+     * Maps the contained {@code Ok<E>} value with a function that stays in the {@code double} domain, leaving an {@code Err<E>} untouched.
+     *
+     * @param f function that converts the result
+     *
+     * @return a result with the converted value
+     */
+    default @NotNull ResultDouble<E> map(@NotNull @NonNull DoubleUnaryOperator f) {
+        return switch (this) {
+            case Ok<E>(double result) -> ok(f.applyAsDouble(result));
+            case Err<E> err -> err;
+        };
+    }
+
+    /**
+     * Maps a {@code ResultDouble<E>} to {@code Result<U, E>} by applying a function to a contained {@code Ok<E>} value, leaving an {@code Err<E>}
+     * value untouched.
+     *
+     * @param f   function that can convert the result to {@code U}
+     * @param <U> result type of the conversion if {@code this} result was {@code Ok<E>}
+     *
+     * @return a new result with a converted value
+     */
+    default <U> @NotNull Result<U, E> mapToObj(@NotNull @NonNull DoubleFunction<? extends @NotNull U> f) {
+        return switch (this) {
+            case Ok<E>(double result) -> Result.ok(f.apply(result));
+            case Err<E>(E error) -> Result.err(error);
+        };
+    }
+
+    /**
+     * Returns the provided default (if {@code Err<E>}), or applies a function to the contained value (if {@code Ok<E>}).
+     *
+     * @param f            function that can convert the result to {@code U}
+     * @param defaultValue value that is returned if {@code this} is an {@code Err<E>}
+     * @param <U>          result type of the conversion
+     *
+     * @return the converted value or the default
+     */
+    default <U> @NotNull U mapOr(@NotNull @NonNull DoubleFunction<? extends @NotNull U> f, @NotNull @NonNull U defaultValue) {
+        return switch (this) {
+            case Ok<E>(double result) -> f.apply(result);
+            case Err<E> ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Maps a {@code ResultDouble<E>} to {@code U} by applying fallback function {@code d} to a contained {@code Err<E>} value, or function
+     * {@code f} to a contained {@code Ok<E>} value.
+     *
+     * @param f   function mapping the value of a successful result
+     * @param d   function that provides a default given an error
+     * @param <U> type returned no matter if the result was {@code Ok<E>} or {@code Err<E>}
+     *
+     * @return the mapped result or a default value
+     */
+    default <U> U mapOrElse(@NotNull @NonNull DoubleFunction<? extends @NotNull U> f,
+                            @NotNull @NonNull Function<? super @NotNull E, ? extends @NotNull U> d) {
+        return switch (this) {
+            case Ok<E>(double result) -> f.apply(result);
+            case Err<E>(E error) -> d.apply(error);
+        };
+    }
+
+    /**
+     * Maps a {@code ResultDouble<E>} to {@code ResultDouble<F>} by applying a function to a contained {@code Err<E>} value, leaving an {@code Ok<E>}
+     * value untouched.
+     *
+     * @param f   function that converts the error
+     * @param <F> type of the new error
+     *
+     * @return a result containing either the unchanged successful result or a converted error
+     */
+    default <F> @NotNull ResultDouble<F> mapErr(@NotNull @NonNull Function<? super @NotNull E, ? extends @NotNull F> f) {
+        return switch (this) {
+            case Ok<E> ok -> ok.as();
+            case Err<E>(E error) -> err(f.apply(error));
+        };
+    }
+
+    /**
+     * Calls the provided consumer with the contained value (if {@code Ok<E>}).
+     *
+     * @param f consumer that wants the value
+     *
+     * @return the result it was called on
+     */
+    default @NotNull ResultDouble<E> inspect(@NotNull @NonNull DoubleConsumer f) {
+        if (this instanceof Ok<E>(double result)) {
+            f.accept(result);
+        }
+        return this;
+    }
+
+    /**
+     * Calls the provided consumer with the contained error (if {@code Err<E>}).
+     *
+     * @param f consumer that wants the error
+     *
+     * @return the result it was called on
+     */
+    default @NotNull ResultDouble<E> inspectErr(@NotNull @NonNull Consumer<? super @NotNull E> f) {
+        if (this instanceof Err<E>(E error)) {
+            f.accept(error);
+        }
+        return this;
+    }
+
+    default @NotNull DoubleStream stream() {
+        return switch (this) {
+            case Ok<E>(double result) -> DoubleStream.of(result);
+            case Err<E> ignored -> DoubleStream.empty();
+        };
+    }
+
+    default @NotNull PrimitiveIterator.OfDouble iter() {
+        return switch (this) {
+            case Ok<E>(double result) -> ZeroOrOnePrimitiveIterator.DoubleIterator.of(result);
+            case Err<E> ignored -> ZeroOrOnePrimitiveIterator.DoubleIterator.empty();
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value.
+     *
+     * @param message the message of the thrown error
+     *
+     * @return the successful result
+     *
+     * @throws ResultExpectedToBeOkException when {@code this} is an {@code Err<E>}
+     */
+    default double unwrap(String message) throws @NotNull ResultExpectedToBeOkException {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E> ignored -> throw new ResultExpectedToBeOkException(message);
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value.
+     *
+     * @param exception the thrown exception
+     *
+     * @return the successful result
+     *
+     * @throws X when {@code this} is an {@code Err<E>}
+     */
+    default <X extends Exception> double unwrap(@NotNull @NonNull X exception) throws @NotNull X {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E> ignored -> throw exception;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value.
+     *
+     * @param exceptionSupplier the supplier of the thrown exception which takes the contained error as an input
+     *
+     * @return the successful result
+     *
+     * @throws X when {@code this} is an {@code Err<E>}
+     */
+    default <X extends Exception> double unwrapElse(@NotNull @NonNull Function<? super @NotNull E, @NotNull X> exceptionSupplier) throws @NotNull X {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E>(E error) -> throw exceptionSupplier.apply(error);
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value.
+     *
+     * @return the successful result
+     *
+     * @throws ResultExpectedToBeOkException when {@code this} is an {@code Err<E>}; the message is provided by the {@code Err<E>}s value
+     */
+    default double unwrap() throws @NotNull ResultExpectedToBeOkException {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E>(E error) -> throw new ResultExpectedToBeOkException("Result was unwrapped but it was Err: %s".formatted(error));
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value or the provided {@code defaultValue}.
+     *
+     * @param defaultValue default value when {@code Err<E>}
+     *
+     * @return either the successful result value or the default value
+     */
+    default double unwrapOr(double defaultValue) {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E> ignored -> defaultValue;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Ok<E>} value or a default provided by the {@code defaultSupplier}.
+     *
+     * @param defaultSupplier supplier of the default value when {@code Err<E>}
+     *
+     * @return either the successful result value or the default value provided by the {@code defaultSupplier}
+     */
+    default double unwrapOrElse(@NotNull @NonNull DoubleSupplier defaultSupplier) {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E> ignored -> defaultSupplier.getAsDouble();
+        };
+    }
+
+    /**
+     * Returns the contained {@code Err<E>} value.
+     *
+     * @param message the message of the thrown exception when there was no error
+     *
+     * @return the error
+     *
+     * @throws ResultExpectedToBeErrorException when {@code this} is an {@code Ok<E>}
+     */
+    default @NotNull E unwrapErr(String message) throws @NotNull ResultExpectedToBeErrorException {
+        return switch (this) {
+            case Ok<E> ignored -> throw new ResultExpectedToBeErrorException(message);
+            case Err<E>(E error) -> error;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Err<E>} value.
+     *
+     * @param exception the exception that will be thrown when there was no error
+     *
+     * @return the error
+     *
+     * @throws X when {@code this} is an {@code Ok<E>}
+     */
+    default <X extends Exception> @NotNull E unwrapErr(@NonNull @NotNull X exception) throws @NotNull X {
+        return switch (this) {
+            case Ok<E> ignored -> throw exception;
+            case Err<E>(E error) -> error;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Err<E>} value.
+     *
+     * @param exceptionSupplier the supplier for the exception that will be thrown when there was no error
+     *
+     * @return the error
+     *
+     * @throws X when {@code this} is an {@code Ok<E>}
+     */
+    default <X extends Exception> @NotNull E unwrapErrElse(@NonNull @NotNull DoubleFunction<? extends @NotNull X> exceptionSupplier) throws @NotNull X {
+        return switch (this) {
+            case Ok<E>(double result) -> throw exceptionSupplier.apply(result);
+            case Err<E>(E error) -> error;
+        };
+    }
+
+    /**
+     * Returns the contained {@code Err<E>} value.
+     *
+     * @return the error
+     *
+     * @throws ResultExpectedToBeErrorException when {@code this} is an {@code Ok<E>}; the message is provided by the {@code Ok<E>}s value
+     */
+    default @NotNull E unwrapErr() throws @NotNull ResultExpectedToBeErrorException {
+        return switch (this) {
+            case Ok<E>(double result) -> throw new ResultExpectedToBeErrorException("Result was unwrapped but it was Ok: %s".formatted(result));
+            case Err<E>(E error) -> error;
+        };
+    }
+
+    /**
+     * Returns {@code other} if the result is {@code Ok<E>}, otherwise returns the {@code Err<E>} of {@code this}.
+     *
+     * @param other another result which should conditionally be returned depending on the success status of {@code this}
+     *
+     * @return the other result or the error of {@code this}
+     */
+    default @NotNull ResultDouble<E> and(@NotNull @NonNull ResultDouble<E> other) {
+        return switch (this) {
+            case Ok<E> ignored -> other;
+            case Err<E> err -> err;
+        };
+    }
+
+    /**
+     * Calls {@code f} if the result is {@code Ok<E>}, otherwise returns the {@code Err<E>} of {@code this}.
+     *
+     * @param f function that creates the result which is returned if {@code this} is successful
+     *
+     * @return the result of {@code f} or the error of {@code this}
+     */
+    default @NotNull ResultDouble<E> andThen(@NotNull @NonNull DoubleFunction<@NotNull ResultDouble<E>> f) {
+        return switch (this) {
+            case Ok<E>(double result) -> f.apply(result);
+            case Err<E> err -> err;
+        };
+    }
+
+    /**
+     * Returns {@code other} if the result is {@code Err<E>}, otherwise returns the {@code Ok<E>} value of {@code this}.
+     *
+     * @param other the fallback result in case {@code this} is an {@code Err<E>}
+     * @param <F>   type of the error of the other result
+     *
+     * @return {@code this} if it is successful {@code other} otherwise
+     */
+    default <F> @NotNull ResultDouble<F> or(@NotNull @NonNull ResultDouble<F> other) {
+        return switch (this) {
+            case Ok<E> ok -> ok.as();
+            case Err<E> ignored -> other;
+        };
+    }
+
+    /**
+     * Calls f if the result is {@code Err<E>}, otherwise returns the {@code Ok<E>} value of {@code this}.
+     *
+     * @param f   provider of the fallback result in case {@code this} is an {@code Err<E>}
+     * @param <F> type of the error of the other result
+     *
+     * @return {@code this} if it is successful the result of {@code f} otherwise
+     */
+    default <F> @NotNull ResultDouble<F> orThen(@NotNull @NonNull Function<? super @NotNull E, @NotNull ResultDouble<F>> f) {
+        return switch (this) {
+            case Ok<E> ok -> ok.as();
+            case Err<E>(E error) -> f.apply(error);
+        };
+    }
+
+    @Override
+    default @NotNull OptionalDouble j() {
+        return switch (this) {
+            case Ok<E>(double result) -> OptionalDouble.of(result);
+            case Err<E> ignored -> OptionalDouble.empty();
+        };
+    }
+
+    /**
+     * Converts the {@code ResultDouble<E>} into the equivalent {@code Result<Double, E>}.
+     *
+     * @return a {@code Result<Double, E>} that contains the boxed value if {@code this} is {@code Ok<E>}
+     */
+    default @NotNull Result<Double, E> boxed() {
+        return switch (this) {
+            case Ok<E>(double result) -> Result.ok(result);
+            case Err<E>(E error) -> Result.err(error);
+        };
+    }
+
+    @Override
+    @Contract(pure = true)
+    default boolean isContinue() {
+        return isOk();
+    }
+
+    /**
+     * @return the successful result boxed into a {@code Double}; use {@link #unwrap()} to get it without boxing
+     *
+     * @throws WrongBranchError if {@code this} is an {@code Err<E>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull Double output() throws WrongBranchError {
+        return switch (this) {
+            case Ok<E>(double result) -> result;
+            case Err<E> ignored -> throw new WrongBranchError("Err has no output!");
+        };
+    }
+
+    /**
+     * @return {@code this} error, which is its own residual
+     *
+     * @throws WrongBranchError if {@code this} is an {@code Ok<E>}
+     */
+    @Override
+    @Contract(pure = true)
+    default @NotNull ResultDouble<E> residual() throws WrongBranchError {
+        return switch (this) {
+            case Ok<E> ignored -> throw new WrongBranchError("Ok has no residual!");
+            case Err<E> err -> err;
+        };
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    static <E> @NotNull ResultDouble<E> ok(double result) {
+        return new Ok<>(result);
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    static <E> @NotNull ResultDouble<E> err(@NotNull @NonNull E error) {
+        return new Err<>(error);
+    }
+
+    static <E> @NotNull ResultDouble<E> from(@NotNull @NonNull Result<? extends @NotNull Double, E> result) {
+        return switch (result) {
+            case Result.Ok<? extends Double, E>(Double value) -> ok(value);
+            case Result.Err<? extends Double, E>(E error) -> err(error);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Implementation of {@link Result#traverse} and {@link Option#traverse} and their collectors.
+ * <p>
+ * The traversals pull one element at a time from the source with {@link Spliterator#tryAdvance(Consumer)} and stop as soon as they see the first
+ * {@code Err} or {@code None}, so the rest of the source is never evaluated. A collector cannot stop its source, so the collectors only stop
+ * doing work after the first failure.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class Traversals {
+
+    <S, T, E> @NotNull Result<List<T>, E> traverseResults(@NotNull Spliterator<? extends S> source,
+                                                            @NotNull Function<? super S, ? extends Result<? extends T, ? extends E>> f) {
+        var sink = new ResultSink<S, T, E>(presized(source), f);
+        //noinspection StatementWithEmptyBody
+        while (sink.error == null && source.tryAdvance(sink)) {
+        }
+        return sink.error == null ? Result.ok(Collections.unmodifiableList(sink.values)) : Result.err(sink.error);
+    }
+
+    <S, T> @NotNull Option<List<T>> traverseOptions(@NotNull Spliterator<? extends S> source,
+                                                      @NotNull Function<? super S, ? extends Option<? extends T>> f) {
+        var sink = new OptionSink<S, T>(presized(source), f);
+        //noinspection StatementWithEmptyBody
+        while (!sink.sawNone && source.tryAdvance(sink)) {
+        }
+        return sink.sawNone ? Option.none() : Option.some(Collections.unmodifiableList(sink.values));
+    }
+
+    <T, E> @NotNull Collector<Result<? extends T, ? extends E>, ?, Result<List<T>, E>> resultCollector() {
+        return Collector.of(() -> new ResultSink<Result<? extends T, ? extends E>, T, E>(new ArrayList<>(), Function.identity()),
+                            ResultSink::accept,
+                            ResultSink::combine,
+                            sink -> sink.error == null ? Result.ok(Collections.unmodifiableList(sink.values)) : Result.err(sink.error));
+    }
+
+    <T> @NotNull Collector<Option<? extends T>, ?, Option<List<T>>> optionCollector() {
+        return Collector.of(() -> new OptionSink<Option<? extends T>, T>(new ArrayList<>(), Function.identity()),
+                            OptionSink::accept,
+                            OptionSink::combine,
+                            sink -> sink.sawNone ? Option.none() : Option.some(Collections.unmodifiableList(sink.values)));
+    }
+
+    /**
+     * Creates a list that can hold all elements of the source without growing if the source knows its size.
+     */
+    private <T> @NotNull ArrayList<T> presized(@NotNull Spliterator<?> source) {
+        long size = source.getExactSizeIfKnown();
+        return size >= 0 && size <= Integer.MAX_VALUE - 8 ? new ArrayList<>((int) size) : new ArrayList<>();
+    }
+
+    private static final class ResultSink<S, T, E> implements Consumer<S> {
+        private final ArrayList<T> values;
+        private final Function<? super S, ? extends Result<? extends T, ? extends E>> f;
+        private @Nullable E error;
+
+        private ResultSink(ArrayList<T> values, Function<? super S, ? extends Result<? extends T, ? extends E>> f) {
+            this.values = values;
+            this.f = f;
+        }
+
+        @Override
+        public void accept(S element) {
+            if (error != null) {
+                return;
+            }
+            switch (f.apply(element)) {
+                case Result.Ok<? extends T, ? extends E>(T result) -> values.add(result);
+                case Result.Err<? extends T, ? extends E>(E err) -> error = err;
+            }
+        }
+
+        /**
+         * Keeps the first error in encounter order, as {@code this} holds the elements before the ones of {@code other}.
+         */
+        private ResultSink<S, T, E> combine(ResultSink<S, T, E> other) {
+            if (error == null) {
+                error = other.error;
+                if (error == null) {
+                    values.addAll(other.values);
+                }
+            }
+            return this;
+        }
+    }
+
+    private static final class OptionSink<S, T> implements Consumer<S> {
+        private final ArrayList<T> values;
+        private final Function<? super S, ? extends Option<? extends T>> f;
+        private boolean sawNone;
+
+        private OptionSink(ArrayList<T> values, Function<? super S, ? extends Option<? extends T>> f) {
+            this.values = values;
+            this.f = f;
+        }
+
+        @Override
+        public void accept(S element) {
+            if (sawNone) {
+                return;
+            }
+            switch (f.apply(element)) {
+                case Option.Some<? extends T>(T value) -> values.add(value);
+                case Option.None<? extends T> ignored -> sawNone = true;
+            }
+        }
+
+        private OptionSink<S, T> combine(OptionSink<S, T> other) {
+            if (!sawNone) {
+                sawNone = other.sawNone;
+                if (!sawNone) {
+                    values.addAll(other.values);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -1,11 +1,44 @@
 package the.oronco.adt;
 
+import org.jetbrains.annotations.NotNull;
+import the.oronco.adt.exceptions.WrongBranchError;
+
 /**
+ * Types that can be used for early returns like rusts {@code ?} operator. A value either continues with an output or breaks with a residual.
+ * <p>
+ * {@link #branch()} wraps the decision in a {@link ControlFlow}, which allocates on every call. In tight loops use the protocol underneath it
+ * instead, which does not allocate:
+ * <pre>
+ * {@code if (!result.isContinue()) return result.residual();}
+ * {@code var value = result.output();}
+ * </pre>
+ *
  * @author the_oronco@posteo.net
  * @since 11/02/2024
  */
 public interface Try<O//Output
         , R//Residual
 > {
-    ControlFlow<R, O> branch();
+    /**
+     * @return {@code true} if the value continues with an {@link #output()}, {@code false} if it breaks with a {@link #residual()}
+     */
+    boolean isContinue();
+
+    /**
+     * @return the value to continue with
+     *
+     * @throws WrongBranchError if {@link #isContinue()} is {@code false}
+     */
+    @NotNull O output() throws WrongBranchError;
+
+    /**
+     * @return the value to break with
+     *
+     * @throws WrongBranchError if {@link #isContinue()} is {@code true}
+     */
+    @NotNull R residual() throws WrongBranchError;
+
+    default ControlFlow<R, O> branch() {
+        return isContinue() ? new ControlFlow.Continue<>(output()) : new ControlFlow.Break<>(residual());
+    }
 }
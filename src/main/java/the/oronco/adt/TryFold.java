@@ -0,0 +1,99 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of {@link ControlFlow#tryFold} and the methods built on it.
+ * <p>
+ * A spliterator is pulled one element at a time with {@link Spliterator#tryAdvance(Consumer)}, so after a {@code Break} no further element is
+ * produced: for a spliterator of a stream this means that the rest of the pipeline is never run. The {@code Continue} returned by the last step
+ * is returned as is, so a fold only allocates what its step function allocates.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class TryFold {
+
+    <T, A, B> @NotNull ControlFlow<B, A> fold(@NotNull Iterator<? extends T> source,
+                                              @NotNull A init,
+                                              @NotNull BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f) {
+        ControlFlow<B, A> state = null;
+        A accumulator = init;
+        while (source.hasNext()) {
+            state = f.apply(accumulator, source.next());
+            switch (state) {
+                case ControlFlow.Continue<B, A>(A next) -> accumulator = next;
+                case ControlFlow.Break<B, A> ignored -> {
+                    return state;
+                }
+            }
+        }
+        return state == null ? new ControlFlow.Continue<>(init) : state;
+    }
+
+    <T, A, B> @NotNull ControlFlow<B, A> fold(@NotNull Spliterator<? extends T> source,
+                                              @NotNull A init,
+                                              @NotNull BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f) {
+        var sink = new FoldSink<T, A, B>(init, f);
+        while (source.tryAdvance(sink)) {
+            if (sink.state instanceof ControlFlow.Break<B, A>) {
+                return sink.state;
+            }
+        }
+        return sink.state == null ? new ControlFlow.Continue<>(init) : sink.state;
+    }
+
+    private static final class FoldSink<T, A, B> implements Consumer<T> {
+        private final BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f;
+        private A accumulator;
+        private @Nullable ControlFlow<B, A> state;
+
+        private FoldSink(A init, BiFunction<? super A, ? super T, ? extends ControlFlow<B, A>> f) {
+            this.accumulator = init;
+            this.f = f;
+        }
+
+        @Override
+        public void accept(T element) {
+            state = f.apply(accumulator, element);
+            if (state instanceof ControlFlow.Continue<B, A>(A next)) {
+                accumulator = next;
+            }
+        }
+    }
+
+    /**
+     * Step function of {@link ControlFlow#position} that counts the elements in a field instead of an accumulator, so the step does not box an
+     * index per element.
+     */
+    static final class PositionCounter<T> implements BiFunction<Result.GOOD, T, ControlFlow<Result.GOOD, Result.GOOD>> {
+        private final Predicate<? super T> predicate;
+        private long index;
+
+        PositionCounter(@NotNull Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public ControlFlow<Result.GOOD, Result.GOOD> apply(Result.GOOD good, T element) {
+            if (predicate.test(element)) {
+                return new ControlFlow.Break<>(good);
+            }
+            index++;
+            return ControlFlow.proceed();
+        }
+
+        @NotNull OptionLong position(@NotNull ControlFlow<Result.GOOD, Result.GOOD> flow) {
+            return flow.isBreak() ? OptionLong.some(index) : OptionLong.none();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package the.oronco.adt;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import the.oronco.Rusty;
+import the.oronco.tuple.Pair;
+import the.oronco.tuple.Triplet;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The outcome of a validation: either a {@code Valid} value or all errors found while validating it.
+ * <p>
+ * Unlike a {@link Result}, which stops at the first error, combining validations with {@link #zip(Validation)} or
+ * {@link #zipWith(Validation, BiFunction)} keeps the errors of both sides. The errors are kept in an {@link ErrorBuffer}, so accumulating them
+ * does not copy a list per step, and the capacity of the buffer bounds the number of kept errors.
+ * <p>
+ * Converting from and to a {@link Result} only wraps the value or the error in a new instance.
+ *
+ * @param <T> type of the valid value
+ * @param <E> type of the errors
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public sealed interface Validation<T, E> extends Rusty<Optional<T>>, Iterable<T>, Serializable {
+
+    @Unmodifiable record Valid<T, E>(@NotNull @NonNull T value) implements Validation<T, E> {
+        @Contract(value = "-> this", pure = true)
+        @SuppressWarnings("unchecked") // the error type of a Valid only exists for the compiler
+        public <F> Validation<T, F> as() {
+            return (Validation<T, F>) this;
+        }
+    }
+
+    /**
+     * @param errors the errors of the validation, at least one error must have been appended to it
+     */
+    @Unmodifiable record Invalid<T, E>(@NotNull @NonNull ErrorBuffer<E> errors) implements Validation<T, E> {
+        public Invalid {
+            if (errors.isEmpty()) {
+                throw new IllegalArgumentException("An invalid validation needs at least one error!");
+            }
+        }
+
+        @Contract(value = "-> this", pure = true)
+        @SuppressWarnings("unchecked") // the value type of an Invalid only exists for the compiler
+        public <U> Validation<U, E> as() {
+            return (Validation<U, E>) this;
+        }
+    }
+
+    @Contract(pure = true)
+    default boolean isValid() {
+        return switch (this) {
+            case Valid<T, E> ignored -> true;
+            case Invalid<T, E> ignored -> false;
+        };
+    }
+
+    @Contract(pure = true)
+    default boolean isInvalid() {
+        return switch (this) {
+            case Valid<T, E> ignored -> false;
+            case Invalid<T, E> ignored -> true;
+        };
+    }
+
+    /**
+     * @return the errors of an {@code Invalid} or an empty buffer for a {@code Valid}
+     */
+    default @NotNull ErrorBuffer<E> errors() {
+        return switch (this) {
+            case Valid<T, E> ignored -> ErrorBuffer.empty();
+            case Invalid<T, E>(ErrorBuffer<E> errors) -> errors;
+        };
+    }
+
+    /**
+     * Converts from {@code Validation<T, E>} to {@code Option<T>} discarding the errors.
+     *
+     * @return an {@code Option<T>} representing the {@code Valid<T, E>} if any
+     */
+    default @NotNull Option<T> ok() {
+        return switch (this) {
+            case Valid<T, E>(T value) -> Option.some(value);
+            case Invalid<T, E> ignored -> Option.none();
+        };
+    }
+
+    default <U> @NotNull Validation<U, E> map(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull U> f) {
+        return switch (this) {
+            case Valid<T, E>(T value) -> Validation.valid(f.apply(value));
+            case Invalid<T, E> invalid -> invalid.as();
+        };
+    }
+
+    /**
+     * Converts every error of an {@code Invalid}, leaving a {@code Valid} untouched.
+     *
+     * @param f   function that converts a single error
+     * @param <F> type of the converted errors
+     *
+     * @return the validation with converted errors
+     */
+    default <F> @NotNull Validation<T, F> mapErr(@NotNull @NonNull Function<? super @NotNull E, ? extends @NotNull F> f) {
+        return switch (this) {
+            case Valid<T, E> valid -> valid.as();
+            case Invalid<T, E>(ErrorBuffer<E> errors) -> new Invalid<>(errors.map(f));
+        };
+    }
+
+    /**
+     * Validates the value of a {@code Valid} further. This needs the value and therefore stops at an {@code Invalid}, use
+     * {@link #zipWith(Validation, BiFunction)} to validate independent values and keep all errors.
+     *
+     * @param f   the next validation step
+     * @param <U> type of the value of the next step
+     *
+     * @return the validation of the next step or this if it was invalid
+     */
+    default <U> @NotNull Validation<U, E> andThen(@NotNull @NonNull Function<? super @NotNull T, ? extends @NotNull Validation<U, E>> f) {
+        return switch (this) {
+            case Valid<T, E>(T value) -> f.apply(value);
+            case Invalid<T, E> invalid -> invalid.as();
+        };
+    }
+
+    /**
+     * Combines the values of two validations with {@code f} if both are valid and otherwise accumulates the errors of both, the ones of
+     * {@code this} first.
+     *
+     * @param other the other validation
+     * @param f     function that combines both values
+     * @param <U>   type of the other value
+     * @param <R>   type of the combined value
+     *
+     * @return the validation of the combined value
+     */
+    default <U, R> @NotNull Validation<R, E> zipWith(@NotNull @NonNull Validation<? extends U, ? extends E> other,
+                                                     @NotNull @NonNull BiFunction<? super @NotNull T, ? super @NotNull U, ? extends @NotNull R> f) {
+        if (this instanceof Valid<T, E>(T value) && other instanceof Valid<? extends U, ? extends E>(U otherValue)) {
+            return Validation.valid(f.apply(value, otherValue));
+        }
+        return new Invalid<>(concat(errors(), other.errors()));
+    }
+
+    /**
+     * @return a {@link Pair} of both values if both validations are valid or all errors of both
+     */
+    default <U> @NotNull Validation<Pair<T, U>, E> zip(@NotNull @NonNull Validation<? extends U, ? extends E> other) {
+        return zipWith(other, Pair::of);
+    }
+
+    /**
+     * @return a {@link Triplet} of all three values if all validations are valid or all errors of them in order
+     */
+    default <U, V> @NotNull Validation<Triplet<T, U, V>, E> zip(@NotNull @NonNull Validation<? extends U, ? extends E> second,
+                                                                @NotNull @NonNull Validation<? extends V, ? extends E> third) {
+        if (this instanceof Valid<T, E>(T value) && second instanceof Valid<? extends U, ? extends E>(U secondValue)
+            && third instanceof Valid<? extends V, ? extends E>(V thirdValue)) {
+            return Validation.valid(Triplet.of(value, secondValue, thirdValue));
+        }
+        return new Invalid<>(concat(concat(errors(), second.errors()), third.errors()));
+    }
+
+    /**
+     * Converts to a {@link Result} that holds all errors as its error.
+     *
+     * @return {@code Ok} with the valid value or {@code Err} with the errors
+     */
+    default @NotNull Result<T, ErrorBuffer<E>> toResult() {
+        return switch (this) {
+            case Valid<T, E>(T value) -> Result.ok(value);
+            case Invalid<T, E>(ErrorBuffer<E> errors) -> Result.err(errors);
+        };
+    }
+
+    @Override
+    default @NotNull Iterator<T> iterator() {
+        return switch (this) {
+            case Valid<T, E>(T value) -> ZeroOrOneIterator.of(value);
+            case Invalid<T, E> ignored -> ZeroOrOneIterator.empty();
+        };
+    }
+
+    default @NotNull Stream<T> stream() {
+        return switch (this) {
+            case Valid<T, E>(T value) -> ZeroOrOneIterator.streamOf(value);
+            case Invalid<T, E> ignored -> ZeroOrOneIterator.emptyStream();
+        };
+    }
+
+    default @NotNull T unwrapOr(@NotNull @NonNull T defaultValue) {
+        return switch (this) {
+            case Valid<T, E>(T value) -> value;
+            case Invalid<T, E> ignored -> defaultValue;
+        };
+    }
+
+    @Override
+    default @NotNull Optional<T> j() {
+        return switch (this) {
+            case Valid<T, E>(T value) -> Optional.of(value);
+            case Invalid<T, E> ignored -> Optional.empty();
+        };
+    }
+
+    /**
+     * Concatenates the errors of two validations. The errors of a {@code Valid} are skipped completely, so that the capacity of the errors of the
+     * {@code Invalid} is kept.
+     */
+    @SuppressWarnings("unchecked") // a buffer is immutable, so a buffer of a subtype of E is a buffer of E
+    private static <E> @NotNull ErrorBuffer<E> concat(@NotNull ErrorBuffer<? extends E> first, @NotNull ErrorBuffer<? extends E> second) {
+        if (first.isEmpty()) {
+            return (ErrorBuffer<E>) second;
+        }
+        return ((ErrorBuffer<E>) first).appendAll(second);
+    }
+
+    static <T, E> @NotNull Validation<T, E> valid(@NotNull @NonNull T value) {
+        return new Valid<>(value);
+    }
+
+    static <T, E> @NotNull Validation<T, E> invalid(@NotNull @NonNull E error) {
+        return new Invalid<>(ErrorBuffer.of(error));
+    }
+
+    /**
+     * @param error    the first error
+     * @param capacity the maximum number of errors that are kept when combining this validation with others
+     */
+    static <T, E> @NotNull Validation<T, E> invalid(@NotNull @NonNull E error, int capacity) {
+        return new Invalid<>(ErrorBuffer.of(error, capacity));
+    }
+
+    static <T, E> @NotNull Validation<T, E> invalid(@NotNull @NonNull ErrorBuffer<E> errors) {
+        return new Invalid<>(errors);
+    }
+
+    /**
+     * Converts a {@link Result} to a validation with a single error for an {@code Err}.
+     */
+    static <T, E> @NotNull Validation<T, E> from(@NotNull @NonNull Result<T, E> result) {
+        return switch (result) {
+            case Result.Ok<T, E>(T value) -> new Valid<>(value);
+            case Result.Err<T, E>(E error) -> Validation.invalid(error);
+        };
+    }
+
+    /**
+     * Converts a {@link Result} to a validation whose errors are bounded by {@code capacity} when it is combined with others.
+     */
+    static <T, E> @NotNull Validation<T, E> from(@NotNull @NonNull Result<T, E> result, int capacity) {
+        return switch (result) {
+            case Result.Ok<T, E>(T value) -> new Valid<>(value);
+            case Result.Err<T, E>(E error) -> Validation.invalid(error, capacity);
+        };
+    }
+}
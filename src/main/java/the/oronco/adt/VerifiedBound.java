@@ -0,0 +1,20 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Marks a bound that the factories of {@link Condition} already checked for the value they create a {@link Condition.Holds} for, so that its
+ * constructor does not check it a second time. The constructor unwraps it, so it is never stored in a {@code Holds}. It is package-private,
+ * which prevents code outside of this package from skipping the check.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+record VerifiedBound<T>(@NotNull Predicate<? super T> bound) implements Predicate<T> {
+    @Override
+    public boolean test(T value) {
+        return bound.test(value);
+    }
+}
@@ -0,0 +1,114 @@
+package the.oronco.adt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Iterator} and {@link Spliterator} over at most one element, used by the ADTs that contain a single value. Going through
+ * {@link Stream#of(Object)} to iterate over one value builds a whole stream pipeline, this only allocates the iterator itself and nothing at all
+ * when there is no value.
+ * <p>
+ * The spliterator reports its exact size and is {@code SIZED}, {@code SUBSIZED}, {@code IMMUTABLE} and {@code NONNULL}. It never splits, as
+ * there is nothing to split.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+final class ZeroOrOneIterator<T> implements Iterator<T>, Spliterator<T> {
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+
+    private static final ZeroOrOneIterator<?> EMPTY = new ZeroOrOneIterator<>(null);
+
+    /**
+     * The element that was not consumed yet, {@code null} once it was consumed or if there never was one.
+     */
+    private @Nullable T value;
+
+    private ZeroOrOneIterator(@Nullable T value) {
+        this.value = value;
+    }
+
+    static <T> @NotNull ZeroOrOneIterator<T> of(@NotNull T value) {
+        return new ZeroOrOneIterator<>(value);
+    }
+
+    /**
+     * @return the shared iterator without elements
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull ZeroOrOneIterator<T> empty() {
+        return (ZeroOrOneIterator<T>) EMPTY;
+    }
+
+    /**
+     * @return a sequential stream over the value
+     */
+    static <T> @NotNull Stream<T> streamOf(@NotNull T value) {
+        return StreamSupport.stream(of(value), false);
+    }
+
+    /**
+     * @return a sequential stream without elements
+     */
+    static <T> @NotNull Stream<T> emptyStream() {
+        return StreamSupport.stream(ZeroOrOneIterator.<T>empty(), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return value != null;
+    }
+
+    @Override
+    public T next() {
+        T next = value;
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        value = null;
+        return next;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+        T next = value;
+        if (next == null) {
+            return false;
+        }
+        value = null;
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(@NotNull Consumer<? super T> action) {
+        tryAdvance(action);
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return value == null ? 0 : 1;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
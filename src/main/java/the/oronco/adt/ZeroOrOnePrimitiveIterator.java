@@ -0,0 +1,130 @@
+package the.oronco.adt;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link PrimitiveIterator}s over at most one value, used by the primitive ADTs like {@link ZeroOrOneIterator} is used by the generic ones.
+ * Iterating over a {@link java.util.stream.LongStream#of(long)} builds a whole stream pipeline, these only allocate the iterator itself and
+ * nothing at all when there is no value.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+class ZeroOrOnePrimitiveIterator {
+
+    static final class LongIterator implements PrimitiveIterator.OfLong {
+        private static final LongIterator EMPTY = new LongIterator(0, false);
+
+        private final long value;
+        private boolean hasNext;
+
+        private LongIterator(long value, boolean hasNext) {
+            this.value = value;
+            this.hasNext = hasNext;
+        }
+
+        static @NotNull LongIterator of(long value) {
+            return new LongIterator(value, true);
+        }
+
+        /**
+         * @return the shared iterator without a value
+         */
+        static @NotNull LongIterator empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return value;
+        }
+    }
+
+    static final class IntIterator implements PrimitiveIterator.OfInt {
+        private static final IntIterator EMPTY = new IntIterator(0, false);
+
+        private final int value;
+        private boolean hasNext;
+
+        private IntIterator(int value, boolean hasNext) {
+            this.value = value;
+            this.hasNext = hasNext;
+        }
+
+        static @NotNull IntIterator of(int value) {
+            return new IntIterator(value, true);
+        }
+
+        /**
+         * @return the shared iterator without a value
+         */
+        static @NotNull IntIterator empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return value;
+        }
+    }
+
+    static final class DoubleIterator implements PrimitiveIterator.OfDouble {
+        private static final DoubleIterator EMPTY = new DoubleIterator(0, false);
+
+        private final double value;
+        private boolean hasNext;
+
+        private DoubleIterator(double value, boolean hasNext) {
+            this.value = value;
+            this.hasNext = hasNext;
+        }
+
+        static @NotNull DoubleIterator of(double value) {
+            return new DoubleIterator(value, true);
+        }
+
+        /**
+         * @return the shared iterator without a value
+         */
+        static @NotNull DoubleIterator empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return value;
+        }
+    }
+}
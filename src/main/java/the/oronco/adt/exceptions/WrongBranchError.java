@@ -0,0 +1,11 @@
+package the.oronco.adt.exceptions;
+
+/**
+ * Should be raised, when the output of a {@link the.oronco.adt.Try} that breaks or the residual of one that continues is requested.
+ **/
+public class WrongBranchError extends RuntimeException {
+
+    public WrongBranchError(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package the.oronco.adt.funcs;
+
+import the.oronco.adt.ResultDouble;
+import the.oronco.adt.exceptions.WrongKindOfExceptionError;
+
+import java.util.function.Function;
+
+/**
+ * A {@link ThrowingFunction} that produces a {@code double}. The result is returned as a {@link ResultDouble} so that a method like
+ * {@code double parse(String) throws X} can be used without boxing its result.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@FunctionalInterface
+public interface ThrowingToDoubleFunction<T, X extends Exception> extends Function<T, ResultDouble<X>> {
+    double applyThrowing(T input) throws X;
+
+    /**
+     * Default {@link Function#apply(Object)} that wraps any thrown exception of the expected type in an error.
+     *
+     * @see java.util.function.Function#apply(java.lang.Object)
+     */
+    @Override
+    default ResultDouble<X> apply(T t) throws WrongKindOfExceptionError {
+        try {
+            return ResultDouble.ok(applyThrowing(t));
+        } catch (Exception thrownException) {
+            try {
+                @SuppressWarnings("unchecked")
+                X exception = (X) thrownException;
+                return ResultDouble.err(exception);
+            } catch (ClassCastException castException) {
+                throw new WrongKindOfExceptionError(
+                        (
+                                "The Exception that was thrown (%s) by the Function did not match the Exception that "
+                                + "was expected to be thrown by it. Either go up a few levels in the Exception "
+                                + "inheritance hierarchy or fix your method calls!").formatted(thrownException.getClass()
+                                                                                                              .getSimpleName()),
+                        thrownException);
+            }
+        }
+    }
+
+    /**
+     * Lambda friendly convenience method that can be used to create a {@link ThrowingToDoubleFunction} from a method reference e.g.:
+     * <pre class="code">
+     * stream.map(ThrowingToDoubleFunction.of(Double::parseDouble));
+     * </pre>
+     *
+     * @param <T>      the type of the input to the function
+     * @param <X>      the type of the thrown exception
+     * @param function the source function
+     * @return a new {@link ThrowingToDoubleFunction} instance
+     */
+    static <T, X extends Exception> ThrowingToDoubleFunction<T, X> of(ThrowingToDoubleFunction<T, X> function) {
+        return function;
+    }
+}
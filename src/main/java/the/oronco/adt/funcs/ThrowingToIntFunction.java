@@ -0,0 +1,59 @@
+package the.oronco.adt.funcs;
+
+import the.oronco.adt.ResultInt;
+import the.oronco.adt.exceptions.WrongKindOfExceptionError;
+
+import java.util.function.Function;
+
+/**
+ * A {@link ThrowingFunction} that produces a {@code int}. The result is returned as a {@link ResultInt} so that a method like
+ * {@code int parse(String) throws X} can be used without boxing its result.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@FunctionalInterface
+public interface ThrowingToIntFunction<T, X extends Exception> extends Function<T, ResultInt<X>> {
+    int applyThrowing(T input) throws X;
+
+    /**
+     * Default {@link Function#apply(Object)} that wraps any thrown exception of the expected type in an error.
+     *
+     * @see java.util.function.Function#apply(java.lang.Object)
+     */
+    @Override
+    default ResultInt<X> apply(T t) throws WrongKindOfExceptionError {
+        try {
+            return ResultInt.ok(applyThrowing(t));
+        } catch (Exception thrownException) {
+            try {
+                @SuppressWarnings("unchecked")
+                X exception = (X) thrownException;
+                return ResultInt.err(exception);
+            } catch (ClassCastException castException) {
+                throw new WrongKindOfExceptionError(
+                        (
+                                "The Exception that was thrown (%s) by the Function did not match the Exception that "
+                                + "was expected to be thrown by it. Either go up a few levels in the Exception "
+                                + "inheritance hierarchy or fix your method calls!").formatted(thrownException.getClass()
+                                                                                                              .getSimpleName()),
+                        thrownException);
+            }
+        }
+    }
+
+    /**
+     * Lambda friendly convenience method that can be used to create a {@link ThrowingToIntFunction} from a method reference e.g.:
+     * <pre class="code">
+     * stream.map(ThrowingToIntFunction.of(Integer::parseInt));
+     * </pre>
+     *
+     * @param <T>      the type of the input to the function
+     * @param <X>      the type of the thrown exception
+     * @param function the source function
+     * @return a new {@link ThrowingToIntFunction} instance
+     */
+    static <T, X extends Exception> ThrowingToIntFunction<T, X> of(ThrowingToIntFunction<T, X> function) {
+        return function;
+    }
+}
@@ -0,0 +1,59 @@
+package the.oronco.adt.funcs;
+
+import the.oronco.adt.ResultLong;
+import the.oronco.adt.exceptions.WrongKindOfExceptionError;
+
+import java.util.function.Function;
+
+/**
+ * A {@link ThrowingFunction} that produces a {@code long}. The result is returned as a {@link ResultLong} so that a method like
+ * {@code long parse(String) throws X} can be used without boxing its result.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@FunctionalInterface
+public interface ThrowingToLongFunction<T, X extends Exception> extends Function<T, ResultLong<X>> {
+    long applyThrowing(T input) throws X;
+
+    /**
+     * Default {@link Function#apply(Object)} that wraps any thrown exception of the expected type in an error.
+     *
+     * @see java.util.function.Function#apply(java.lang.Object)
+     */
+    @Override
+    default ResultLong<X> apply(T t) throws WrongKindOfExceptionError {
+        try {
+            return ResultLong.ok(applyThrowing(t));
+        } catch (Exception thrownException) {
+            try {
+                @SuppressWarnings("unchecked")
+                X exception = (X) thrownException;
+                return ResultLong.err(exception);
+            } catch (ClassCastException castException) {
+                throw new WrongKindOfExceptionError(
+                        (
+                                "The Exception that was thrown (%s) by the Function did not match the Exception that "
+                                + "was expected to be thrown by it. Either go up a few levels in the Exception "
+                                + "inheritance hierarchy or fix your method calls!").formatted(thrownException.getClass()
+                                                                                                              .getSimpleName()),
+                        thrownException);
+            }
+        }
+    }
+
+    /**
+     * Lambda friendly convenience method that can be used to create a {@link ThrowingToLongFunction} from a method reference e.g.:
+     * <pre class="code">
+     * stream.map(ThrowingToLongFunction.of(Long::parseLong));
+     * </pre>
+     *
+     * @param <T>      the type of the input to the function
+     * @param <X>      the type of the thrown exception
+     * @param function the source function
+     * @return a new {@link ThrowingToLongFunction} instance
+     */
+    static <T, X extends Exception> ThrowingToLongFunction<T, X> of(ThrowingToLongFunction<T, X> function) {
+        return function;
+    }
+}
@@ -0,0 +1,485 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * The values of one component position of a {@link TupleBatch}, stored in a single array.
+ * <p>
+ * Columns of {@link #longs()}, {@link #ints()} and {@link #doubles()} keep their values in a primitive array, so they hold no boxes and a scan
+ * over them reads one contiguous array. Their values are only boxed by {@link #get(int)}, the primitive getters and the primitive
+ * {@code where}/{@code map} variants avoid that. Primitive columns cannot hold {@code null}.
+ * <p>
+ * A column is immutable, {@code map} and {@code select} return new columns.
+ *
+ * @param <T> type of the values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public abstract sealed class Column<T> permits Column.ObjectColumn, Column.LongColumn, Column.IntColumn, Column.DoubleColumn {
+
+    /**
+     * Describes how the values of a column are stored.
+     *
+     * @param <T> type of the values
+     */
+    public static final class Type<T> {
+        private static final Type<?> OBJECTS = new Type<>("objects");
+        private static final Type<Long> LONGS = new Type<>("longs");
+        private static final Type<Integer> INTS = new Type<>("ints");
+        private static final Type<Double> DOUBLES = new Type<>("doubles");
+
+        private final String name;
+
+        private Type(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Builds a column of this type from the values at the indices {@code 0} to {@code size - 1}.
+         */
+        @SuppressWarnings("unchecked") // the type constants match the column they build
+        @NotNull Column<T> build(int size, @NotNull IntFunction<? extends T> valueAt) {
+            if (this == LONGS) {
+                long[] values = new long[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (Long) Objects.requireNonNull(valueAt.apply(i), NULL_VALUE);
+                }
+                return (Column<T>) new LongColumn(values);
+            } else if (this == INTS) {
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (Integer) Objects.requireNonNull(valueAt.apply(i), NULL_VALUE);
+                }
+                return (Column<T>) new IntColumn(values);
+            } else if (this == DOUBLES) {
+                double[] values = new double[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (Double) Objects.requireNonNull(valueAt.apply(i), NULL_VALUE);
+                }
+                return (Column<T>) new DoubleColumn(values);
+            }
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = valueAt.apply(i);
+            }
+            return new ObjectColumn<>(values);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final String NULL_VALUE = "A primitive column cannot hold null values!";
+
+    private Column() {
+    }
+
+    /**
+     * @return the type of columns that store any value, including {@code null}, by reference
+     */
+    @SuppressWarnings("unchecked") // an object column can hold any type
+    public static <T> @NotNull Type<T> objects() {
+        return (Type<T>) Type.OBJECTS;
+    }
+
+    /**
+     * @return the type of columns that store {@code long} values in a {@code long[]}
+     */
+    public static @NotNull Type<Long> longs() {
+        return Type.LONGS;
+    }
+
+    /**
+     * @return the type of columns that store {@code int} values in an {@code int[]}
+     */
+    public static @NotNull Type<Integer> ints() {
+        return Type.INTS;
+    }
+
+    /**
+     * @return the type of columns that store {@code double} values in a {@code double[]}
+     */
+    public static @NotNull Type<Double> doubles() {
+        return Type.DOUBLES;
+    }
+
+    @SafeVarargs
+    public static <T> @NotNull Column<T> ofObjects(T @NotNull @NonNull ... values) {
+        return new ObjectColumn<>(Arrays.copyOf(values, values.length, Object[].class));
+    }
+
+    public static @NotNull Column<Long> ofLongs(long @NotNull @NonNull ... values) {
+        return new LongColumn(values.clone());
+    }
+
+    public static @NotNull Column<Integer> ofInts(int @NotNull @NonNull ... values) {
+        return new IntColumn(values.clone());
+    }
+
+    public static @NotNull Column<Double> ofDoubles(double @NotNull @NonNull ... values) {
+        return new DoubleColumn(values.clone());
+    }
+
+    public abstract @NotNull Type<T> type();
+
+    /**
+     * @return the number of values in this column
+     */
+    public abstract int size();
+
+    /**
+     * @return the value in {@code row}, boxed if this is a primitive column
+     *
+     * @throws IndexOutOfBoundsException if there is no such row
+     */
+    public abstract T get(int row);
+
+    /**
+     * @throws UnsupportedOperationException if this is not a column of {@link #longs()}
+     */
+    public long getLong(int row) {
+        throw unsupported(Type.LONGS);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this is not a column of {@link #ints()}
+     */
+    public int getInt(int row) {
+        throw unsupported(Type.INTS);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this is not a column of {@link #doubles()}
+     */
+    public double getDouble(int row) {
+        throw unsupported(Type.DOUBLES);
+    }
+
+    /**
+     * @param predicate test for a single value
+     *
+     * @return the rows whose value matches {@code predicate}
+     */
+    public @NotNull BitSet where(@NotNull @NonNull Predicate<? super T> predicate) {
+        int size = size();
+        BitSet rows = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(get(i))) {
+                rows.set(i);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Like {@link #where(Predicate)}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #longs()}
+     */
+    public @NotNull BitSet whereLong(@NotNull @NonNull LongPredicate predicate) {
+        throw unsupported(Type.LONGS);
+    }
+
+    /**
+     * Like {@link #where(Predicate)}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #ints()}
+     */
+    public @NotNull BitSet whereInt(@NotNull @NonNull IntPredicate predicate) {
+        throw unsupported(Type.INTS);
+    }
+
+    /**
+     * Like {@link #where(Predicate)}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #doubles()}
+     */
+    public @NotNull BitSet whereDouble(@NotNull @NonNull DoublePredicate predicate) {
+        throw unsupported(Type.DOUBLES);
+    }
+
+    /**
+     * Converts every value into a new column of the given type.
+     */
+    public <U> @NotNull Column<U> map(@NotNull @NonNull Function<? super T, ? extends U> f, @NotNull @NonNull Type<U> type) {
+        return type.build(size(), row -> f.apply(get(row)));
+    }
+
+    /**
+     * Like {@link #map(Function, Type)} into a column of {@link #longs()}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #longs()}
+     */
+    public @NotNull Column<Long> mapLong(@NotNull @NonNull LongUnaryOperator f) {
+        throw unsupported(Type.LONGS);
+    }
+
+    /**
+     * Like {@link #map(Function, Type)} into a column of {@link #ints()}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #ints()}
+     */
+    public @NotNull Column<Integer> mapInt(@NotNull @NonNull IntUnaryOperator f) {
+        throw unsupported(Type.INTS);
+    }
+
+    /**
+     * Like {@link #map(Function, Type)} into a column of {@link #doubles()}, but without boxing the values.
+     *
+     * @throws UnsupportedOperationException if this is not a column of {@link #doubles()}
+     */
+    public @NotNull Column<Double> mapDouble(@NotNull @NonNull DoubleUnaryOperator f) {
+        throw unsupported(Type.DOUBLES);
+    }
+
+    /**
+     * Gathers the values of the set rows into a new column.
+     *
+     * @param rows  the rows to keep, all of them smaller than {@link #size()}
+     * @param count the number of set rows
+     */
+    abstract @NotNull Column<T> select(@NotNull BitSet rows, int count);
+
+    private @NotNull UnsupportedOperationException unsupported(Type<?> expected) {
+        return new UnsupportedOperationException("This is a column of %s and not of %s!".formatted(type(), expected));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(i));
+        }
+        return builder.append(']')
+                      .toString();
+    }
+
+    static final class ObjectColumn<T> extends Column<T> {
+        private final Object[] values;
+
+        private ObjectColumn(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Type<T> type() {
+            return objects();
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // only Ts are stored
+        public T get(int row) {
+            return (T) values[row];
+        }
+
+        @Override
+        @NotNull Column<T> select(@NotNull BitSet rows, int count) {
+            Object[] selected = new Object[count];
+            int next = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                selected[next++] = values[row];
+            }
+            return new ObjectColumn<>(selected);
+        }
+    }
+
+    static final class LongColumn extends Column<Long> {
+        private final long[] values;
+
+        private LongColumn(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Type<Long> type() {
+            return Type.LONGS;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Long get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        public @NotNull BitSet whereLong(@NotNull @NonNull LongPredicate predicate) {
+            BitSet rows = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                if (predicate.test(values[i])) {
+                    rows.set(i);
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public @NotNull Column<Long> mapLong(@NotNull @NonNull LongUnaryOperator f) {
+            long[] mapped = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mapped[i] = f.applyAsLong(values[i]);
+            }
+            return new LongColumn(mapped);
+        }
+
+        @Override
+        @NotNull Column<Long> select(@NotNull BitSet rows, int count) {
+            long[] selected = new long[count];
+            int next = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                selected[next++] = values[row];
+            }
+            return new LongColumn(selected);
+        }
+    }
+
+    static final class IntColumn extends Column<Integer> {
+        private final int[] values;
+
+        private IntColumn(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Type<Integer> type() {
+            return Type.INTS;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Integer get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        public @NotNull BitSet whereInt(@NotNull @NonNull IntPredicate predicate) {
+            BitSet rows = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                if (predicate.test(values[i])) {
+                    rows.set(i);
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public @NotNull Column<Integer> mapInt(@NotNull @NonNull IntUnaryOperator f) {
+            int[] mapped = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mapped[i] = f.applyAsInt(values[i]);
+            }
+            return new IntColumn(mapped);
+        }
+
+        @Override
+        @NotNull Column<Integer> select(@NotNull BitSet rows, int count) {
+            int[] selected = new int[count];
+            int next = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                selected[next++] = values[row];
+            }
+            return new IntColumn(selected);
+        }
+    }
+
+    static final class DoubleColumn extends Column<Double> {
+        private final double[] values;
+
+        private DoubleColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Type<Double> type() {
+            return Type.DOUBLES;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Double get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        public @NotNull BitSet whereDouble(@NotNull @NonNull DoublePredicate predicate) {
+            BitSet rows = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                if (predicate.test(values[i])) {
+                    rows.set(i);
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public @NotNull Column<Double> mapDouble(@NotNull @NonNull DoubleUnaryOperator f) {
+            double[] mapped = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mapped[i] = f.applyAsDouble(values[i]);
+            }
+            return new DoubleColumn(mapped);
+        }
+
+        @Override
+        @NotNull Column<Double> select(@NotNull BitSet rows, int count) {
+            double[] selected = new double[count];
+            int next = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                selected[next++] = values[row];
+            }
+            return new DoubleColumn(selected);
+        }
+    }
+}
@@ -1,3 +1,4 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
@@ -5,11 +6,8 @@ import lombok.With;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import the.oronco.adt.Result;
-import the.oronco.tuple.TupleError.CreateError.TooFewElements;
-import the.oronco.tuple.TupleError.CreateError.TooManyElements;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -18,9 +16,8 @@ import java.util.List;
 @With
 @Unmodifiable
 public record Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>(T0 _0, T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6, T7 _7, T8 _8, T9 _9)
-        implements MultiValue<Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>, Decade<T1, T2, T3, T4, T5, T6, T7, T8, T9, T0>, Decade<T9, T0, T1, T2
-        , T3, T4, T5, T6, T7, T8>>, Tuple.Size10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
-
+        implements MultiValue<Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>, Decade<T1, T2, T3, T4, T5, T6, T7, T8, T9, T0>, Decade<T9, T0, T1, T2,
+        T3, T4, T5, T6, T7, T8>>, Tuple.Size10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
     public static <T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> @NotNull Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> of(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8, T9 v9) {
         return new Decade<>(v0, v1, v2, v3, v4, v5, v6, v7, v8, v9);
@@ -34,9 +31,9 @@ public record Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>(T0 _0, T1 _1, T2 _2
     public static <T> @NotNull Result<Decade<T, T, T, T, T, T, T, T, T, T>, TupleError> from(
             @NonNull @NotNull final T[] vals) {
         if (vals.length > SIZE) {
-            return Result.err(new TooFewElements(SIZE, vals.length, 0));
+            return Result.err(new TupleError.CreateError.TooFewElements(SIZE, vals.length, 0));
         } else if (vals.length < SIZE) {
-            return Result.err(new TooManyElements(SIZE, vals.length, 0));
+            return Result.err(new TupleError.CreateError.TooManyElements(SIZE, vals.length, 0));
         }
         return Result.ok(Decade.of(vals[0], vals[1], vals[2], vals[3], vals[4], vals[5], vals[6], vals[7], vals[8], vals[9]));
     }
@@ -60,8 +57,35 @@ public record Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>(T0 _0, T1 _1, T2 _2
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0, _1, _2, _3, _4, _5, _6, _7, _8, _9);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            case 1 -> _1;
+            case 2 -> _2;
+            case 3 -> _3;
+            case 4 -> _4;
+            case 5 -> _5;
+            case 6 -> _6;
+            case 7 -> _7;
+            case 8 -> _8;
+            case 9 -> _9;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : Objects.equals(_1, other) ? 1
+             : Objects.equals(_2, other) ? 2
+             : Objects.equals(_3, other) ? 3
+             : Objects.equals(_4, other) ? 4
+             : Objects.equals(_5, other) ? 5
+             : Objects.equals(_6, other) ? 6
+             : Objects.equals(_7, other) ? 7
+             : Objects.equals(_8, other) ? 8
+             : Objects.equals(_9, other) ? 9
+             : -1;
     }
 
     @Override
@@ -74,6 +98,40 @@ public record Decade<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>(T0 _0, T1 _1, T2 _2
         return new Decade<>(_9, _0, _1, _2, _3, _4, _5, _6, _7, _8);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Decade<?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+               && Objects.equals(_0, other._0)
+               && Objects.equals(_1, other._1)
+               && Objects.equals(_2, other._2)
+               && Objects.equals(_3, other._3)
+               && Objects.equals(_4, other._4)
+               && Objects.equals(_5, other._5)
+               && Objects.equals(_6, other._6)
+               && Objects.equals(_7, other._7)
+               && Objects.equals(_8, other._8)
+               && Objects.equals(_9, other._9);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_1));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_2));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_3));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_4));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_5));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_6));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_7));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_8));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_9));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ", " + _1 + ", " + _2 + ", " + _3 + ", " + _4 + ", " + _5 + ", " + _6 + ", " + _7 + ", " + _8 + ", " + _9 + ')';
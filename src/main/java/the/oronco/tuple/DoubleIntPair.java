@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code double} and {@code int} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code double0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record DoubleIntPair(double double0, int int1)
+        implements MultiValue<DoubleIntPair, IntDoublePair, IntDoublePair>, Tuple.Size2<Double, Integer> {
+    public static @NotNull DoubleIntPair of(double v0, int v1) {
+        return new DoubleIntPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull DoubleIntPair of(@NotNull @NonNull Tuple.Size2<Double, Integer> other) {
+        return DoubleIntPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Double _0() {
+        return double0;
+    }
+
+    @Override
+    public Integer _1() {
+        return int1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> double0;
+            case 1 -> int1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Double value && Double.doubleToLongBits(value) == Double.doubleToLongBits(double0)) {
+            return 0;
+        }
+        if (other instanceof Integer value && value == int1) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Double, Integer> toPair() {
+        return Pair.of(double0, int1);
+    }
+
+    @Override
+    public @NotNull IntDoublePair rotL() {
+        return new IntDoublePair(int1, double0);
+    }
+
+    @Override
+    public @NotNull IntDoublePair rotR() {
+        return new IntDoublePair(int1, double0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DoubleIntPair other
+               && Double.doubleToLongBits(double0) == Double.doubleToLongBits(other.double0)
+               && int1 == other.int1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double0));
+        hash = Tuples.mixHash(hash, int1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + double0 + ", " + int1 + ')';
+    }
+}
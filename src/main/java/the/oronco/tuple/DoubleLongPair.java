@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code double} and {@code long} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code double0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record DoubleLongPair(double double0, long long1)
+        implements MultiValue<DoubleLongPair, LongDoublePair, LongDoublePair>, Tuple.Size2<Double, Long> {
+    public static @NotNull DoubleLongPair of(double v0, long v1) {
+        return new DoubleLongPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull DoubleLongPair of(@NotNull @NonNull Tuple.Size2<Double, Long> other) {
+        return DoubleLongPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Double _0() {
+        return double0;
+    }
+
+    @Override
+    public Long _1() {
+        return long1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> double0;
+            case 1 -> long1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Double value && Double.doubleToLongBits(value) == Double.doubleToLongBits(double0)) {
+            return 0;
+        }
+        if (other instanceof Long value && value == long1) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Double, Long> toPair() {
+        return Pair.of(double0, long1);
+    }
+
+    @Override
+    public @NotNull LongDoublePair rotL() {
+        return new LongDoublePair(long1, double0);
+    }
+
+    @Override
+    public @NotNull LongDoublePair rotR() {
+        return new LongDoublePair(long1, double0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DoubleLongPair other
+               && Double.doubleToLongBits(double0) == Double.doubleToLongBits(other.double0)
+               && long1 == other.long1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double0));
+        hash = Tuples.mixHash(hash, long1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + double0 + ", " + long1 + ')';
+    }
+}
@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code double} values that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code double0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record DoublePair(double double0, double double1)
+        implements MultiValue<DoublePair, DoublePair, DoublePair>, Tuple.Size2<Double, Double> {
+    public static @NotNull DoublePair of(double v0, double v1) {
+        return new DoublePair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull DoublePair of(@NotNull @NonNull Tuple.Size2<Double, Double> other) {
+        return DoublePair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Double _0() {
+        return double0;
+    }
+
+    @Override
+    public Double _1() {
+        return double1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> double0;
+            case 1 -> double1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Double value) {
+            long bits = Double.doubleToLongBits(value);
+            return bits == Double.doubleToLongBits(double0) ? 0
+                 : bits == Double.doubleToLongBits(double1) ? 1
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Double, Double> toPair() {
+        return Pair.of(double0, double1);
+    }
+
+    @Override
+    public @NotNull DoublePair rotL() {
+        return new DoublePair(double1, double0);
+    }
+
+    @Override
+    public @NotNull DoublePair rotR() {
+        return new DoublePair(double1, double0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DoublePair other
+               && Double.doubleToLongBits(double0) == Double.doubleToLongBits(other.double0)
+               && Double.doubleToLongBits(double1) == Double.doubleToLongBits(other.double1);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double0));
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double1));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + double0 + ", " + double1 + ')';
+    }
+}
@@ -0,0 +1,109 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Triplet} of {@code double} values that stores them unboxed. The boxed accessors of {@link Tuple.Size3} box on every call, use the
+ * primitive accessors {@code double0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record DoubleTriplet(double double0, double double1, double double2)
+        implements MultiValue<DoubleTriplet, DoubleTriplet, DoubleTriplet>, Tuple.Size3<Double, Double, Double> {
+    public static @NotNull DoubleTriplet of(double v0, double v1, double v2) {
+        return new DoubleTriplet(v0, v1, v2);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull DoubleTriplet of(@NotNull @NonNull Tuple.Size3<Double, Double, Double> other) {
+        return DoubleTriplet.of(other._0(), other._1(), other._2());
+    }
+
+    @Override
+    public Double _0() {
+        return double0;
+    }
+
+    @Override
+    public Double _1() {
+        return double1;
+    }
+
+    @Override
+    public Double _2() {
+        return double2;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> double0;
+            case 1 -> double1;
+            case 2 -> double2;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Double value) {
+            long bits = Double.doubleToLongBits(value);
+            return bits == Double.doubleToLongBits(double0) ? 0
+                 : bits == Double.doubleToLongBits(double1) ? 1
+                 : bits == Double.doubleToLongBits(double2) ? 2
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Triplet}
+     */
+    public @NotNull Triplet<Double, Double, Double> toTriplet() {
+        return Triplet.of(double0, double1, double2);
+    }
+
+    @Override
+    public @NotNull DoubleTriplet rotL() {
+        return new DoubleTriplet(double1, double2, double0);
+    }
+
+    @Override
+    public @NotNull DoubleTriplet rotR() {
+        return new DoubleTriplet(double2, double0, double1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DoubleTriplet other
+               && Double.doubleToLongBits(double0) == Double.doubleToLongBits(other.double0)
+               && Double.doubleToLongBits(double1) == Double.doubleToLongBits(other.double1)
+               && Double.doubleToLongBits(double2) == Double.doubleToLongBits(other.double2);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double0));
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double1));
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double2));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + double0 + ", " + double1 + ", " + double2 + ')';
+    }
+}
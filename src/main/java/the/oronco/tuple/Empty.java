@@ -30,6 +30,16 @@ public final class Empty implements MultiValue<Empty, Empty, Empty>, Tuple.Size0
         return EMPTY;
     }
 
+    @Override
+    public Object getUnchecked(int index) {
+        throw Tuples.indexOutOfBounds(index, SIZE);
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return -1;
+    }
+
     @Override
     public @Unmodifiable Collection<Object> j() {
         return Collections.emptyList();
@@ -0,0 +1,73 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A tuple that computes its hash on the first call of {@link #hashCode()} and keeps it, to be used as the key of hash based collections when
+ * hashing the tuple is expensive, e.g. for large tuples or tuples of long strings or other tuples that are looked up over and over.
+ * <p>
+ * Keeping the hash is only correct as long as the hashes of the values cannot change, so only tuples of immutable values may be wrapped.
+ * Two {@link HashedTuple}s are equal if their tuples are, a {@link HashedTuple} is never equal to a bare tuple.
+ *
+ * @param <T> type of the wrapped tuple
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public final class HashedTuple<T extends Tuple> {
+    private final T tuple;
+    // like in String, a race only computes the hash more than once, as the tuple is final and its hash cannot change
+    private int hash;
+    private boolean hashIsZero;
+
+    private HashedTuple(T tuple) {
+        this.tuple = tuple;
+    }
+
+    public static <T extends Tuple> @NotNull HashedTuple<T> of(@NotNull @NonNull T tuple) {
+        return new HashedTuple<>(tuple);
+    }
+
+    public @NotNull T tuple() {
+        return tuple;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = tuple.hashCode();
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Compares the cached hashes before the tuples if both are known already, so that most unequal tuples are told apart without comparing
+     * their values.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HashedTuple<?> other)) {
+            return false;
+        }
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        return tuple.equals(other.tuple);
+    }
+
+    @Override
+    public String toString() {
+        return tuple.toString();
+    }
+}
@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code int} and {@code double} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code int0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record IntDoublePair(int int0, double double1)
+        implements MultiValue<IntDoublePair, DoubleIntPair, DoubleIntPair>, Tuple.Size2<Integer, Double> {
+    public static @NotNull IntDoublePair of(int v0, double v1) {
+        return new IntDoublePair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull IntDoublePair of(@NotNull @NonNull Tuple.Size2<Integer, Double> other) {
+        return IntDoublePair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Integer _0() {
+        return int0;
+    }
+
+    @Override
+    public Double _1() {
+        return double1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> int0;
+            case 1 -> double1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Integer value && value == int0) {
+            return 0;
+        }
+        if (other instanceof Double value && Double.doubleToLongBits(value) == Double.doubleToLongBits(double1)) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Integer, Double> toPair() {
+        return Pair.of(int0, double1);
+    }
+
+    @Override
+    public @NotNull DoubleIntPair rotL() {
+        return new DoubleIntPair(double1, int0);
+    }
+
+    @Override
+    public @NotNull DoubleIntPair rotR() {
+        return new DoubleIntPair(double1, int0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IntDoublePair other
+               && int0 == other.int0
+               && Double.doubleToLongBits(double1) == Double.doubleToLongBits(other.double1);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, int0);
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double1));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + int0 + ", " + double1 + ')';
+    }
+}
@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code int} and {@code long} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code int0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record IntLongPair(int int0, long long1)
+        implements MultiValue<IntLongPair, LongIntPair, LongIntPair>, Tuple.Size2<Integer, Long> {
+    public static @NotNull IntLongPair of(int v0, long v1) {
+        return new IntLongPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull IntLongPair of(@NotNull @NonNull Tuple.Size2<Integer, Long> other) {
+        return IntLongPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Integer _0() {
+        return int0;
+    }
+
+    @Override
+    public Long _1() {
+        return long1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> int0;
+            case 1 -> long1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Integer value && value == int0) {
+            return 0;
+        }
+        if (other instanceof Long value && value == long1) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Integer, Long> toPair() {
+        return Pair.of(int0, long1);
+    }
+
+    @Override
+    public @NotNull LongIntPair rotL() {
+        return new LongIntPair(long1, int0);
+    }
+
+    @Override
+    public @NotNull LongIntPair rotR() {
+        return new LongIntPair(long1, int0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IntLongPair other
+               && int0 == other.int0
+               && long1 == other.long1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, int0);
+        hash = Tuples.mixHash(hash, long1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + int0 + ", " + long1 + ')';
+    }
+}
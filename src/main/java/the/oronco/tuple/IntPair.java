@@ -0,0 +1,99 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code int} values that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code int0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record IntPair(int int0, int int1)
+        implements MultiValue<IntPair, IntPair, IntPair>, Tuple.Size2<Integer, Integer> {
+    public static @NotNull IntPair of(int v0, int v1) {
+        return new IntPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull IntPair of(@NotNull @NonNull Tuple.Size2<Integer, Integer> other) {
+        return IntPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Integer _0() {
+        return int0;
+    }
+
+    @Override
+    public Integer _1() {
+        return int1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> int0;
+            case 1 -> int1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Integer value) {
+            return value == int0 ? 0
+                 : value == int1 ? 1
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Integer, Integer> toPair() {
+        return Pair.of(int0, int1);
+    }
+
+    @Override
+    public @NotNull IntPair rotL() {
+        return new IntPair(int1, int0);
+    }
+
+    @Override
+    public @NotNull IntPair rotR() {
+        return new IntPair(int1, int0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IntPair other
+               && int0 == other.int0
+               && int1 == other.int1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, int0);
+        hash = Tuples.mixHash(hash, int1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + int0 + ", " + int1 + ')';
+    }
+}
@@ -0,0 +1,108 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Triplet} of {@code int} values that stores them unboxed. The boxed accessors of {@link Tuple.Size3} box on every call, use the
+ * primitive accessors {@code int0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record IntTriplet(int int0, int int1, int int2)
+        implements MultiValue<IntTriplet, IntTriplet, IntTriplet>, Tuple.Size3<Integer, Integer, Integer> {
+    public static @NotNull IntTriplet of(int v0, int v1, int v2) {
+        return new IntTriplet(v0, v1, v2);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull IntTriplet of(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> other) {
+        return IntTriplet.of(other._0(), other._1(), other._2());
+    }
+
+    @Override
+    public Integer _0() {
+        return int0;
+    }
+
+    @Override
+    public Integer _1() {
+        return int1;
+    }
+
+    @Override
+    public Integer _2() {
+        return int2;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> int0;
+            case 1 -> int1;
+            case 2 -> int2;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Integer value) {
+            return value == int0 ? 0
+                 : value == int1 ? 1
+                 : value == int2 ? 2
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Triplet}
+     */
+    public @NotNull Triplet<Integer, Integer, Integer> toTriplet() {
+        return Triplet.of(int0, int1, int2);
+    }
+
+    @Override
+    public @NotNull IntTriplet rotL() {
+        return new IntTriplet(int1, int2, int0);
+    }
+
+    @Override
+    public @NotNull IntTriplet rotR() {
+        return new IntTriplet(int2, int0, int1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IntTriplet other
+               && int0 == other.int0
+               && int1 == other.int1
+               && int2 == other.int2;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, int0);
+        hash = Tuples.mixHash(hash, int1);
+        hash = Tuples.mixHash(hash, int2);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + int0 + ", " + int1 + ", " + int2 + ')';
+    }
+}
@@ -0,0 +1,180 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link TupleMap} keyed by triplets of {@code int}s, e.g. the three columns of a group-by. The first two components are packed into the
+ * first {@code long} of a slot and the third one into the second. {@link #get(int, int, int)}, {@link #put(int, int, int, Object)} and
+ * {@link #remove(int, int, int)} do not allocate unless the map grows.
+ *
+ * @param <V> type of the values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@SuppressWarnings("unchecked") // the values are only ever set to V
+public final class IntTripletMap<V> extends TupleTable implements TupleMap<Tuple.Size3<Integer, Integer, Integer>, V> {
+    public IntTripletMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries the map will hold without growing
+     */
+    public IntTripletMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * A flyweight view of a key of an {@link IntTripletMap} as passed by {@link #forEachEntry(BiConsumer)}. It is moved from key to key, so it
+     * must not be kept beyond the call, {@link #toIntTriplet()} copies it.
+     */
+    public static final class Key implements Tuple.Size3<Integer, Integer, Integer> {
+        private long[] keys;
+        private int index;
+
+        private Key() {}
+
+        public int int0() {
+            return (int) (keys[index] >>> 32);
+        }
+
+        public int int1() {
+            return (int) keys[index];
+        }
+
+        public int int2() {
+            return (int) keys[index + 1];
+        }
+
+        @Override
+        public Integer _0() {
+            return int0();
+        }
+
+        @Override
+        public Integer _1() {
+            return int1();
+        }
+
+        @Override
+        public Integer _2() {
+            return int2();
+        }
+
+        @Override
+        public Object getUnchecked(int index) {
+            return switch (index) {
+                case 0 -> int0();
+                case 1 -> int1();
+                case 2 -> int2();
+                default -> throw Tuples.indexOutOfBounds(index, SIZE);
+            };
+        }
+
+        @Override
+        public int indexOf(Object other) {
+            if (other instanceof Integer value) {
+                return value == int0() ? 0
+                     : value == int1() ? 1
+                     : value == int2() ? 2
+                     : -1;
+            }
+            return -1;
+        }
+
+        public @NotNull IntTriplet toIntTriplet() {
+            return IntTriplet.of(int0(), int1(), int2());
+        }
+
+        @Override
+        public String toString() {
+            return "(" + int0() + ", " + int1() + ", " + int2() + ')';
+        }
+    }
+
+    /**
+     * @return the same hash as {@link IntTriplet#hashCode()}
+     */
+    static int hash(int v0, int v1, int v2) {
+        return Tuples.finishHash(Tuples.mixHash(Tuples.mixHash(Tuples.mixHash(Tuples.HASH_SEED, v0), v1), v2), IntTriplet.SIZE);
+    }
+
+    private static long pack(int v0, int v1) {
+        return (long) v0 << 32 | v1 & 0xffffffffL;
+    }
+
+    @Override
+    int hash(long k0, long k1) {
+        return hash((int) (k0 >>> 32), (int) k0, (int) k1);
+    }
+
+    /**
+     * @return the value of {@code (v0, v1, v2)} or {@code null} if there is none
+     */
+    public @Nullable V get(int v0, int v1, int v2) {
+        return (V) valueOf(pack(v0, v1), v2, hash(v0, v1, v2));
+    }
+
+    public boolean containsKey(int v0, int v1, int v2) {
+        return get(v0, v1, v2) != null;
+    }
+
+    /**
+     * @return the previous value of {@code (v0, v1, v2)} or {@code null} if there was none
+     */
+    public @Nullable V put(int v0, int v1, int v2, @NotNull @NonNull V value) {
+        return (V) store(pack(v0, v1), v2, hash(v0, v1, v2), value);
+    }
+
+    /**
+     * @return the removed value of {@code (v0, v1, v2)} or {@code null} if there was none
+     */
+    public @Nullable V remove(int v0, int v1, int v2) {
+        return (V) delete(pack(v0, v1), v2, hash(v0, v1, v2));
+    }
+
+    @Override
+    public @Nullable V get(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> key) {
+        return key instanceof IntTriplet triplet ? get(triplet.int0(), triplet.int1(), triplet.int2()) : get(key._0(), key._1(), key._2());
+    }
+
+    @Override
+    public @Nullable V put(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> key, @NotNull @NonNull V value) {
+        return key instanceof IntTriplet triplet ? put(triplet.int0(), triplet.int1(), triplet.int2(), value)
+                                                 : put(key._0(), key._1(), key._2(), value);
+    }
+
+    @Override
+    public @Nullable V remove(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> key) {
+        return key instanceof IntTriplet triplet ? remove(triplet.int0(), triplet.int1(), triplet.int2()) : remove(key._0(), key._1(), key._2());
+    }
+
+    @Override
+    public void forEach(@NotNull @NonNull BiConsumer<? super Tuple.Size3<Integer, Integer, Integer>, ? super V> action) {
+        forEachEntry(action);
+    }
+
+    /**
+     * Like {@link #forEach(BiConsumer)}, but passes the key as a {@link Key} whose components can be read without boxing.
+     */
+    public void forEachEntry(@NotNull @NonNull BiConsumer<? super Key, ? super V> action) {
+        var view = new Key();
+        forEachSlot((keys, index, value) -> {
+            view.keys = keys;
+            view.index = index;
+            action.accept(view, (V) value);
+        });
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "{", "}");
+        forEachEntry((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TupleSet} of triplets of {@code int}s backed by an {@link IntTripletMap}. {@link #contains(int, int, int)},
+ * {@link #add(int, int, int)} and {@link #remove(int, int, int)} do not allocate unless the set grows.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public final class IntTripletSet implements TupleSet<Tuple.Size3<Integer, Integer, Integer>> {
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private final IntTripletMap<Object> map;
+
+    public IntTripletSet() {
+        map = new IntTripletMap<>();
+    }
+
+    /**
+     * @param expectedSize the number of elements the set will hold without growing
+     */
+    public IntTripletSet(int expectedSize) {
+        map = new IntTripletMap<>(expectedSize);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    public boolean contains(int v0, int v1, int v2) {
+        return map.containsKey(v0, v1, v2);
+    }
+
+    /**
+     * @return whether the set did not contain {@code (v0, v1, v2)} yet
+     */
+    public boolean add(int v0, int v1, int v2) {
+        return map.put(v0, v1, v2, PRESENT) == null;
+    }
+
+    /**
+     * @return whether the set contained {@code (v0, v1, v2)}
+     */
+    public boolean remove(int v0, int v1, int v2) {
+        return map.remove(v0, v1, v2) != null;
+    }
+
+    @Override
+    public boolean contains(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> element) {
+        return map.containsKey(element);
+    }
+
+    @Override
+    public boolean add(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> element) {
+        return map.put(element, PRESENT) == null;
+    }
+
+    @Override
+    public boolean remove(@NotNull @NonNull Tuple.Size3<Integer, Integer, Integer> element) {
+        return map.remove(element) != null;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public void forEach(@NotNull @NonNull Consumer<? super Tuple.Size3<Integer, Integer, Integer>> action) {
+        forEachKey(action);
+    }
+
+    /**
+     * Like {@link #forEach(Consumer)}, but passes the elements as an {@link IntTripletMap.Key} whose components can be read without boxing.
+     */
+    public void forEachKey(@NotNull @NonNull Consumer<? super IntTripletMap.Key> action) {
+        map.forEachEntry((key, present) -> action.accept(key));
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "[", "]");
+        forEachKey(key -> joiner.add(key.toString()));
+        return joiner.toString();
+    }
+}
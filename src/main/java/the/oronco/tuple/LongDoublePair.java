@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code long} and {@code double} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code long0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record LongDoublePair(long long0, double double1)
+        implements MultiValue<LongDoublePair, DoubleLongPair, DoubleLongPair>, Tuple.Size2<Long, Double> {
+    public static @NotNull LongDoublePair of(long v0, double v1) {
+        return new LongDoublePair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull LongDoublePair of(@NotNull @NonNull Tuple.Size2<Long, Double> other) {
+        return LongDoublePair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Long _0() {
+        return long0;
+    }
+
+    @Override
+    public Double _1() {
+        return double1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> long0;
+            case 1 -> double1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Long value && value == long0) {
+            return 0;
+        }
+        if (other instanceof Double value && Double.doubleToLongBits(value) == Double.doubleToLongBits(double1)) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Long, Double> toPair() {
+        return Pair.of(long0, double1);
+    }
+
+    @Override
+    public @NotNull DoubleLongPair rotL() {
+        return new DoubleLongPair(double1, long0);
+    }
+
+    @Override
+    public @NotNull DoubleLongPair rotR() {
+        return new DoubleLongPair(double1, long0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LongDoublePair other
+               && long0 == other.long0
+               && Double.doubleToLongBits(double1) == Double.doubleToLongBits(other.double1);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, long0);
+        hash = Tuples.mixHash(hash, Double.doubleToLongBits(double1));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + long0 + ", " + double1 + ')';
+    }
+}
@@ -0,0 +1,100 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code long} and {@code int} that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code long0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record LongIntPair(long long0, int int1)
+        implements MultiValue<LongIntPair, IntLongPair, IntLongPair>, Tuple.Size2<Long, Integer> {
+    public static @NotNull LongIntPair of(long v0, int v1) {
+        return new LongIntPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull LongIntPair of(@NotNull @NonNull Tuple.Size2<Long, Integer> other) {
+        return LongIntPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Long _0() {
+        return long0;
+    }
+
+    @Override
+    public Integer _1() {
+        return int1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> long0;
+            case 1 -> int1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Long value && value == long0) {
+            return 0;
+        }
+        if (other instanceof Integer value && value == int1) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Long, Integer> toPair() {
+        return Pair.of(long0, int1);
+    }
+
+    @Override
+    public @NotNull IntLongPair rotL() {
+        return new IntLongPair(int1, long0);
+    }
+
+    @Override
+    public @NotNull IntLongPair rotR() {
+        return new IntLongPair(int1, long0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LongIntPair other
+               && long0 == other.long0
+               && int1 == other.int1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, long0);
+        hash = Tuples.mixHash(hash, int1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + long0 + ", " + int1 + ')';
+    }
+}
@@ -0,0 +1,99 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Pair} of {@code long} values that stores them unboxed. The boxed accessors of {@link Tuple.Size2} box on every call, use the
+ * primitive accessors {@code long0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record LongPair(long long0, long long1)
+        implements MultiValue<LongPair, LongPair, LongPair>, Tuple.Size2<Long, Long> {
+    public static @NotNull LongPair of(long v0, long v1) {
+        return new LongPair(v0, v1);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull LongPair of(@NotNull @NonNull Tuple.Size2<Long, Long> other) {
+        return LongPair.of(other._0(), other._1());
+    }
+
+    @Override
+    public Long _0() {
+        return long0;
+    }
+
+    @Override
+    public Long _1() {
+        return long1;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> long0;
+            case 1 -> long1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Long value) {
+            return value == long0 ? 0
+                 : value == long1 ? 1
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Pair}
+     */
+    public @NotNull Pair<Long, Long> toPair() {
+        return Pair.of(long0, long1);
+    }
+
+    @Override
+    public @NotNull LongPair rotL() {
+        return new LongPair(long1, long0);
+    }
+
+    @Override
+    public @NotNull LongPair rotR() {
+        return new LongPair(long1, long0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LongPair other
+               && long0 == other.long0
+               && long1 == other.long1;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, long0);
+        hash = Tuples.mixHash(hash, long1);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + long0 + ", " + long1 + ')';
+    }
+}
@@ -0,0 +1,159 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link TupleMap} keyed by pairs of {@code long}s, e.g. the two ids of a join, which are stored as they are in the two {@code long}s of a
+ * slot. {@link #get(long, long)}, {@link #put(long, long, Object)} and {@link #remove(long, long)} do not allocate unless the map grows.
+ *
+ * @param <V> type of the values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@SuppressWarnings("unchecked") // the values are only ever set to V
+public final class LongPairMap<V> extends TupleTable implements TupleMap<Tuple.Size2<Long, Long>, V> {
+    public LongPairMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries the map will hold without growing
+     */
+    public LongPairMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * A flyweight view of a key of a {@link LongPairMap} as passed by {@link #forEachEntry(BiConsumer)}. It is moved from key to key, so it
+     * must not be kept beyond the call, {@link #toLongPair()} copies it.
+     */
+    public static final class Key implements Tuple.Size2<Long, Long> {
+        private long[] keys;
+        private int index;
+
+        private Key() {}
+
+        public long long0() {
+            return keys[index];
+        }
+
+        public long long1() {
+            return keys[index + 1];
+        }
+
+        @Override
+        public Long _0() {
+            return long0();
+        }
+
+        @Override
+        public Long _1() {
+            return long1();
+        }
+
+        @Override
+        public Object getUnchecked(int index) {
+            return switch (index) {
+                case 0 -> long0();
+                case 1 -> long1();
+                default -> throw Tuples.indexOutOfBounds(index, SIZE);
+            };
+        }
+
+        @Override
+        public int indexOf(Object other) {
+            if (other instanceof Long value) {
+                return value == long0() ? 0
+                     : value == long1() ? 1
+                     : -1;
+            }
+            return -1;
+        }
+
+        public @NotNull LongPair toLongPair() {
+            return LongPair.of(long0(), long1());
+        }
+
+        @Override
+        public String toString() {
+            return "(" + long0() + ", " + long1() + ')';
+        }
+    }
+
+    /**
+     * @return the same hash as {@link LongPair#hashCode()}
+     */
+    @Override
+    int hash(long v0, long v1) {
+        return Tuples.finishHash(Tuples.mixHash(Tuples.mixHash(Tuples.HASH_SEED, v0), v1), LongPair.SIZE);
+    }
+
+    /**
+     * @return the value of {@code (v0, v1)} or {@code null} if there is none
+     */
+    public @Nullable V get(long v0, long v1) {
+        return (V) valueOf(v0, v1, hash(v0, v1));
+    }
+
+    public boolean containsKey(long v0, long v1) {
+        return get(v0, v1) != null;
+    }
+
+    /**
+     * @return the previous value of {@code (v0, v1)} or {@code null} if there was none
+     */
+    public @Nullable V put(long v0, long v1, @NotNull @NonNull V value) {
+        return (V) store(v0, v1, hash(v0, v1), value);
+    }
+
+    /**
+     * @return the removed value of {@code (v0, v1)} or {@code null} if there was none
+     */
+    public @Nullable V remove(long v0, long v1) {
+        return (V) delete(v0, v1, hash(v0, v1));
+    }
+
+    @Override
+    public @Nullable V get(@NotNull @NonNull Tuple.Size2<Long, Long> key) {
+        return key instanceof LongPair pair ? get(pair.long0(), pair.long1()) : get(key._0(), key._1());
+    }
+
+    @Override
+    public @Nullable V put(@NotNull @NonNull Tuple.Size2<Long, Long> key, @NotNull @NonNull V value) {
+        return key instanceof LongPair pair ? put(pair.long0(), pair.long1(), value) : put(key._0(), key._1(), value);
+    }
+
+    @Override
+    public @Nullable V remove(@NotNull @NonNull Tuple.Size2<Long, Long> key) {
+        return key instanceof LongPair pair ? remove(pair.long0(), pair.long1()) : remove(key._0(), key._1());
+    }
+
+    @Override
+    public void forEach(@NotNull @NonNull BiConsumer<? super Tuple.Size2<Long, Long>, ? super V> action) {
+        forEachEntry(action);
+    }
+
+    /**
+     * Like {@link #forEach(BiConsumer)}, but passes the key as a {@link Key} whose components can be read without boxing.
+     */
+    public void forEachEntry(@NotNull @NonNull BiConsumer<? super Key, ? super V> action) {
+        var view = new Key();
+        forEachSlot((keys, index, value) -> {
+            view.keys = keys;
+            view.index = index;
+            action.accept(view, (V) value);
+        });
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "{", "}");
+        forEachEntry((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TupleSet} of pairs of {@code long}s backed by a {@link LongPairMap}. {@link #contains(long, long)}, {@link #add(long, long)} and
+ * {@link #remove(long, long)} do not allocate unless the set grows.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public final class LongPairSet implements TupleSet<Tuple.Size2<Long, Long>> {
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private final LongPairMap<Object> map;
+
+    public LongPairSet() {
+        map = new LongPairMap<>();
+    }
+
+    /**
+     * @param expectedSize the number of elements the set will hold without growing
+     */
+    public LongPairSet(int expectedSize) {
+        map = new LongPairMap<>(expectedSize);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    public boolean contains(long v0, long v1) {
+        return map.containsKey(v0, v1);
+    }
+
+    /**
+     * @return whether the set did not contain {@code (v0, v1)} yet
+     */
+    public boolean add(long v0, long v1) {
+        return map.put(v0, v1, PRESENT) == null;
+    }
+
+    /**
+     * @return whether the set contained {@code (v0, v1)}
+     */
+    public boolean remove(long v0, long v1) {
+        return map.remove(v0, v1) != null;
+    }
+
+    @Override
+    public boolean contains(@NotNull @NonNull Tuple.Size2<Long, Long> element) {
+        return map.containsKey(element);
+    }
+
+    @Override
+    public boolean add(@NotNull @NonNull Tuple.Size2<Long, Long> element) {
+        return map.put(element, PRESENT) == null;
+    }
+
+    @Override
+    public boolean remove(@NotNull @NonNull Tuple.Size2<Long, Long> element) {
+        return map.remove(element) != null;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public void forEach(@NotNull @NonNull Consumer<? super Tuple.Size2<Long, Long>> action) {
+        forEachKey(action);
+    }
+
+    /**
+     * Like {@link #forEach(Consumer)}, but passes the elements as a {@link LongPairMap.Key} whose components can be read without boxing.
+     */
+    public void forEachKey(@NotNull @NonNull Consumer<? super LongPairMap.Key> action) {
+        map.forEachEntry((key, present) -> action.accept(key));
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "[", "]");
+        forEachKey(key -> joiner.add(key.toString()));
+        return joiner.toString();
+    }
+}
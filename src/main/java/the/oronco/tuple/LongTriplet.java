@@ -0,0 +1,108 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A {@link Triplet} of {@code long} values that stores them unboxed. The boxed accessors of {@link Tuple.Size3} box on every call, use the
+ * primitive accessors {@code long0()}, ... where that matters. {@link #hashCode()} and {@link #equals(Object)} never box.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@With
+@Unmodifiable
+public record LongTriplet(long long0, long long1, long long2)
+        implements MultiValue<LongTriplet, LongTriplet, LongTriplet>, Tuple.Size3<Long, Long, Long> {
+    public static @NotNull LongTriplet of(long v0, long v1, long v2) {
+        return new LongTriplet(v0, v1, v2);
+    }
+
+    /**
+     * @throws NullPointerException if a value of {@code other} is {@code null}
+     */
+    public static @NotNull LongTriplet of(@NotNull @NonNull Tuple.Size3<Long, Long, Long> other) {
+        return LongTriplet.of(other._0(), other._1(), other._2());
+    }
+
+    @Override
+    public Long _0() {
+        return long0;
+    }
+
+    @Override
+    public Long _1() {
+        return long1;
+    }
+
+    @Override
+    public Long _2() {
+        return long2;
+    }
+
+    @Override
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> long0;
+            case 1 -> long1;
+            case 2 -> long2;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        if (other instanceof Long value) {
+            return value == long0 ? 0
+                 : value == long1 ? 1
+                 : value == long2 ? 2
+                 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values of this tuple as boxed {@link Triplet}
+     */
+    public @NotNull Triplet<Long, Long, Long> toTriplet() {
+        return Triplet.of(long0, long1, long2);
+    }
+
+    @Override
+    public @NotNull LongTriplet rotL() {
+        return new LongTriplet(long1, long2, long0);
+    }
+
+    @Override
+    public @NotNull LongTriplet rotR() {
+        return new LongTriplet(long2, long0, long1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LongTriplet other
+               && long0 == other.long0
+               && long1 == other.long1
+               && long2 == other.long2;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, long0);
+        hash = Tuples.mixHash(hash, long1);
+        hash = Tuples.mixHash(hash, long2);
+        return Tuples.finishHash(hash, SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + long0 + ", " + long1 + ", " + long2 + ')';
+    }
+}
@@ -11,6 +11,7 @@ import the.oronco.adt.funcs.ThrowingFunction;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -20,7 +21,10 @@ import java.util.function.Function;
 public sealed interface MultiValue<T extends MultiValue<T, L, R> & LeftRotation<L> & RightRotation<R>, L extends LeftRotation<?>,
         R extends RightRotation<?>>
         extends RightRotation<R>, LeftRotation<L>, Rusty<Collection<Object>>, Serializable, Iterable<Object>, Tuple
-        permits Decade, Ennead, Octet, Pair, Quartet, Quintet, Septet, Sextet, Triplet, Unit, Empty {
+        // generated by TupleGenerator, begin permits
+        permits Empty, Unit, Pair, Triplet, Quartet, Quintet, Sextet, Septet, Octet, Ennead, Decade, LongPair, IntPair, DoublePair, LongTriplet,
+        IntTriplet, DoubleTriplet, LongIntPair, LongDoublePair, IntLongPair, IntDoublePair, DoubleLongPair, DoubleIntPair {
+        // generated by TupleGenerator, end permits
 
     @SuppressWarnings("unchecked") // safe because T refers to the own type when the tuples are implemented correctly
     default <O> O map(@NotNull @NonNull Function<? super @NotNull T, ? extends O> f) {
@@ -33,14 +37,26 @@ public sealed interface MultiValue<T extends MultiValue<T, L, R> & LeftRotation<
                 .map(o -> o);
     }
 
+    /**
+     * @return an unmodifiable list view of the values of this tuple, which reads them from the tuple instead of copying them
+     */
     @Override
     @Contract(value = "-> new", pure = true)
-    @Unmodifiable Collection<Object> j();
+    default @Unmodifiable Collection<Object> j() {
+        return new TupleView(this);
+    }
 
+    /**
+     * @return an iterator that reads the values of this tuple by their index
+     */
     @NotNull
     @Override
     default Iterator<Object> iterator() {
-        return this.j()
-                   .iterator();
+        return new TupleView.Cursor(this);
+    }
+
+    @Override
+    default void forEach(@NotNull @NonNull Consumer<? super Object> action) {
+        Tuple.super.forEach(action);
     }
 }
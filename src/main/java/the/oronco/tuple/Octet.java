@@ -1,3 +1,4 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
@@ -6,8 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import the.oronco.adt.Result;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -17,8 +17,7 @@ import java.util.List;
 @Unmodifiable
 public record Octet<T0, T1, T2, T3, T4, T5, T6, T7>(T0 _0, T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6, T7 _7)
         implements MultiValue<Octet<T0, T1, T2, T3, T4, T5, T6, T7>, Octet<T1, T2, T3, T4, T5, T6, T7, T0>, Octet<T7, T0, T1, T2, T3, T4, T5, T6>>,
-                   Tuple.Size8<T0, T1, T2, T3, T4, T5, T6, T7> {
-
+        Tuple.Size8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public static <T0, T1, T2, T3, T4, T5, T6, T7> @NotNull Octet<T0, T1, T2, T3, T4, T5, T6, T7> of(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7) {
         return new Octet<>(v0, v1, v2, v3, v4, v5, v6, v7);
@@ -58,8 +57,31 @@ public record Octet<T0, T1, T2, T3, T4, T5, T6, T7>(T0 _0, T1 _1, T2 _2, T3 _3,
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0, _1, _2, _3, _4, _5, _6, _7);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            case 1 -> _1;
+            case 2 -> _2;
+            case 3 -> _3;
+            case 4 -> _4;
+            case 5 -> _5;
+            case 6 -> _6;
+            case 7 -> _7;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : Objects.equals(_1, other) ? 1
+             : Objects.equals(_2, other) ? 2
+             : Objects.equals(_3, other) ? 3
+             : Objects.equals(_4, other) ? 4
+             : Objects.equals(_5, other) ? 5
+             : Objects.equals(_6, other) ? 6
+             : Objects.equals(_7, other) ? 7
+             : -1;
     }
 
     @Override
@@ -72,6 +94,36 @@ public record Octet<T0, T1, T2, T3, T4, T5, T6, T7>(T0 _0, T1 _1, T2 _2, T3 _3,
         return new Octet<>(_7, _0, _1, _2, _3, _4, _5, _6);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Octet<?, ?, ?, ?, ?, ?, ?, ?> other
+               && Objects.equals(_0, other._0)
+               && Objects.equals(_1, other._1)
+               && Objects.equals(_2, other._2)
+               && Objects.equals(_3, other._3)
+               && Objects.equals(_4, other._4)
+               && Objects.equals(_5, other._5)
+               && Objects.equals(_6, other._6)
+               && Objects.equals(_7, other._7);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_1));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_2));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_3));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_4));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_5));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_6));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_7));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ", " + _1 + ", " + _2 + ", " + _3 + ", " + _4 + ", " + _5 + ", " + _6 + ", " + _7 + ')';
@@ -1,14 +1,13 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
 import lombok.With;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
-import the.oronco.Rusty;
 import the.oronco.adt.Result;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -17,7 +16,7 @@ import java.util.List;
 @With
 @Unmodifiable
 public record Pair<T0, T1>(T0 _0, T1 _1)
-        implements MultiValue<Pair<T0, T1>, Pair<T1, T0>, Pair<T1, T0>>, Rusty<Collection<Object>>, Tuple.Size2<T0, T1> {
+        implements MultiValue<Pair<T0, T1>, Pair<T1, T0>, Pair<T1, T0>>, Tuple.Size2<T0, T1> {
     public static <T0, T1> @NotNull Pair<T0, T1> of(T0 v0, T1 v1) {
         return new Pair<>(v0, v1);
     }
@@ -55,8 +54,19 @@ public record Pair<T0, T1>(T0 _0, T1 _1)
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0, _1);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            case 1 -> _1;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : Objects.equals(_1, other) ? 1
+             : -1;
     }
 
     @Override
@@ -69,6 +79,24 @@ public record Pair<T0, T1>(T0 _0, T1 _1)
         return new Pair<>(_1, _0);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Pair<?, ?> other
+               && Objects.equals(_0, other._0)
+               && Objects.equals(_1, other._1);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_1));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ", " + _1 + ')';
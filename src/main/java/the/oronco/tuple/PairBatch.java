@@ -0,0 +1,219 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TupleBatch} of pairs.
+ *
+ * @param <T0> type of the first values
+ * @param <T1> type of the second values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public final class PairBatch<T0, T1> implements TupleBatch {
+    private final Column<T0> column0;
+    private final Column<T1> column1;
+    private final int size;
+
+    private PairBatch(Column<T0> column0, Column<T1> column1) {
+        this.size = Tuples.batchSize(column0, column1);
+        this.column0 = column0;
+        this.column1 = column1;
+    }
+
+    /**
+     * A flyweight view of one row of a {@link PairBatch}. The view reads the values from the columns of the batch whenever they are accessed.
+     * <p>
+     * The view passed by {@link #forEachRow(Consumer)} is moved from row to row, so it must not be kept beyond the call, {@link #toPair()}
+     * copies its values.
+     */
+    public static final class Row<T0, T1> implements Tuple.Size2<T0, T1> {
+        private final PairBatch<T0, T1> batch;
+        private int row;
+
+        private Row(PairBatch<T0, T1> batch, int row) {
+            this.batch = batch;
+            this.row = row;
+        }
+
+        /**
+         * @return the index of the viewed row in the batch
+         */
+        public int index() {
+            return row;
+        }
+
+        @Override
+        public T0 _0() {
+            return batch.column0.get(row);
+        }
+
+        @Override
+        public T1 _1() {
+            return batch.column1.get(row);
+        }
+
+        @Override
+        public Object getUnchecked(int index) {
+            return switch (index) {
+                case 0 -> _0();
+                case 1 -> _1();
+                default -> throw Tuples.indexOutOfBounds(index, SIZE);
+            };
+        }
+
+        @Override
+        public int indexOf(Object other) {
+            return Objects.equals(_0(), other) ? 0
+                 : Objects.equals(_1(), other) ? 1
+                 : -1;
+        }
+
+        public @NotNull Pair<T0, T1> toPair() {
+            return Pair.of(_0(), _1());
+        }
+
+        @Override
+        public String toString() {
+            return "(" + _0() + ", " + _1() + ')';
+        }
+    }
+
+    public static <T0, T1> @NotNull PairBatch<T0, T1> of(@NotNull @NonNull Column<T0> column0, @NotNull @NonNull Column<T1> column1) {
+        return new PairBatch<>(column0, column1);
+    }
+
+    /**
+     * Copies the values of the rows into a column of the given type per component position.
+     *
+     * @throws NullPointerException if a value that goes into a primitive column is {@code null}
+     */
+    public static <T0, T1> @NotNull PairBatch<T0, T1> from(@NotNull @NonNull List<? extends Tuple.Size2<? extends T0, ? extends T1>> rows,
+                                                           @NotNull @NonNull Column.Type<T0> type0, @NotNull @NonNull Column.Type<T1> type1) {
+        List<? extends Tuple.Size2<? extends T0, ? extends T1>> indexed = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+        return new PairBatch<>(type0.build(indexed.size(), row -> indexed.get(row)._0()),
+                               type1.build(indexed.size(), row -> indexed.get(row)._1()));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int arity() {
+        return Pair.SIZE;
+    }
+
+    @Override
+    public @NotNull Column<?> column(int index) {
+        return switch (index) {
+            case 0 -> column0;
+            case 1 -> column1;
+            default -> throw new IndexOutOfBoundsException("Column %d is out of bounds for a batch of pairs".formatted(index));
+        };
+    }
+
+    public @NotNull Column<T0> column0() {
+        return column0;
+    }
+
+    public @NotNull Column<T1> column1() {
+        return column1;
+    }
+
+    /**
+     * @return a view of the row at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if there is no such row
+     */
+    public @NotNull Row<T0, T1> row(int index) {
+        return new Row<>(this, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Passes every row to {@code action} in order, using a single view that is moved from row to row.
+     */
+    public void forEachRow(@NotNull @NonNull Consumer<? super Row<T0, T1>> action) {
+        var view = new Row<>(this, 0);
+        for (int i = 0; i < size; i++) {
+            view.row = i;
+            action.accept(view);
+        }
+    }
+
+    /**
+     * @return the rows of this batch as pairs
+     */
+    public @NotNull @Unmodifiable List<Pair<T0, T1>> toList() {
+        List<Pair<T0, T1>> pairs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pairs.add(Pair.of(column0.get(i), column1.get(i)));
+        }
+        return Collections.unmodifiableList(pairs);
+    }
+
+    public <U> @NotNull PairBatch<U, T1> map0(@NotNull @NonNull Function<? super T0, ? extends U> f, @NotNull @NonNull Column.Type<U> type) {
+        return new PairBatch<>(column0.map(f, type), column1);
+    }
+
+    public <U> @NotNull PairBatch<T0, U> map1(@NotNull @NonNull Function<? super T1, ? extends U> f, @NotNull @NonNull Column.Type<U> type) {
+        return new PairBatch<>(column0, column1.map(f, type));
+    }
+
+    /**
+     * @return a batch with {@code column} as its first column and the other column of this batch
+     *
+     * @throws IllegalArgumentException if {@code column} does not have {@link #size()} values
+     */
+    public <U> @NotNull PairBatch<U, T1> with0(@NotNull @NonNull Column<U> column) {
+        return new PairBatch<>(column, column1);
+    }
+
+    /**
+     * @return a batch with {@code column} as its second column and the other column of this batch
+     *
+     * @throws IllegalArgumentException if {@code column} does not have {@link #size()} values
+     */
+    public <U> @NotNull PairBatch<T0, U> with1(@NotNull @NonNull Column<U> column) {
+        return new PairBatch<>(column0, column);
+    }
+
+    /**
+     * @return a batch of the rows whose first value matches {@code predicate}
+     */
+    public @NotNull PairBatch<T0, T1> filter0(@NotNull @NonNull Predicate<? super T0> predicate) {
+        return select(column0.where(predicate));
+    }
+
+    /**
+     * @return a batch of the rows whose second value matches {@code predicate}
+     */
+    public @NotNull PairBatch<T0, T1> filter1(@NotNull @NonNull Predicate<? super T1> predicate) {
+        return select(column1.where(predicate));
+    }
+
+    @Override
+    public @NotNull PairBatch<T0, T1> select(@NotNull @NonNull BitSet rows) {
+        int count = Tuples.selectedCount(rows, size);
+        return new PairBatch<>(column0.select(rows, count), column1.select(rows, count));
+    }
+
+    @Override
+    public String toString() {
+        return "PairBatch[" + column0 + ", " + column1 + ']';
+    }
+}
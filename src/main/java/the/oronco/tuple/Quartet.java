@@ -1,3 +1,4 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
@@ -6,8 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import the.oronco.adt.Result;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -17,7 +17,6 @@ import java.util.List;
 @Unmodifiable
 public record Quartet<T0, T1, T2, T3>(T0 _0, T1 _1, T2 _2, T3 _3)
         implements MultiValue<Quartet<T0, T1, T2, T3>, Quartet<T1, T2, T3, T0>, Quartet<T3, T0, T1, T2>>, Tuple.Size4<T0, T1, T2, T3> {
-
     public static <T0, T1, T2, T3> @NotNull Quartet<T0, T1, T2, T3> of(T0 v0, T1 v1, T2 v2, T3 v3) {
         return new Quartet<>(v0, v1, v2, v3);
     }
@@ -55,8 +54,23 @@ public record Quartet<T0, T1, T2, T3>(T0 _0, T1 _1, T2 _2, T3 _3)
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0, _1, _2, _3);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            case 1 -> _1;
+            case 2 -> _2;
+            case 3 -> _3;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : Objects.equals(_1, other) ? 1
+             : Objects.equals(_2, other) ? 2
+             : Objects.equals(_3, other) ? 3
+             : -1;
     }
 
     @Override
@@ -69,6 +83,28 @@ public record Quartet<T0, T1, T2, T3>(T0 _0, T1 _1, T2 _2, T3 _3)
         return new Quartet<>(_3, _0, _1, _2);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Quartet<?, ?, ?, ?> other
+               && Objects.equals(_0, other._0)
+               && Objects.equals(_1, other._1)
+               && Objects.equals(_2, other._2)
+               && Objects.equals(_3, other._3);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_1));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_2));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_3));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ", " + _1 + ", " + _2 + ", " + _3 + ')';
@@ -1,3 +1,4 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
@@ -6,8 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import the.oronco.adt.Result;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -55,8 +55,25 @@ public record Quintet<T0, T1, T2, T3, T4>(T0 _0, T1 _1, T2 _2, T3 _3, T4 _4)
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0, _1, _2, _3, _4);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            case 1 -> _1;
+            case 2 -> _2;
+            case 3 -> _3;
+            case 4 -> _4;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : Objects.equals(_1, other) ? 1
+             : Objects.equals(_2, other) ? 2
+             : Objects.equals(_3, other) ? 3
+             : Objects.equals(_4, other) ? 4
+             : -1;
     }
 
     @Override
@@ -69,6 +86,30 @@ public record Quintet<T0, T1, T2, T3, T4>(T0 _0, T1 _1, T2 _2, T3 _3, T4 _4)
         return new Quintet<>(_4, _0, _1, _2, _3);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Quintet<?, ?, ?, ?, ?> other
+               && Objects.equals(_0, other._0)
+               && Objects.equals(_1, other._1)
+               && Objects.equals(_2, other._2)
+               && Objects.equals(_3, other._3)
+               && Objects.equals(_4, other._4);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_1));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_2));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_3));
+        hash = Tuples.mixHash(hash, Objects.hashCode(_4));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ", " + _1 + ", " + _2 + ", " + _3 + ", " + _4 + ')';
@@ -0,0 +1,258 @@
+package the.oronco.tuple;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TupleBatch} of triplets.
+ *
+ * @param <T0> type of the first values
+ * @param <T1> type of the second values
+ * @param <T2> type of the third values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+public final class TripletBatch<T0, T1, T2> implements TupleBatch {
+    private final Column<T0> column0;
+    private final Column<T1> column1;
+    private final Column<T2> column2;
+    private final int size;
+
+    private TripletBatch(Column<T0> column0, Column<T1> column1, Column<T2> column2) {
+        this.size = Tuples.batchSize(column0, column1, column2);
+        this.column0 = column0;
+        this.column1 = column1;
+        this.column2 = column2;
+    }
+
+    /**
+     * A flyweight view of one row of a {@link TripletBatch}. The view reads the values from the columns of the batch whenever they are
+     * accessed.
+     * <p>
+     * The view passed by {@link #forEachRow(Consumer)} is moved from row to row, so it must not be kept beyond the call, {@link #toTriplet()}
+     * copies its values.
+     */
+    public static final class Row<T0, T1, T2> implements Tuple.Size3<T0, T1, T2> {
+        private final TripletBatch<T0, T1, T2> batch;
+        private int row;
+
+        private Row(TripletBatch<T0, T1, T2> batch, int row) {
+            this.batch = batch;
+            this.row = row;
+        }
+
+        /**
+         * @return the index of the viewed row in the batch
+         */
+        public int index() {
+            return row;
+        }
+
+        @Override
+        public T0 _0() {
+            return batch.column0.get(row);
+        }
+
+        @Override
+        public T1 _1() {
+            return batch.column1.get(row);
+        }
+
+        @Override
+        public T2 _2() {
+            return batch.column2.get(row);
+        }
+
+        @Override
+        public Object getUnchecked(int index) {
+            return switch (index) {
+                case 0 -> _0();
+                case 1 -> _1();
+                case 2 -> _2();
+                default -> throw Tuples.indexOutOfBounds(index, SIZE);
+            };
+        }
+
+        @Override
+        public int indexOf(Object other) {
+            return Objects.equals(_0(), other) ? 0
+                 : Objects.equals(_1(), other) ? 1
+                 : Objects.equals(_2(), other) ? 2
+                 : -1;
+        }
+
+        public @NotNull Triplet<T0, T1, T2> toTriplet() {
+            return Triplet.of(_0(), _1(), _2());
+        }
+
+        @Override
+        public String toString() {
+            return "(" + _0() + ", " + _1() + ", " + _2() + ')';
+        }
+    }
+
+    public static <T0, T1, T2> @NotNull TripletBatch<T0, T1, T2> of(@NotNull @NonNull Column<T0> column0, @NotNull @NonNull Column<T1> column1,
+                                                                    @NotNull @NonNull Column<T2> column2) {
+        return new TripletBatch<>(column0, column1, column2);
+    }
+
+    /**
+     * Copies the values of the rows into a column of the given type per component position.
+     *
+     * @throws NullPointerException if a value that goes into a primitive column is {@code null}
+     */
+    public static <T0, T1, T2> @NotNull TripletBatch<T0, T1, T2> from(
+            @NotNull @NonNull List<? extends Tuple.Size3<? extends T0, ? extends T1, ? extends T2>> rows, @NotNull @NonNull Column.Type<T0> type0,
+            @NotNull @NonNull Column.Type<T1> type1, @NotNull @NonNull Column.Type<T2> type2) {
+        List<? extends Tuple.Size3<? extends T0, ? extends T1, ? extends T2>> indexed = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+        return new TripletBatch<>(type0.build(indexed.size(), row -> indexed.get(row)._0()),
+                                  type1.build(indexed.size(), row -> indexed.get(row)._1()),
+                                  type2.build(indexed.size(), row -> indexed.get(row)._2()));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int arity() {
+        return Triplet.SIZE;
+    }
+
+    @Override
+    public @NotNull Column<?> column(int index) {
+        return switch (index) {
+            case 0 -> column0;
+            case 1 -> column1;
+            case 2 -> column2;
+            default -> throw new IndexOutOfBoundsException("Column %d is out of bounds for a batch of triplets".formatted(index));
+        };
+    }
+
+    public @NotNull Column<T0> column0() {
+        return column0;
+    }
+
+    public @NotNull Column<T1> column1() {
+        return column1;
+    }
+
+    public @NotNull Column<T2> column2() {
+        return column2;
+    }
+
+    /**
+     * @return a view of the row at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if there is no such row
+     */
+    public @NotNull Row<T0, T1, T2> row(int index) {
+        return new Row<>(this, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Passes every row to {@code action} in order, using a single view that is moved from row to row.
+     */
+    public void forEachRow(@NotNull @NonNull Consumer<? super Row<T0, T1, T2>> action) {
+        var view = new Row<>(this, 0);
+        for (int i = 0; i < size; i++) {
+            view.row = i;
+            action.accept(view);
+        }
+    }
+
+    /**
+     * @return the rows of this batch as triplets
+     */
+    public @NotNull @Unmodifiable List<Triplet<T0, T1, T2>> toList() {
+        List<Triplet<T0, T1, T2>> triplets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            triplets.add(Triplet.of(column0.get(i), column1.get(i), column2.get(i)));
+        }
+        return Collections.unmodifiableList(triplets);
+    }
+
+    public <U> @NotNull TripletBatch<U, T1, T2> map0(@NotNull @NonNull Function<? super T0, ? extends U> f, @NotNull @NonNull Column.Type<U> type) {
+        return new TripletBatch<>(column0.map(f, type), column1, column2);
+    }
+
+    public <U> @NotNull TripletBatch<T0, U, T2> map1(@NotNull @NonNull Function<? super T1, ? extends U> f, @NotNull @NonNull Column.Type<U> type) {
+        return new TripletBatch<>(column0, column1.map(f, type), column2);
+    }
+
+    public <U> @NotNull TripletBatch<T0, T1, U> map2(@NotNull @NonNull Function<? super T2, ? extends U> f, @NotNull @NonNull Column.Type<U> type) {
+        return new TripletBatch<>(column0, column1, column2.map(f, type));
+    }
+
+    /**
+     * @return a batch with {@code column} as its first column and the other columns of this batch
+     *
+     * @throws IllegalArgumentException if {@code column} does not have {@link #size()} values
+     */
+    public <U> @NotNull TripletBatch<U, T1, T2> with0(@NotNull @NonNull Column<U> column) {
+        return new TripletBatch<>(column, column1, column2);
+    }
+
+    /**
+     * @return a batch with {@code column} as its second column and the other columns of this batch
+     *
+     * @throws IllegalArgumentException if {@code column} does not have {@link #size()} values
+     */
+    public <U> @NotNull TripletBatch<T0, U, T2> with1(@NotNull @NonNull Column<U> column) {
+        return new TripletBatch<>(column0, column, column2);
+    }
+
+    /**
+     * @return a batch with {@code column} as its third column and the other columns of this batch
+     *
+     * @throws IllegalArgumentException if {@code column} does not have {@link #size()} values
+     */
+    public <U> @NotNull TripletBatch<T0, T1, U> with2(@NotNull @NonNull Column<U> column) {
+        return new TripletBatch<>(column0, column1, column);
+    }
+
+    /**
+     * @return a batch of the rows whose first value matches {@code predicate}
+     */
+    public @NotNull TripletBatch<T0, T1, T2> filter0(@NotNull @NonNull Predicate<? super T0> predicate) {
+        return select(column0.where(predicate));
+    }
+
+    /**
+     * @return a batch of the rows whose second value matches {@code predicate}
+     */
+    public @NotNull TripletBatch<T0, T1, T2> filter1(@NotNull @NonNull Predicate<? super T1> predicate) {
+        return select(column1.where(predicate));
+    }
+
+    /**
+     * @return a batch of the rows whose third value matches {@code predicate}
+     */
+    public @NotNull TripletBatch<T0, T1, T2> filter2(@NotNull @NonNull Predicate<? super T2> predicate) {
+        return select(column2.where(predicate));
+    }
+
+    @Override
+    public @NotNull TripletBatch<T0, T1, T2> select(@NotNull @NonNull BitSet rows) {
+        int count = Tuples.selectedCount(rows, size);
+        return new TripletBatch<>(column0.select(rows, count), column1.select(rows, count), column2.select(rows, count));
+    }
+
+    @Override
+    public String toString() {
+        return "TripletBatch[" + column0 + ", " + column1 + ", " + column2 + ']';
+    }
+}
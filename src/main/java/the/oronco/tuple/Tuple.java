@@ -1,52 +1,112 @@
 package the.oronco.tuple;
 
-import org.springframework.data.util.StreamUtils;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import the.oronco.adt.Option;
 import the.oronco.adt.Result;
-import the.oronco.tuple.Tuple.Size1;
-import the.oronco.tuple.Tuple.Size10;
-import the.oronco.tuple.Tuple.Size2;
-import the.oronco.tuple.Tuple.Size3;
-import the.oronco.tuple.Tuple.Size4;
-import the.oronco.tuple.Tuple.Size5;
-import the.oronco.tuple.Tuple.Size6;
-import the.oronco.tuple.Tuple.Size7;
-import the.oronco.tuple.Tuple.Size8;
-import the.oronco.tuple.Tuple.Size9;
 import the.oronco.tuple.TupleError.IndexError;
 import the.oronco.tuple.TupleError.IndexError.IndexSmallerZeroError;
 import the.oronco.tuple.TupleError.IndexError.IndexTooLargeError;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 /**
  * @author Théo Roncoletta
  * @since 06.03.24
  **/
-public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Size2, Size3, Size4, Size5, Size6, Size7, Size8, Size9 {
+public sealed interface Tuple permits MultiValue, Tuple.Size0 {
     int size();
 
-    boolean contains(Object other);
+    /**
+     * Checks whether any value of this tuple equals {@code other}. The values are compared directly by the tuple, so this neither boxes nor
+     * walks the size interfaces.
+     */
+    default boolean contains(Object other) {
+        return indexOf(other) >= 0;
+    }
+
+    /**
+     * @param other the value to search for
+     *
+     * @return the index of the first value of this tuple that equals {@code other} or {@code -1} if there is none
+     */
+    int indexOf(Object other);
 
     default boolean containsAll(Iterable<?> others) {
-        return StreamUtils.createStreamFromIterator(others.iterator())
-                          .allMatch(this::contains);
+        for (Object other : others) {
+            if (!this.contains(other)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     default boolean containsAll(Object... others) {
-        return Arrays.stream(others)
-                     .allMatch(this::contains);
+        for (Object other : others) {
+            if (!this.contains(other)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Performs {@code action} for every value of this tuple in order, without allocating an iterator.
+     */
+    default void forEach(@NotNull @NonNull Consumer<? super Object> action) {
+        for (int i = 0; i < this.size(); i++) {
+            action.accept(this.getUnchecked(i));
+        }
+    }
+
+    /**
+     * Performs {@code action} for every value of this tuple and its index in order, without allocating anything.
+     */
+    default void forEachIndexed(@NotNull @NonNull ObjIntConsumer<? super Object> action) {
+        for (int i = 0; i < this.size(); i++) {
+            action.accept(this.getUnchecked(i), i);
+        }
+    }
+
+    /**
+     * Gets the value at {@code index}, wrapping it into a {@link Result} and an {@link Option}. Use {@link #getUnchecked(int)} or
+     * {@link #getOrNull(int)} where these two allocations matter.
+     */
     default Result<Option<Object>, IndexError> get(int index) {
         if (index < 0) {
             return Result.err(new IndexSmallerZeroError(index));
-        } else {
+        } else if (index >= this.size()) {
             return Result.err(new IndexTooLargeError(index, this.size() - 1));
         }
+        return Result.ok(Option.from(this.getUnchecked(index)));
     }
 
+    /**
+     * Gets the value at {@code index} without allocating anything.
+     *
+     * @param index the index of the value
+     *
+     * @return the value, which may be {@code null}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not smaller than {@link #size()}
+     */
+    Object getUnchecked(int index);
+
+    /**
+     * Gets the value at {@code index} without allocating anything. This cannot tell a {@code null} value from a missing index, use
+     * {@link #get(int)} if it has to.
+     *
+     * @param index the index of the value
+     *
+     * @return the value or {@code null} if there is no value at {@code index}
+     */
+    default @Nullable Object getOrNull(int index) {
+        return index >= 0 && index < this.size() ? this.getUnchecked(index) : null;
+    }
+
+    // generated by TupleGenerator, begin size interfaces
     sealed interface Size0 extends Tuple permits Size1, Empty {
         int SIZE = 0;
 
@@ -54,14 +114,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         default int size() {
             return SIZE;
         }
-
-        @Override
-        default boolean contains(Object other) {
-            return false;
-        }
     }
 
-    sealed interface Size1<T0> extends Tuple, Size0 permits Size2, Unit {
+    sealed interface Size1<T0> extends Size0 permits Size2, Unit {
         int SIZE = 1;
 
         @Override
@@ -70,27 +125,10 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T0 _0();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._0(), other)) {
-                return true;
-            } else {
-                return Size0.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from(this._0()));
-            } else {
-                return Size0.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size2<T0, T1> extends Tuple, Size1<T0> permits Size3, Pair {
+    sealed interface Size2<T0, T1> extends Size1<T0> permits Size3, Pair, PairBatch.Row, LongPairMap.Key, LongPair, IntPair, DoublePair, LongIntPair,
+            LongDoublePair, IntLongPair, IntDoublePair, DoubleLongPair, DoubleIntPair {
         int SIZE = 2;
 
         @Override
@@ -99,27 +137,10 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T1 _1();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._1(), other)) {
-                return true;
-            } else {
-                return Size1.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from(this._1()));
-            } else {
-                return Size1.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size3<T0, T1, T2> extends Tuple, Size2<T0, T1> permits Size4, Triplet {
+    sealed interface Size3<T0, T1, T2> extends Size2<T0, T1> permits Size4, Triplet, TripletBatch.Row, IntTripletMap.Key, LongTriplet, IntTriplet,
+            DoubleTriplet {
         int SIZE = 3;
 
         @Override
@@ -128,27 +149,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T2 _2();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._2(), other)) {
-                return true;
-            } else {
-                return Size2.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from(this._2()));
-            } else {
-                return Size2.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size4<T0, T1, T2, T3> extends Tuple, Size3<T0, T1, T2> permits Size5, Quartet {
+    sealed interface Size4<T0, T1, T2, T3> extends Size3<T0, T1, T2> permits Size5, Quartet {
         int SIZE = 4;
 
         @Override
@@ -157,27 +160,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T3 _3();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._3(), other)) {
-                return true;
-            } else {
-                return Size3.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from((this._3())));
-            } else {
-                return Size3.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size5<T0, T1, T2, T3, T4> extends Tuple, Size4<T0, T1, T2, T3> permits Size6, Quintet {
+    sealed interface Size5<T0, T1, T2, T3, T4> extends Size4<T0, T1, T2, T3> permits Size6, Quintet {
         int SIZE = 5;
 
         @Override
@@ -186,27 +171,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T4 _4();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._4(), other)) {
-                return true;
-            } else {
-                return Size4.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from((this._4())));
-            } else {
-                return Size4.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size6<T0, T1, T2, T3, T4, T5> extends Tuple, Size5<T0, T1, T2, T3, T4> permits Size7, Sextet {
+    sealed interface Size6<T0, T1, T2, T3, T4, T5> extends Size5<T0, T1, T2, T3, T4> permits Size7, Sextet {
         int SIZE = 6;
 
         @Override
@@ -215,28 +182,10 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T5 _5();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._5(), other)) {
-                return true;
-            } else {
-                return Size5.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from((this._5())));
-            } else {
-                return Size5.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size7<T0, T1, T2, T3, T4, T5, T6> extends Tuple, Size6<T0, T1, T2, T3, T4, T5> permits Size8, Septet {
-        public static int SIZE = 7;
+    sealed interface Size7<T0, T1, T2, T3, T4, T5, T6> extends Size6<T0, T1, T2, T3, T4, T5> permits Size8, Septet {
+        int SIZE = 7;
 
         @Override
         default int size() {
@@ -244,28 +193,10 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T6 _6();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._6(), other)) {
-                return true;
-            } else {
-                return Size6.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from((this._6())));
-            } else {
-                return Size6.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size8<T0, T1, T2, T3, T4, T5, T6, T7> extends Tuple, Size7<T0, T1, T2, T3, T4, T5, T6> permits Size9, Octet {
-        public static int SIZE = 8;
+    sealed interface Size8<T0, T1, T2, T3, T4, T5, T6, T7> extends Size7<T0, T1, T2, T3, T4, T5, T6> permits Size9, Octet {
+        int SIZE = 8;
 
         @Override
         default int size() {
@@ -273,27 +204,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T7 _7();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._7(), other)) {
-                return true;
-            } else {
-                return Size7.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from((this._7())));
-            } else {
-                return Size7.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size9<T0, T1, T2, T3, T4, T5, T6, T7, T8> extends Tuple, Size8<T0, T1, T2, T3, T4, T5, T6, T7> permits Ennead, Size10 {
+    sealed interface Size9<T0, T1, T2, T3, T4, T5, T6, T7, T8> extends Size8<T0, T1, T2, T3, T4, T5, T6, T7> permits Size10, Ennead {
         int SIZE = 9;
 
         @Override
@@ -302,27 +215,9 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T8 _8();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._8(), other)) {
-                return true;
-            } else {
-                return Size8.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from(this._8()));
-            } else {
-                return Size8.super.get(index);
-            }
-        }
     }
 
-    sealed interface Size10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> extends Tuple, Size9<T0, T1, T2, T3, T4, T5, T6, T7, T8> permits Decade {
+    sealed interface Size10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> extends Size9<T0, T1, T2, T3, T4, T5, T6, T7, T8> permits Decade {
         int SIZE = 10;
 
         @Override
@@ -331,23 +226,6 @@ public sealed interface Tuple permits MultiValue, Tuple.Size0, Size1, Size10, Si
         }
 
         T9 _9();
-
-        @Override
-        default boolean contains(Object other) {
-            if (Objects.equals(this._9(), other)) {
-                return true;
-            } else {
-                return Size9.super.contains(other);
-            }
-        }
-
-        @Override
-        default Result<Option<Object>, IndexError> get(int index) {
-            if (index == SIZE - 1) {
-                return Result.ok(Option.from(this._9()));
-            } else {
-                return Size9.super.get(index);
-            }
-        }
     }
+    // generated by TupleGenerator, end size interfaces
 }
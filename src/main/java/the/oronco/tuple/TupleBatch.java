@@ -0,0 +1,44 @@
+package the.oronco.tuple;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+
+/**
+ * Many tuples of the same arity stored column by column: every component position is kept in its own {@link Column}, so a batch of a million
+ * {@code Triplet<Long, String, Double>} needs three arrays instead of a million tuple objects and two million boxes.
+ * <p>
+ * The rows of a batch are read through flyweight views that implement the matching {@code Tuple.SizeN} interface. Column-wise operations like
+ * {@code map} or {@code filter} only touch the affected columns and share all others with the original batch, which is possible because
+ * batches and their columns are immutable.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public sealed interface TupleBatch permits PairBatch, TripletBatch {
+    /**
+     * @return the number of rows
+     */
+    int size();
+
+    /**
+     * @return the number of columns, which is the arity of the rows
+     */
+    int arity();
+
+    /**
+     * @return the column of the component position {@code index}
+     *
+     * @throws IndexOutOfBoundsException if there is no such column
+     */
+    @NotNull Column<?> column(int index);
+
+    /**
+     * @param rows the rows to keep
+     *
+     * @return a batch of the set rows in order
+     *
+     * @throws IndexOutOfBoundsException if a set row does not exist
+     */
+    @NotNull TupleBatch select(@NotNull BitSet rows);
+}
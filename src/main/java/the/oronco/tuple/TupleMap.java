@@ -0,0 +1,71 @@
+package the.oronco.tuple;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map from tuples of primitives to values that does not keep a key object per entry. The components of the keys are stored flattened in
+ * primitive arrays and found by open addressing, so the maps offer lookups by the bare components, e.g. {@link LongPairMap#get(long, long)},
+ * that allocate nothing. The methods of this interface take any tuple of the right shape instead.
+ * <p>
+ * When a map grows the entries are moved to the bigger table a few at a time by the following inserts instead of all at once, and the memory
+ * of the bigger table is allocated in small pages as it fills, so that a single insert never has to rehash the whole map.
+ * <p>
+ * Like {@link java.util.concurrent.ConcurrentHashMap} the maps do not accept {@code null} values, {@code null} is returned for missing keys.
+ * The maps are not thread safe.
+ *
+ * @param <K> type of the tuples accepted as keys
+ * @param <V> type of the values
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public sealed interface TupleMap<K extends Tuple, V> permits LongPairMap, IntTripletMap {
+    /**
+     * @return the number of entries
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the value of {@code key} or {@code null} if there is none
+     *
+     * @throws NullPointerException if a component of {@code key} is {@code null}
+     */
+    @Nullable V get(@NotNull K key);
+
+    default boolean containsKey(@NotNull K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates {@code value} with the components of {@code key}, the key itself is not kept.
+     *
+     * @return the previous value of {@code key} or {@code null} if there was none
+     *
+     * @throws NullPointerException if {@code value} or a component of {@code key} is {@code null}
+     */
+    @Nullable V put(@NotNull K key, @NotNull V value);
+
+    /**
+     * @return the removed value of {@code key} or {@code null} if there was none
+     *
+     * @throws NullPointerException if a component of {@code key} is {@code null}
+     */
+    @Nullable V remove(@NotNull K key);
+
+    /**
+     * Removes all entries but keeps the capacity.
+     */
+    void clear();
+
+    /**
+     * Passes every entry to {@code action} in no particular order. The key is a single view that is moved from entry to entry, so it must not
+     * be kept beyond the call. {@code action} must not change the map.
+     */
+    void forEach(@NotNull BiConsumer<? super K, ? super V> action);
+}
@@ -0,0 +1,57 @@
+package the.oronco.tuple;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * A hash set of tuples of primitives that does not keep an object per element, backed by the matching {@link TupleMap} like
+ * {@link java.util.HashSet} is backed by a {@link java.util.HashMap}. The sets offer the same allocation free operations by the bare
+ * components and grow incrementally the same way. The sets are not thread safe.
+ *
+ * @param <K> type of the tuples accepted as elements
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+public sealed interface TupleSet<K extends Tuple> permits LongPairSet, IntTripletSet {
+    /**
+     * @return the number of elements
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @throws NullPointerException if a component of {@code element} is {@code null}
+     */
+    boolean contains(@NotNull K element);
+
+    /**
+     * Adds the components of {@code element}, the element itself is not kept.
+     *
+     * @return whether the set did not contain {@code element} yet
+     *
+     * @throws NullPointerException if a component of {@code element} is {@code null}
+     */
+    boolean add(@NotNull K element);
+
+    /**
+     * @return whether the set contained {@code element}
+     *
+     * @throws NullPointerException if a component of {@code element} is {@code null}
+     */
+    boolean remove(@NotNull K element);
+
+    /**
+     * Removes all elements but keeps the capacity.
+     */
+    void clear();
+
+    /**
+     * Passes every element to {@code action} in no particular order as a single view that is moved from element to element, so it must not be
+     * kept beyond the call. {@code action} must not change the set.
+     */
+    void forEach(@NotNull Consumer<? super K> action);
+}
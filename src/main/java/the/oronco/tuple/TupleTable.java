@@ -0,0 +1,283 @@
+package the.oronco.tuple;
+
+import java.util.Arrays;
+
+/**
+ * The open addressing hash table behind the {@link TupleMap}s. Every key is stored as two {@code long}s, the subclasses decide how the
+ * components of their keys are packed into them. Slots are probed linearly, a slot is free if its value is {@code null} and removing an entry
+ * shifts the following entries of its probe sequence back, so the current table has no tombstones.
+ * <p>
+ * Growing a map must not stall a single insert, so neither the entries nor the memory of the bigger table are moved or allocated at once:
+ * <ul>
+ *     <li>The keys and values of a table are split into pages of at most {@link #PAGE_SLOTS} slots that are only allocated when a slot of
+ *     them is first written, growing only allocates the small arrays of pages.</li>
+ *     <li>The old table is kept as the previous table and every insert moves the entries of its next {@link #MIGRATION_STEP} slots into the
+ *     current table, the slots below {@link #cursor} are done. The current table is at most half full and doubles in size, so the previous
+ *     table is drained long before the current one has to grow again. Until then lookups check both tables, entries that are removed from
+ *     or updated in the previous table are changed in place, removed ones are marked with {@link #REMOVED}.</li>
+ * </ul>
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+abstract sealed class TupleTable permits LongPairMap, IntTripletMap {
+    static final int MIN_CAPACITY = 16;
+    static final int PAGE_SLOTS = 1 << 12;
+    static final int MIGRATION_STEP = 4;
+    static final Object REMOVED = new Object();
+
+    /**
+     * Receives the slots in use by {@link #forEachSlot(SlotAction)}, the two {@code long}s of the key are {@code keys[index]} and
+     * {@code keys[index + 1]}.
+     */
+    @FunctionalInterface
+    interface SlotAction {
+        void accept(long[] keys, int index, Object value);
+    }
+
+    /**
+     * One generation of the table, split into pages of keys and values.
+     */
+    static final class Table {
+        final Object[][] values;
+        final long[][] keys;
+        final int mask;
+        final int shift;
+        final int pageMask;
+
+        Table(int capacity) {
+            int pageSlots = Math.min(capacity, PAGE_SLOTS);
+            shift = Integer.numberOfTrailingZeros(pageSlots);
+            pageMask = pageSlots - 1;
+            mask = capacity - 1;
+            values = new Object[capacity >>> shift][];
+            keys = new long[capacity >>> shift][];
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        Object value(int slot) {
+            Object[] page = values[slot >>> shift];
+            return page == null ? null : page[slot & pageMask];
+        }
+
+        void setValue(int slot, Object value) {
+            values[slot >>> shift][slot & pageMask] = value;
+        }
+
+        long key0(int slot) {
+            return keys[slot >>> shift][2 * (slot & pageMask)];
+        }
+
+        long key1(int slot) {
+            return keys[slot >>> shift][2 * (slot & pageMask) + 1];
+        }
+
+        void set(int slot, long k0, long k1, Object value) {
+            int page = slot >>> shift;
+            if (values[page] == null) {
+                values[page] = new Object[pageMask + 1];
+                keys[page] = new long[2 * (pageMask + 1)];
+            }
+            int offset = slot & pageMask;
+            keys[page][2 * offset] = k0;
+            keys[page][2 * offset + 1] = k1;
+            values[page][offset] = value;
+        }
+
+        /**
+         * @return the slot of the key or {@code -1} if it is not in this table
+         */
+        int find(long k0, long k1, int hash) {
+            for (int slot = hash & mask; ; slot = slot + 1 & mask) {
+                int page = slot >>> shift;
+                Object[] valuePage = values[page];
+                int offset = slot & pageMask;
+                if (valuePage == null || valuePage[offset] == null) {
+                    return -1;
+                }
+                long[] keyPage = keys[page];
+                if (keyPage[2 * offset] == k0 && keyPage[2 * offset + 1] == k1) {
+                    return slot;
+                }
+            }
+        }
+
+        /**
+         * @return the first free slot of the probe sequence of {@code hash}
+         */
+        int freeSlot(int hash) {
+            int slot = hash & mask;
+            while (value(slot) != null) {
+                slot = slot + 1 & mask;
+            }
+            return slot;
+        }
+    }
+
+    private Table table;
+    private Table previous;
+    private int cursor;
+    private int size;
+    private int used;
+
+    TupleTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative, but was %d!".formatted(expectedSize));
+        }
+        table = new Table(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1));
+    }
+
+    /**
+     * @return the hash of the key stored as {@code k0} and {@code k1}, which has to be the one passed for it to the other methods
+     */
+    abstract int hash(long k0, long k1);
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (Object[] page : table.values) {
+            if (page != null) {
+                Arrays.fill(page, null);
+            }
+        }
+        previous = null;
+        size = 0;
+        used = 0;
+    }
+
+    /**
+     * @return the value of the key or {@code null} if there is none
+     */
+    Object valueOf(long k0, long k1, int hash) {
+        int slot = table.find(k0, k1, hash);
+        if (slot >= 0) {
+            return table.value(slot);
+        }
+        slot = findPrevious(k0, k1, hash);
+        return slot >= 0 ? previous.value(slot) : null;
+    }
+
+    /**
+     * @return the previous value of the key or {@code null} if there was none
+     */
+    Object store(long k0, long k1, int hash, Object value) {
+        int slot = table.find(k0, k1, hash);
+        if (slot >= 0) {
+            Object old = table.value(slot);
+            table.setValue(slot, value);
+            return old;
+        }
+        slot = findPrevious(k0, k1, hash);
+        if (slot >= 0) {
+            Object old = previous.value(slot);
+            previous.setValue(slot, value);
+            return old;
+        }
+        if (isMigrating()) {
+            migrate(MIGRATION_STEP);
+        }
+        if ((used + 1) * 2 > table.capacity()) {
+            if (isMigrating()) {
+                migrate(previous.capacity());
+            }
+            previous = table;
+            table = new Table(table.capacity() * 2);
+            cursor = 0;
+            used = 0;
+        }
+        table.set(table.freeSlot(hash), k0, k1, value);
+        size++;
+        used++;
+        return null;
+    }
+
+    /**
+     * @return the removed value of the key or {@code null} if there was none
+     */
+    Object delete(long k0, long k1, int hash) {
+        int slot = table.find(k0, k1, hash);
+        if (slot >= 0) {
+            Object old = table.value(slot);
+            removeAt(slot);
+            return old;
+        }
+        slot = findPrevious(k0, k1, hash);
+        if (slot >= 0) {
+            Object old = previous.value(slot);
+            previous.setValue(slot, REMOVED);
+            size--;
+            return old;
+        }
+        return null;
+    }
+
+    /**
+     * Passes every entry to {@code action} in no particular order.
+     */
+    void forEachSlot(SlotAction action) {
+        forEachSlot(table, 0, action);
+        if (isMigrating()) {
+            forEachSlot(previous, cursor, action);
+        }
+    }
+
+    boolean isMigrating() {
+        return previous != null;
+    }
+
+    private static void forEachSlot(Table table, int from, SlotAction action) {
+        for (int slot = from; slot < table.capacity(); slot++) {
+            Object value = table.value(slot);
+            if (value != null && value != REMOVED) {
+                action.accept(table.keys[slot >>> table.shift], 2 * (slot & table.pageMask), value);
+            }
+        }
+    }
+
+    /**
+     * @return the slot of the key in the previous table or {@code -1} if it is not there or was migrated or removed already
+     */
+    private int findPrevious(long k0, long k1, int hash) {
+        if (!isMigrating()) {
+            return -1;
+        }
+        int slot = previous.find(k0, k1, hash);
+        return slot >= cursor && previous.value(slot) != REMOVED ? slot : -1;
+    }
+
+    private void removeAt(int slot) {
+        int free = slot;
+        for (int next = free + 1 & table.mask; table.value(next) != null; next = next + 1 & table.mask) {
+            int home = hash(table.key0(next), table.key1(next)) & table.mask;
+            // the entry may only move back if the free slot is not before its home slot in the probe order
+            if ((next - home & table.mask) >= (next - free & table.mask)) {
+                table.set(free, table.key0(next), table.key1(next), table.value(next));
+                free = next;
+            }
+        }
+        table.setValue(free, null);
+        size--;
+        used--;
+    }
+
+    private void migrate(int slots) {
+        int end = cursor + Math.min(slots, previous.capacity() - cursor);
+        for (; cursor < end; cursor++) {
+            Object value = previous.value(cursor);
+            if (value != null && value != REMOVED) {
+                long k0 = previous.key0(cursor);
+                long k1 = previous.key1(cursor);
+                table.set(table.freeSlot(hash(k0, k1)), k0, k1, value);
+                used++;
+            }
+        }
+        if (cursor == previous.capacity()) {
+            previous = null;
+        }
+    }
+}
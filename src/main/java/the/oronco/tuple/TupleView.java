@@ -0,0 +1,84 @@
+package the.oronco.tuple;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Unmodifiable {@link java.util.List} view of the values of a tuple as returned by {@link MultiValue#j()}. It reads the values straight from
+ * the tuple instead of copying them into a {@code List.of(...)}, so building it allocates only the view itself, and unlike {@code List.of} it
+ * accepts {@code null} values.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@Unmodifiable
+final class TupleView extends AbstractList<Object> implements RandomAccess, Serializable {
+    private final Tuple tuple;
+
+    TupleView(@NotNull Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+    @Override
+    public Object get(int index) {
+        return tuple.getUnchecked(index);
+    }
+
+    @Override
+    public int size() {
+        return tuple.size();
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return tuple.contains(other);
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return tuple.indexOf(other);
+    }
+
+    @Override
+    public @NotNull Iterator<Object> iterator() {
+        return new Cursor(tuple);
+    }
+
+    @Override
+    public void forEach(@NotNull Consumer<? super Object> action) {
+        tuple.forEach(action);
+    }
+
+    /**
+     * Iterator over the values of a tuple that only keeps the index of the next value. Unlike the iterator of {@link AbstractList} it has no
+     * modification count to check, as a tuple cannot change.
+     */
+    static final class Cursor implements Iterator<Object> {
+        private final Tuple tuple;
+        private int next;
+
+        Cursor(@NotNull Tuple tuple) {
+            this.tuple = tuple;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < tuple.size();
+        }
+
+        @Override
+        public Object next() {
+            if (next >= tuple.size()) {
+                throw new NoSuchElementException();
+            }
+            return tuple.getUnchecked(next++);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.data.util.StreamUtils;
 import the.oronco.adt.Result;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 /**
@@ -48,4 +49,62 @@ public class Tuples {
 
         return Result.ok(vals);
     }
+
+    static @NotNull IndexOutOfBoundsException indexOutOfBounds(int index, int size) {
+        return new IndexOutOfBoundsException("Index %d out of bounds for a tuple of size %d".formatted(index, size));
+    }
+
+    /**
+     * @return the number of rows of the given columns of a {@link TupleBatch}
+     *
+     * @throws IllegalArgumentException if the columns have different sizes
+     */
+    static int batchSize(@NotNull Column<?> @NotNull ... columns) {
+        int size = columns[0].size();
+        for (Column<?> column : columns) {
+            if (column.size() != size) {
+                throw new IllegalArgumentException("All columns of a batch must have the same size, but got %d and %d!".formatted(size,
+                                                                                                                                  column.size()));
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of set rows after checking that all of them exist in a {@link TupleBatch} of the given size
+     */
+    static int selectedCount(@NotNull BitSet rows, int size) {
+        if (rows.length() > size) {
+            throw new IndexOutOfBoundsException("Row %d is out of bounds for a batch of %d rows".formatted(rows.length() - 1, size));
+        }
+        return rows.cardinality();
+    }
+
+    /**
+     * Start value of the hashes of the tuples. The hash of a tuple is the hashes of its values put through the rounds of MurmurHash3 (x86, 32
+     * bit) one after another by {@link #mixHash(int, int)} and finished by {@link #finishHash(int, int)}. Unlike the {@code 31 * h + v} of
+     * the default record hash, every bit of every value ends up in all bits of the hash, so that small numbers, e.g. grid coordinates, do not
+     * pile up in a few buckets. The hash only depends on this seed and the hashes of the values, so it is the same in every run as long as
+     * theirs are, which holds for strings, boxed primitives and records of those, but not for enums or identity hashes.
+     */
+    static final int HASH_SEED = 0x9747b28c;
+
+    static int mixHash(int hash, int value) {
+        int k = Integer.rotateLeft(value * 0xcc9e2d51, 15) * 0x1b873593;
+        return Integer.rotateLeft(hash ^ k, 13) * 5 + 0xe6546b64;
+    }
+
+    /**
+     * Mixes both halves of {@code value}, so that the upper 32 bits spread as well as the lower ones.
+     */
+    static int mixHash(int hash, long value) {
+        return mixHash(mixHash(hash, (int) value), (int) (value >>> 32));
+    }
+
+    static int finishHash(int hash, int size) {
+        int h = hash ^ size;
+        h = (h ^ h >>> 16) * 0x85ebca6b;
+        h = (h ^ h >>> 13) * 0xc2b2ae35;
+        return h ^ h >>> 16;
+    }
 }
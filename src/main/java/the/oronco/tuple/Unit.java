@@ -1,3 +1,4 @@
+// Generated by TupleGenerator from the generateTuples task, change the generator instead of this file.
 package the.oronco.tuple;
 
 import lombok.NonNull;
@@ -6,8 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import the.oronco.adt.Result;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Théo Roncoletta
@@ -15,7 +15,8 @@ import java.util.List;
  **/
 @With
 @Unmodifiable
-public record Unit<T0>(T0 _0) implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>>, Tuple.Size1<T0> {
+public record Unit<T0>(T0 _0)
+        implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>>, Tuple.Size1<T0> {
     public static <T0> @NotNull Unit<T0> of(T0 v0) {
         return new Unit<>(v0);
     }
@@ -24,8 +25,8 @@ public record Unit<T0>(T0 _0) implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>
         return Unit.of(other._0());
     }
 
-
-    public static <T> @NotNull Result<Unit<T>, TupleError> from(@NonNull @NotNull final T[] vals) {
+    public static <T> @NotNull Result<Unit<T>, TupleError> from(
+            @NonNull @NotNull final T[] vals) {
         if (vals.length > SIZE) {
             return Result.err(new TupleError.CreateError.TooFewElements(SIZE, vals.length, 0));
         } else if (vals.length < SIZE) {
@@ -39,7 +40,8 @@ public record Unit<T0>(T0 _0) implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>
         return from(iterable, numberOfElementsToSkip, false);
     }
 
-    public static <T> @NotNull Result<Unit<T>, TupleError> from(@NonNull @NotNull final Iterable<T> iterable) {
+    public static <T> @NotNull Result<Unit<T>, TupleError> from(
+            @NonNull @NotNull final Iterable<T> iterable) {
         return from(iterable, 0, true);
     }
 
@@ -52,8 +54,17 @@ public record Unit<T0>(T0 _0) implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>
     }
 
     @Override
-    public @NotNull Collection<Object> j() {
-        return List.of(_0);
+    public Object getUnchecked(int index) {
+        return switch (index) {
+            case 0 -> _0;
+            default -> throw Tuples.indexOutOfBounds(index, SIZE);
+        };
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return Objects.equals(_0, other) ? 0
+             : -1;
     }
 
     @Override
@@ -66,6 +77,22 @@ public record Unit<T0>(T0 _0) implements MultiValue<Unit<T0>, Unit<T0>, Unit<T0>
         return new Unit<>(_0);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Unit<?> other
+               && Objects.equals(_0, other._0);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Tuples.HASH_SEED;
+        hash = Tuples.mixHash(hash, Objects.hashCode(_0));
+        return Tuples.finishHash(hash, SIZE);
+    }
+
     @Override
     public String toString() {
         return "(" + _0 + ')';
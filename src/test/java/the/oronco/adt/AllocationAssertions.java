@@ -0,0 +1,72 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+
+import lombok.experimental.UtilityClass;
+import the.oronco.adt.funcs.ThrowingSupplier;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how many bytes the current thread allocates per call of a piece of code with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * The numbers are only deterministic if escape analysis is disabled (see the test task in {@code build.gradle.kts}) as the JIT would otherwise
+ * remove some allocations once it has compiled the code under test.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+@UtilityClass
+public class AllocationAssertions {
+    private static final int WARMUP_CALLS = 1_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Every result is written here so that it escapes and cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    static double allocatedBytesPerCall(ThrowingSupplier<?, ?> call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = call.get();
+        }
+
+        // the best round is used so that one-off allocations (e.g. class loading or lambda linkage) do not count against the code under test
+        long threadId = Thread.currentThread()
+                              .threadId();
+        long fewestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                sink = call.get();
+            }
+            long after = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            fewestBytes = Math.min(fewestBytes, after - before);
+        }
+
+        return (double) fewestBytes / MEASURED_CALLS;
+    }
+
+    /**
+     * Fails if a call of {@code call} allocates more than {@code budget} bytes on average.
+     *
+     * @param budget the number of bytes a single call may allocate
+     * @param call   the code under test
+     * @param name   name of the code under test that is used in the failure message
+     */
+    static void assertAllocatesAtMost(long budget, ThrowingSupplier<?, ?> call, String name) {
+        double allocated = allocatedBytesPerCall(call);
+        // one byte of slack for the bookkeeping of the measurement itself, which is far below the size of any object
+        if (allocated > budget + 1) {
+            assertionFailure().message("%s allocates more bytes per call than its budget allows".formatted(name))
+                              .expected(budget)
+                              .actual(allocated)
+                              .buildAndThrow();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static the.oronco.adt.AllocationAssertions.assertAllocatesAtMost;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import the.oronco.adt.funcs.ThrowingSupplier;
+import the.oronco.tuple.Empty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Guards the number of bytes that the {@code default} methods of the ADTs allocate per call. Every {@code default} method has to have at least
+ * one budget, so new methods cannot slip through without one.
+ * <p>
+ * When a change lowers the allocations of a method, lower its budget as well so that the improvement cannot silently regress.
+ *
+ * @author Théo Roncoletta
+ * @since 18.10.26
+ **/
+class AllocationBudgetTest {
+    private static final Option<String> SOME = Option.some("something");
+    private static final Option<String> NONE = Option.none();
+
+    private static final Result<String, String> OK = Result.ok("something");
+    private static final Result<String, String> ERR = Result.err("error");
+
+    private static final MultiOption<String> MULTI_NONE = MultiOption.none();
+    private static final MultiOption<String> ONE = MultiOption.one("something");
+    private static final MultiOption<String> MANY = MultiOption.many("some", "thing");
+
+    private static final Predicate<String> NOT_EMPTY = s -> !s.isEmpty();
+    private static final Predicate<String> ANY = s -> true;
+    private static final Condition<String> HOLDS = Condition.holds("something", NOT_EMPTY);
+    private static final Condition<String> HOLDS_NOT = Condition.holdsNot();
+
+    private static final ControlFlow<String, String> CONTINUE = new ControlFlow.Continue<>("something");
+    private static final ControlFlow<String, String> BREAK = new ControlFlow.Break<>("stop");
+
+    private static final Exception EXCEPTION = new Exception("expected to be unused");
+    private static final List<String> DEFAULT_VALUES = List.of("default");
+
+    /*
+     * Option.and(Option) and Result.and(Result) cannot be called directly as they are ambiguous with Streamable.and(Streamable).
+     */
+    private static final MethodHandle OPTION_AND = findAnd(Option.class);
+    private static final MethodHandle RESULT_AND = findAnd(Result.class);
+
+    private static MethodHandle findAnd(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(type, "and", MethodType.methodType(type, type));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Option<?> and(Option<?> option, Option<?> other) {
+        try {
+            return (Option<?>) OPTION_AND.invokeExact(option, other);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Result<?, ?> and(Result<?, ?> result, Result<?, ?> other) {
+        try {
+            return (Result<?, ?>) RESULT_AND.invokeExact(result, other);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Budget(Class<?> type, String method, String variant, long bytes, ThrowingSupplier<?, ?> call) {
+        DynamicTest toTest() {
+            String name = "%s.%s(%s) <= %d bytes".formatted(type.getSimpleName(), method, variant, bytes);
+            return DynamicTest.dynamicTest(name, () -> assertAllocatesAtMost(bytes, call, name));
+        }
+    }
+
+    private static final List<Budget> BUDGETS = new ArrayList<>();
+
+    private static void budget(Class<?> type, String method, String variant, long bytes, ThrowingSupplier<?, ?> call) {
+        BUDGETS.add(new Budget(type, method, variant, bytes, call));
+    }
+
+    static {
+        optionBudgets();
+        resultBudgets();
+        multiOptionBudgets();
+        conditionBudgets();
+        controlFlowBudgets();
+        flyweightBudgets();
+        primitiveIteratorBudgets();
+    }
+
+    private enum Flag {ON}
+
+    private static void flyweightBudgets() {
+        budget(Option.class, "some", "Boolean", 0, () -> Option.some(Boolean.TRUE));
+        budget(Option.class, "some", "small Integer", 0, () -> Option.some(42));
+        budget(Option.class, "some", "small Long", 0, () -> Option.some(42L));
+        budget(Option.class, "some", "enum constant", 0, () -> Option.some(Flag.ON));
+        budget(Option.class, "some", "Empty", 0, () -> Option.some(Empty.EMPTY));
+        budget(Option.class, "some", "String", 16, () -> Option.some("something"));
+        budget(Option.class, "someInterned", "String", 0, () -> Option.someInterned("something"));
+        budget(Result.class, "good", "", 0, Result::good);
+        budget(OptionInt.class, "some", "small int", 0, () -> OptionInt.some(42));
+        budget(OptionLong.class, "some", "small long", 0, () -> OptionLong.some(42));
+    }
+
+    private static void primitiveIteratorBudgets() {
+        OptionLong someLong = OptionLong.some(1_000);
+        OptionLong noLong = OptionLong.none();
+        OptionInt someInt = OptionInt.some(1_000);
+        OptionDouble someDouble = OptionDouble.some(0.5);
+        ResultLong<String> errLong = ResultLong.err("error");
+        budget(OptionLong.class, "iter", "Some", 24, someLong::iter);
+        budget(OptionLong.class, "iter", "None", 0, noLong::iter);
+        budget(OptionInt.class, "iter", "Some", 24, someInt::iter);
+        budget(OptionDouble.class, "iter", "Some", 24, someDouble::iter);
+        budget(ResultLong.class, "iter", "Err", 0, errLong::iter);
+    }
+
+    private static void optionBudgets() {
+        Class<?> o = Option.class;
+        budget(o, "isSome", "Some", 0, SOME::isSome);
+        budget(o, "isNone", "None", 0, NONE::isNone);
+        budget(o, "isSomeAnd", "Some", 0, () -> SOME.isSomeAnd(NOT_EMPTY));
+        budget(o, "stream", "Some", 72, SOME::stream);
+        budget(o, "stream", "None", 56, NONE::stream);
+        budget(o, "unwrap", "Some", 0, () -> SOME.unwrap());
+        budget(o, "unwrap", "Some, message", 0, () -> SOME.unwrap("message"));
+        budget(o, "unwrap", "Some, exception", 0, () -> SOME.unwrap(EXCEPTION));
+        budget(o, "unwrapElse", "Some", 0, () -> SOME.unwrapElse(() -> EXCEPTION));
+        budget(o, "unwrapOr", "None", 0, () -> NONE.unwrapOr("default"));
+        budget(o, "unwrapOrElse", "None", 0, () -> NONE.unwrapOrElse(() -> "default"));
+        budget(o, "map", "Some", 16, () -> SOME.map(s -> "other"));
+        budget(o, "map", "Some, same value", 0, () -> SOME.map(s -> s));
+        budget(o, "map", "Some, cached result", 0, () -> SOME.map(String::length));
+        budget(o, "map", "None", 0, () -> NONE.map(String::length));
+        budget(o, "safeMap", "Some", 16, () -> SOME.safeMap(String::length));
+        budget(o, "inspect", "Some", 0, () -> SOME.inspect(s -> {}));
+        budget(o, "mapOr", "None", 0, () -> NONE.mapOr(String::length, 0));
+        budget(o, "mapOrElse", "None", 0, () -> NONE.mapOrElse(String::length, () -> 0));
+        budget(o, "okOr", "Some", 16, () -> SOME.okOr("error"));
+        budget(o, "okOr", "None", 16, () -> NONE.okOr("error"));
+        budget(o, "okOrElse", "None", 16, () -> NONE.okOrElse(() -> "error"));
+        budget(o, "alwaysMaintain", "Some", 40, () -> SOME.alwaysMaintain(NOT_EMPTY));
+        budget(o, "iter", "Some", 16, SOME::iter);
+        budget(o, "spliterator", "Some", 16, SOME::spliterator);
+        budget(o, "spliterator", "None", 0, NONE::spliterator);
+        budget(o, "iterator", "Some", 16, SOME::iterator);
+        budget(o, "iterator", "None", 0, NONE::iterator);
+        budget(o, "and", "Some", 0, () -> and(SOME, NONE));
+        budget(o, "andThen", "Some", 0, () -> SOME.andThen(s -> NONE));
+        budget(o, "filter", "Some", 0, () -> SOME.filter(NOT_EMPTY));
+        budget(o, "filter", "None", 0, () -> NONE.filter(NOT_EMPTY));
+        budget(o, "or", "Some", 0, () -> SOME.or(NONE));
+        budget(o, "or", "None", 0, () -> NONE.or(SOME));
+        budget(o, "orNullable", "Some", 0, () -> SOME.orNullable(null));
+        budget(o, "orElse", "Some", 0, () -> SOME.orElse(() -> NONE));
+        budget(o, "orNullableElse", "Some", 0, () -> SOME.orNullableElse(() -> null));
+        budget(o, "xOr", "Some, None", 0, () -> SOME.xOr(NONE));
+        budget(o, "xOr", "None, Some", 0, () -> NONE.xOr(SOME));
+        budget(o, "j", "Some", 16, SOME::j);
+        budget(o, "toOptional", "Some", 16, SOME::toOptional);
+        budget(o, "branch", "Some", 16, SOME::branch);
+        budget(o, "branch", "None", 16, NONE::branch);
+        budget(o, "isContinue", "Some", 0, SOME::isContinue);
+        budget(o, "output", "Some", 0, SOME::output);
+        budget(o, "residual", "None", 0, NONE::residual);
+    }
+
+    private static void resultBudgets() {
+        Class<?> r = Result.class;
+        budget(r, "isOk", "Ok", 0, OK::isOk);
+        budget(r, "isOkAnd", "Ok", 0, () -> OK.isOkAnd(NOT_EMPTY));
+        budget(r, "isErr", "Err", 0, ERR::isErr);
+        budget(r, "isErrAnd", "Err", 0, () -> ERR.isErrAnd(NOT_EMPTY));
+        budget(r, "ok", "Ok", 16, OK::ok);
+        budget(r, "ok", "Err", 0, ERR::ok);
+        budget(r, "err", "Err", 16, ERR::err);
+        budget(r, "map", "Ok", 16, () -> OK.map(String::length));
+        budget(r, "map", "Err", 0, () -> ERR.map(String::length));
+        budget(r, "safeMap", "Ok", 16, () -> OK.safeMap(String::length, e -> "error"));
+        budget(r, "safeMap", "Err", 0, () -> ERR.safeMap(String::length, e -> "error"));
+        budget(r, "mapOr", "Err", 0, () -> ERR.mapOr(String::length, 0));
+        budget(r, "mapOrElse", "Ok", 0, () -> OK.mapOrElse(String::length, String::length));
+        budget(r, "mapErr", "Ok", 0, () -> OK.mapErr(String::length));
+        budget(r, "mapErr", "Err", 16, () -> ERR.mapErr(String::length));
+        budget(r, "inspect", "Ok", 0, () -> OK.inspect(s -> {}));
+        budget(r, "inspectErr", "Err", 0, () -> ERR.inspectErr(s -> {}));
+        budget(r, "spliterator", "Ok", 16, OK::spliterator);
+        budget(r, "spliterator", "Err", 0, ERR::spliterator);
+        budget(r, "iterator", "Ok", 16, OK::iterator);
+        budget(r, "iter", "Ok", 16, OK::iter);
+        budget(r, "stream", "Ok", 72, OK::stream);
+        budget(r, "unwrap", "Ok", 0, () -> OK.unwrap());
+        budget(r, "unwrap", "Ok, message", 0, () -> OK.unwrap("message"));
+        budget(r, "unwrap", "Ok, exception", 0, () -> OK.unwrap(EXCEPTION));
+        budget(r, "unwrapElse", "Ok", 0, () -> OK.unwrapElse(e -> EXCEPTION));
+        budget(r, "unwrapOr", "Err", 0, () -> ERR.unwrapOr("default"));
+        budget(r, "unwrapOrElse", "Err", 0, () -> ERR.unwrapOrElse(() -> "default"));
+        budget(r, "unwrapErr", "Err", 0, () -> ERR.unwrapErr());
+        budget(r, "unwrapErr", "Err, message", 0, () -> ERR.unwrapErr("message"));
+        budget(r, "unwrapErr", "Err, exception", 0, () -> ERR.unwrapErr(EXCEPTION));
+        budget(r, "unwrapErrElse", "Err", 0, () -> ERR.unwrapErrElse(t -> EXCEPTION));
+        budget(r, "and", "Ok", 0, () -> and(OK, ERR));
+        budget(r, "and", "Err", 0, () -> and(ERR, OK));
+        budget(r, "andThen", "Ok", 0, () -> OK.andThen(s -> ERR));
+        budget(r, "andThen", "Err", 0, () -> ERR.andThen(s -> OK));
+        budget(r, "or", "Ok", 0, () -> OK.or(ERR));
+        budget(r, "orThen", "Ok", 0, () -> OK.orThen(e -> ERR));
+        budget(r, "j", "Ok", 16, OK::j);
+        budget(r, "branch", "Ok", 16, OK::branch);
+        budget(r, "branch", "Err", 16, ERR::branch);
+        budget(r, "isContinue", "Ok", 0, OK::isContinue);
+        budget(r, "output", "Ok", 0, OK::output);
+        budget(r, "residual", "Err", 0, ERR::residual);
+    }
+
+    private static void multiOptionBudgets() {
+        Class<?> m = MultiOption.class;
+        budget(m, "isNone", "None", 0, MULTI_NONE::isNone);
+        budget(m, "isOne", "One", 0, ONE::isOne);
+        budget(m, "isOneAnd", "One", 0, () -> ONE.isOneAnd(NOT_EMPTY));
+        budget(m, "isMany", "Many", 0, MANY::isMany);
+        budget(m, "isManyAnd", "Many", 0, () -> MANY.isManyAnd(c -> !c.isEmpty()));
+        budget(m, "stream", "One", 72, ONE::stream);
+        budget(m, "stream", "Many", 96, MANY::stream);
+        budget(m, "toSet", "Many", 280, MANY::toSet);
+        budget(m, "toList", "Many", 0, MANY::toList);
+        budget(m, "spliterator", "One", 16, ONE::spliterator);
+        budget(m, "spliterator", "Many", 40, MANY::spliterator);
+        budget(m, "iterator", "One", 16, ONE::iterator);
+        budget(m, "iterator", "Many", 24, MANY::iterator);
+        budget(m, "wrap", "Many", 0, () -> MANY.wrap(c -> c));
+        budget(m, "unwrap", "Many", 72, () -> MANY.unwrap());
+        budget(m, "unwrap", "Many, message", 72, () -> MANY.unwrap("message"));
+        budget(m, "unwrap", "Many, exception", 72, () -> MANY.unwrap(EXCEPTION));
+        budget(m, "unwrapElse", "Many", 72, () -> MANY.unwrapElse(() -> EXCEPTION));
+        budget(m, "unwrapOr", "None", 0, () -> MULTI_NONE.unwrapOr(DEFAULT_VALUES));
+        budget(m, "unwrapOrElse", "None", 0, () -> MULTI_NONE.unwrapOrElse(() -> DEFAULT_VALUES));
+        budget(m, "map", "One", 16, () -> ONE.map(String::length));
+        budget(m, "map", "Many", 64, () -> MANY.map(String::length));
+        budget(m, "inspect", "Many", 0, () -> MANY.inspect(c -> {}));
+        budget(m, "mapOr", "One", 24, () -> ONE.mapOr(String::length, List.of()));
+        budget(m, "mapOrElse", "Many", 352, () -> MANY.mapOrElse(String::length, List::of));
+        budget(m, "get", "One", 0, () -> ONE.get(0));
+        budget(m, "get", "Many", 0, () -> MANY.get(1));
+        budget(m, "size", "Many", 0, MANY::size);
+        budget(m, "j", "Many", 0, MANY::j);
+    }
+
+    private static void conditionBudgets() {
+        Class<?> c = Condition.class;
+        budget(c, "doesHold", "Holds", 0, HOLDS::doesHold);
+        budget(c, "doesNotHold", "HoldsNot", 0, HOLDS_NOT::doesNotHold);
+        budget(c, "isHoldsAnd", "Holds", 0, () -> HOLDS.isHoldsAnd(NOT_EMPTY));
+        budget(c, "stream", "Holds", 72, HOLDS::stream);
+        budget(c, "unwrap", "Holds", 0, () -> HOLDS.unwrap());
+        budget(c, "unwrap", "Holds, message", 0, () -> HOLDS.unwrap("message"));
+        budget(c, "unwrap", "Holds, exception", 0, () -> HOLDS.unwrap(EXCEPTION));
+        budget(c, "unwrapElse", "Holds", 0, () -> HOLDS.unwrapElse(() -> EXCEPTION));
+        budget(c, "unwrapOr", "HoldsNot", 0, () -> HOLDS_NOT.unwrapOr("default"));
+        budget(c, "unwrapOrElse", "HoldsNot", 0, () -> HOLDS_NOT.unwrapOrElse(() -> "default"));
+        budget(c, "map", "Holds, same value", 0, () -> HOLDS.map(s -> s));
+        budget(c, "map", "Holds, new bound", 40, () -> HOLDS.map(String::length, i -> i > 0));
+        budget(c, "reBound", "Holds, same bound", 0, () -> HOLDS.reBound(NOT_EMPTY));
+        budget(c, "reBound", "Holds, other bound", 40, () -> HOLDS.reBound(ANY));
+        budget(c, "filter", "Holds", 0, () -> HOLDS.filter(NOT_EMPTY));
+        budget(c, "j", "Holds", 16, HOLDS::j);
+        budget(c, "toOptional", "Holds", 16, HOLDS::toOptional);
+    }
+
+    private static void controlFlowBudgets() {
+        Class<?> f = ControlFlow.class;
+        budget(f, "branch", "Continue", 0, CONTINUE::branch);
+        budget(f, "branch", "Break", 16, BREAK::branch);
+        budget(f, "output", "Continue", 0, CONTINUE::output);
+        budget(f, "residual", "Break", 0, BREAK::residual);
+        budget(f, "isBreak", "Break", 0, BREAK::isBreak);
+        budget(f, "isContinue", "Continue", 0, CONTINUE::isContinue);
+        budget(f, "breakValue", "Break", 16, BREAK::breakValue);
+        budget(f, "mapBreak", "Continue", 0, () -> CONTINUE.mapBreak(String::length));
+        budget(f, "continueValue", "Continue", 16, CONTINUE::continueValue);
+        budget(f, "mapContinue", "Break", 0, () -> BREAK.mapContinue(String::length));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> budgets() {
+        return BUDGETS.stream()
+                      .map(Budget::toTest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Option.class, Result.class, MultiOption.class, Condition.class, ControlFlow.class})
+    void everyDefaultMethodHasABudget(Class<?> type) {
+        Set<String> budgeted = BUDGETS.stream()
+                                      .filter(budget -> budget.type() == type)
+                                      .map(Budget::method)
+                                      .collect(Collectors.toSet());
+        List<String> missing = Arrays.stream(type.getDeclaredMethods())
+                                     .filter(Method::isDefault)
+                                     .map(Method::getName)
+                                     .filter(name -> !budgeted.contains(name))
+                                     .distinct()
+                                     .sorted()
+                                     .toList();
+
+        assertTrue(missing.isEmpty(), "%s has default methods without an allocation budget: %s".formatted(type.getSimpleName(), missing));
+    }
+}
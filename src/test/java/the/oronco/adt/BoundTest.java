@@ -0,0 +1,180 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import the.oronco.adt.exceptions.ValueNotValidForBoundError;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+class BoundTest {
+
+    private static Bound<String> counting(AtomicInteger counter, Predicate<String> predicate) {
+        return value -> {
+            counter.incrementAndGet();
+            return predicate.test(value);
+        };
+    }
+
+    @Nested
+    class TestComposition {
+        @Test
+        void shortCircuits() {
+            var calls = new AtomicInteger();
+            Bound<String> notEmpty = s -> !s.isEmpty();
+
+            assertFalse(notEmpty.and(counting(calls, s -> true))
+                                .test(""));
+            assertTrue(notEmpty.or(counting(calls, s -> true))
+                               .test("value"));
+            assertEquals(0, calls.get());
+            assertTrue(Bound.not(String::isEmpty)
+                            .test("value"));
+        }
+
+        @Test
+        void ofKeepsBounds() {
+            Bound<String> bound = String::isEmpty;
+            assertSame(bound, Bound.of(bound));
+        }
+
+        @Test
+        void allOfAndAnyOf() {
+            List<Predicate<Integer>> bounds = List.of(i -> i > 0, i -> i % 2 == 0);
+
+            assertTrue(Bound.allOf(bounds)
+                            .test(4));
+            assertFalse(Bound.allOf(bounds)
+                             .test(3));
+            assertTrue(Bound.anyOf(bounds)
+                            .test(-2));
+            assertFalse(Bound.anyOf(bounds)
+                             .test(-3));
+        }
+
+        @Test
+        void adaptiveOrderMovesCheapDecisiveBoundsFirst() {
+            Predicate<Integer> slow = value -> {
+                long end = System.nanoTime() + 20_000;
+                while (System.nanoTime() < end) {
+                    Thread.onSpinWait();
+                }
+                return true;
+            };
+            Predicate<Integer> fastAndFailing = value -> value < 0;
+            var bound = new AdaptiveBound<>(true, List.of(slow, fastAndFailing), 1, 16);
+
+            for (int i = 0; i < 16; i++) {
+                assertFalse(bound.test(i));
+            }
+
+            assertArrayEquals(new int[]{1, 0}, bound.order());
+        }
+    }
+
+    @Nested
+    class TestMemoized {
+        @Test
+        void checksEachValueOnce() {
+            var calls = new AtomicInteger();
+            var bound = counting(calls, s -> !s.isEmpty()).memoized(16);
+            var value = "value";
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(bound.test(value));
+            }
+            assertFalse(bound.test(""));
+
+            assertEquals(2, calls.get());
+        }
+
+        @Test
+        void comparesByIdentity() {
+            var calls = new AtomicInteger();
+            var bound = counting(calls, s -> true).memoized(16);
+
+            bound.test(new String("value"));
+            bound.test(new String("value"));
+
+            assertEquals(2, calls.get());
+        }
+
+        @Test
+        void capacityMustBePositive() {
+            Bound<String> bound = String::isEmpty;
+            assertThrows(IllegalArgumentException.class, () -> bound.memoized(0));
+        }
+    }
+
+    @Nested
+    class TestCondition {
+        @Test
+        void factoriesCheckTheBoundOnce() {
+            var calls = new AtomicInteger();
+            var bound = counting(calls, s -> !s.isEmpty());
+
+            Condition.holds("value", bound);
+            Condition.from("value", bound);
+            Condition.holdsSafe("value", bound);
+            Condition.fromOption(Option.some("value"), bound);
+
+            assertEquals(4, calls.get());
+        }
+
+        @Test
+        void plainPredicateIsCheckedOncePerValueThroughAChain() {
+            var calls = new AtomicInteger();
+            Predicate<String> bound = value -> {
+                calls.incrementAndGet();
+                return !value.isEmpty();
+            };
+            Predicate<String> otherBound = value -> {
+                calls.incrementAndGet();
+                return true;
+            };
+
+            var condition = Condition.from("value", bound)
+                                     .map(s -> s + "!")
+                                     .filter(s -> s.endsWith("!"))
+                                     .reBound(otherBound);
+
+            assertEquals("value!", condition.unwrapOr(""));
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        void holdsStoresTheGivenBound() {
+            Bound<String> bound = s -> !s.isEmpty();
+
+            var holds = assertInstanceOf(Condition.Holds.class, Condition.holds("value", bound));
+
+            assertSame(bound, holds.bound());
+            assertThrows(ValueNotValidForBoundError.class, () -> Condition.holds("", bound));
+            assertThrows(ValueNotValidForBoundError.class, () -> new Condition.Holds<>("", bound));
+        }
+
+        @Test
+        void memoizedBoundChecksAValueOnceThroughAChain() {
+            var calls = new AtomicInteger();
+            var bound = counting(calls, s -> !s.isEmpty()).memoized(64);
+            var value = "value";
+
+            Condition.holds(value, bound)
+                     .reBound(bound.and(s -> true))
+                     .reBound(bound)
+                     .map(s -> s)
+                     .filter(bound);
+
+            assertEquals(1, calls.get());
+        }
+    }
+}
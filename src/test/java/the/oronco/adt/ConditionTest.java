@@ -0,0 +1,105 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class ConditionTest {
+
+    private static BitSet bits(int... indices) {
+        var bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    @Nested
+    class TestCheckAll {
+        @Test
+        void objects() {
+            var checked = Condition.checkAll(new String[]{"a", "", "b", null, "c"}, s -> !s.isEmpty());
+
+            assertEquals(bits(0, 2, 4), checked._0());
+            assertEquals(List.of("a", "b", "c"), checked._1()
+                                                        .toList());
+        }
+
+        @Test
+        void listsWithoutRandomAccess() {
+            var values = new LinkedList<>(IntStream.range(0, 200)
+                                                   .boxed()
+                                                   .toList());
+
+            var checked = Condition.checkAll(values, i -> i % 100 == 0);
+
+            assertEquals(bits(0, 100), checked._0());
+            assertEquals(List.of(0, 100), checked._1()
+                                                 .toList());
+        }
+
+        @Test
+        void noValidValues() {
+            var checked = Condition.checkAll(List.of(1, 2), i -> i > 2);
+
+            assertEquals(new BitSet(), checked._0());
+            assertSame(MultiOption.none(), checked._1());
+        }
+
+        @Test
+        void longRange() {
+            long[] values = LongStream.range(-100, 100)
+                                      .toArray();
+
+            var checked = Condition.checkAll(values, -1, 1);
+
+            assertEquals(bits(99, 100, 101), checked._0());
+            assertArrayEquals(new long[]{-1, 0, 1}, checked._1());
+        }
+
+        @Test
+        void longRangeAtTheLimits() {
+            long[] values = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+
+            assertArrayEquals(values, Condition.checkAll(values, Long.MIN_VALUE, Long.MAX_VALUE)
+                                               ._1());
+            assertArrayEquals(new long[]{Long.MAX_VALUE}, Condition.checkAll(values, 1, Long.MAX_VALUE)
+                                                                   ._1());
+            assertArrayEquals(new long[0], Condition.checkAll(values, 1, -1)
+                                                    ._1());
+        }
+
+        @Test
+        void doubleRangeExcludesNaN() {
+            double[] values = {0.5, Double.NaN, 2.0, -0.0, 1.0};
+
+            var checked = Condition.checkAll(values, 0.0, 1.0);
+
+            assertEquals(bits(0, 3, 4), checked._0());
+            assertArrayEquals(new double[]{0.5, -0.0, 1.0}, checked._1());
+        }
+
+        @Test
+        void matchesConditionPerElement() {
+            long[] values = new java.util.Random(7).longs(1000, -50, 50)
+                                                    .toArray();
+
+            var checked = Condition.checkAll(values, -10, 20);
+
+            assertArrayEquals(Arrays.stream(values)
+                                    .filter(v -> Condition.from(v, (Long l) -> l >= -10 && l <= 20)
+                                                          .doesHold())
+                                    .toArray(), checked._1());
+        }
+    }
+}
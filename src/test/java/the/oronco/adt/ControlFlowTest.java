@@ -0,0 +1,82 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class ControlFlowTest {
+    private static final List<Integer> NUMBERS = IntStream.range(0, 100)
+                                                          .boxed()
+                                                          .toList();
+
+    private static ControlFlow<String, Integer> sumBelow(int limit, int sum, int value) {
+        return sum + value > limit ? new ControlFlow.Break<>("stopped at " + value) : new ControlFlow.Continue<>(sum + value);
+    }
+
+    @Nested
+    class TestTryFold {
+        @Test
+        void foldsAllElementsWithoutBreak() {
+            assertEquals(new ControlFlow.Continue<>(4950), ControlFlow.tryFold(NUMBERS, 0, (sum, v) -> sumBelow(10_000, sum, v)));
+            assertEquals(new ControlFlow.Continue<>(4950), ControlFlow.tryFold(NUMBERS.spliterator(), 0, (sum, v) -> sumBelow(10_000, sum, v)));
+        }
+
+        @Test
+        void stopsAtBreak() {
+            assertEquals(new ControlFlow.Break<>("stopped at 5"), ControlFlow.tryFold(NUMBERS, 0, (sum, v) -> sumBelow(10, sum, v)));
+            assertEquals(new ControlFlow.Break<>("stopped at 5"), ControlFlow.tryFold(NUMBERS.spliterator(), 0, (sum, v) -> sumBelow(10, sum, v)));
+        }
+
+        @Test
+        void emptySourceContinuesWithInit() {
+            assertEquals(new ControlFlow.Continue<>(7), ControlFlow.tryFold(List.<Integer>of(), 7, (sum, v) -> sumBelow(10, sum, v)));
+            assertEquals(new ControlFlow.Continue<>(7),
+                         ControlFlow.tryFold(List.<Integer>of().spliterator(), 7, (sum, v) -> sumBelow(10, sum, v)));
+        }
+
+        @Test
+        void breakDoesNotRunTheRestOfAStream() {
+            var mapped = new AtomicInteger();
+            var source = NUMBERS.stream()
+                                .peek(ignored -> mapped.incrementAndGet())
+                                .spliterator();
+
+            ControlFlow.tryFold(source, 0, (sum, v) -> sumBelow(10, sum, v));
+
+            assertEquals(6, mapped.get());
+        }
+    }
+
+    @Nested
+    class TestBuiltOnTryFold {
+        @Test
+        void tryForEach() {
+            var visited = new AtomicInteger();
+            assertEquals(Option.some("3"), ControlFlow.tryForEach(NUMBERS, v -> {
+                visited.incrementAndGet();
+                return v == 3 ? new ControlFlow.Break<>(v.toString()) : ControlFlow.proceed();
+            }));
+            assertEquals(4, visited.get());
+            assertSame(Option.none(), ControlFlow.tryForEach(NUMBERS.spliterator(), v -> ControlFlow.proceed()));
+        }
+
+        @Test
+        void findMap() {
+            assertEquals(Option.some("42"), ControlFlow.findMap(NUMBERS, v -> v > 41 ? Option.some(v.toString()) : Option.none()));
+            assertSame(Option.none(), ControlFlow.findMap(NUMBERS.spliterator(), v -> v > 100 ? Option.some(v) : Option.none()));
+        }
+
+        @Test
+        void position() {
+            assertEquals(OptionLong.some(42), ControlFlow.position(NUMBERS, v -> v == 42));
+            assertEquals(OptionLong.some(0), ControlFlow.position(NUMBERS.spliterator(), v -> v == 0));
+            assertSame(OptionLong.none(), ControlFlow.position(NUMBERS, v -> v < 0));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class MultiOptionTest {
+
+    @Nested
+    class TestLazy {
+        @Test
+        void picksVariantFromFirstTwoElements() {
+            assertSame(MultiOption.none(), MultiOption.lazy(List.of()));
+            assertEquals(MultiOption.one("a"), MultiOption.lazy(List.of("a")));
+            assertInstanceOf(MultiOption.Many.class, MultiOption.lazy(List.of("a", "b")));
+        }
+
+        @Test
+        void pullsOnlyTwoElementsUntilIterated() {
+            var pulled = new AtomicInteger();
+            var lazy = MultiOption.lazy(IntStream.range(0, 1_000_000)
+                                                 .boxed()
+                                                 .peek(ignored -> pulled.incrementAndGet()));
+
+            assertEquals(2, pulled.get());
+            assertEquals(List.of(0, 1, 2), lazy.stream()
+                                              .limit(3)
+                                              .toList());
+            assertEquals(3, pulled.get());
+        }
+
+        @Test
+        void canBeIteratedOnlyOnce() {
+            var lazy = MultiOption.lazy(List.of("a", "b", "c"));
+
+            assertEquals(List.of("a", "b", "c"), lazy.toList());
+            assertThrows(IllegalStateException.class, lazy::iterator);
+        }
+
+        @Test
+        void sizeCountsWithoutBuffering() {
+            assertEquals(100_000, MultiOption.lazy(IntStream.range(0, 100_000)
+                                                            .boxed())
+                                             .size());
+        }
+
+        @Test
+        void mapStaysLazy() {
+            var pulled = new AtomicInteger();
+            var mapped = MultiOption.lazy(Stream.of(1, 2, 3, 4)
+                                                .peek(ignored -> pulled.incrementAndGet()))
+                                    .map(v -> v * 10);
+
+            assertEquals(2, pulled.get());
+            assertEquals(List.of(10, 20, 30, 40), mapped.toList());
+        }
+
+        @Test
+        void nullsAreFoundWhileIterating() {
+            var lazy = MultiOption.lazy(Arrays.asList("a", "b", null));
+
+            var values = lazy.iterator();
+            values.next();
+            values.next();
+            assertThrows(NullPointerException.class, values::next);
+            assertThrows(NullPointerException.class, () -> MultiOption.lazy(Arrays.asList(null, "b")));
+        }
+
+        @Test
+        void printingDoesNotConsume() {
+            var lazy = MultiOption.lazy(List.of("a", "b", "c"));
+
+            assertEquals("Many[values=[a, b, ...]]", lazy.toString());
+            assertEquals(3, lazy.size());
+        }
+
+        @Test
+        void getBeyondTheEnd() {
+            var lazy = MultiOption.lazy(List.of("a", "b", "c"));
+
+            var thrown = assertThrows(IndexOutOfBoundsException.class, () -> lazy.get(5));
+            assertEquals("Index 5 out of bounds for length 3", thrown.getMessage());
+            assertEquals("b", MultiOption.lazy(List.of("a", "b", "c"))
+                                         .get(1));
+        }
+    }
+
+    @Nested
+    class TestArrayBacked {
+        @Test
+        void manyCopiesTheCallersArray() {
+            String[] values = {"a", "b"};
+            var many = MultiOption.many(values);
+            values[0] = "changed";
+
+            assertEquals(List.of("a", "b"), many.toList());
+        }
+
+        @Test
+        void nullsAreRejectedAtConstruction() {
+            assertThrows(NullPointerException.class, () -> MultiOption.many("a", null));
+            assertThrows(NullPointerException.class, () -> MultiOption.many(Arrays.asList("a", null)));
+            assertThrows(NullPointerException.class, () -> MultiOption.many("a", "b")
+                                                                      .map(ignored -> null));
+        }
+
+        @Test
+        void manyKeepsTheEqualityOfItsCollection() {
+            var fromSet = MultiOption.many(new LinkedHashSet<>(List.of("a", "b")));
+
+            assertEquals(MultiOption.many(new LinkedHashSet<>(List.of("b", "a"))), fromSet);
+            assertNotEquals(MultiOption.many(List.of("a", "b")), fromSet);
+            assertEquals(MultiOption.many(new LinkedList<>(List.of("a", "b"))), MultiOption.many("a", "b"));
+            assertNotEquals(MultiOption.many(List.of("b", "a")), MultiOption.many("a", "b"));
+        }
+
+        @Test
+        void collectionViewIsNotCopied() {
+            var many = MultiOption.many("a", "b", "c");
+
+            assertSame(many.j(), many.toList());
+            assertThrows(UnsupportedOperationException.class, () -> many.toList()
+                                                                        .set(0, "changed"));
+        }
+
+        @Test
+        void get() {
+            var many = MultiOption.many("a", "b", "c")
+                                  .map(String::toUpperCase);
+
+            assertEquals("C", many.get(2));
+            assertEquals("a", MultiOption.one("a")
+                                         .get(0));
+            assertThrows(IndexOutOfBoundsException.class, () -> many.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> MultiOption.one("a")
+                                                                           .get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> MultiOption.none()
+                                                                           .get(0));
+        }
+    }
+
+    @Nested
+    class TestMerges {
+        private final List<MultiOption<Integer>> inputs = List.of(MultiOption.many(1, 4, 7), MultiOption.none(), MultiOption.one(4),
+                                                                  MultiOption.many(2, 3, 9));
+
+        @Test
+        void concatKeepsOrder() {
+            assertEquals(List.of(1, 4, 7, 4, 2, 3, 9), MultiOption.concat(inputs)
+                                                                  .toList());
+            assertSame(MultiOption.none(), MultiOption.concat(List.of(MultiOption.none(), MultiOption.none())));
+            assertEquals(MultiOption.one(4), MultiOption.concat(List.of(MultiOption.none(), MultiOption.one(4))));
+        }
+
+        @Test
+        void concatOfLazyInputs() {
+            assertEquals(List.of(1, 2, 3, 4, 5), MultiOption.concat(List.of(MultiOption.lazy(List.of(1, 2, 3)), MultiOption.many(4, 5)))
+                                                            .toList());
+        }
+
+        @Test
+        void distinctKeepsFirstOccurrence() {
+            assertEquals(List.of(1, 4, 7, 2, 3, 9), MultiOption.distinct(inputs, 2)
+                                                               .toList());
+            assertEquals(List.of(1, 4, 7, 2, 3, 9), MultiOption.fromMultiOptions(inputs)
+                                                               .toList());
+        }
+
+        @Test
+        void distinctChecksTheExpectedSize() {
+            var thrown = assertThrows(IllegalArgumentException.class, () -> MultiOption.distinct(inputs, -1));
+
+            assertEquals("The expected number of distinct values must not be negative but was -1!", thrown.getMessage());
+            assertEquals(List.of(1, 4, 7, 2, 3, 9), MultiOption.distinct(inputs, Integer.MAX_VALUE)
+                                                               .toList());
+            assertEquals(List.of(1, 2, 3), MultiOption.distinct(List.of(MultiOption.lazy(List.of(1, 2, 1)), MultiOption.many(2, 3)), 0)
+                                                      .toList());
+        }
+
+        @Test
+        void mergeSorted() {
+            assertEquals(List.of(1, 2, 3, 4, 4, 7, 9), MultiOption.mergeSorted(inputs, Comparator.naturalOrder())
+                                                                  .toList());
+        }
+
+        @Test
+        void mergeSortedIsStable() {
+            record Entry(int key, String source) {}
+            var merged = MultiOption.mergeSorted(List.of(MultiOption.many(new Entry(1, "first"), new Entry(2, "first")),
+                                                         MultiOption.many(new Entry(1, "second"), new Entry(2, "second"))),
+                                                 Comparator.comparingInt(Entry::key));
+
+            assertEquals(List.of("first", "second", "first", "second"), merged.stream()
+                                                                              .map(Entry::source)
+                                                                              .toList());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+class OptionLongTest {
+
+    @Nested
+    class TestConversions {
+        @Test
+        void boxedRoundTrip() {
+            var some = OptionLong.some(Long.MIN_VALUE);
+            assertEquals(Option.some(Long.MIN_VALUE), some.boxed());
+            assertEquals(some, OptionLong.from(some.boxed()));
+
+            var none = OptionLong.none();
+            assertSame(Option.none(), none.boxed());
+            assertSame(none, OptionLong.from(Option.<Long>none()));
+        }
+
+        @Test
+        void optionalRoundTrip() {
+            var some = OptionLong.some(42);
+            assertEquals(OptionalLong.of(42), some.j());
+            assertEquals(some, OptionLong.from(some.j()));
+
+            assertEquals(OptionalLong.empty(), OptionLong.none().j());
+            assertSame(OptionLong.none(), OptionLong.from(OptionalLong.empty()));
+        }
+
+        @Test
+        void fromNullable() {
+            assertSame(OptionLong.none(), OptionLong.from((Long) null));
+            assertEquals(OptionLong.some(7), OptionLong.from(7L));
+        }
+    }
+
+    @Nested
+    class TestCombinators {
+        @Test
+        void map() {
+            assertEquals(OptionLong.some(2), OptionLong.some(1).map(v -> v + 1));
+            assertSame(OptionLong.none(), OptionLong.none().map(v -> v + 1));
+        }
+
+        @Test
+        void mapToObj() {
+            assertEquals(Option.some("1"), OptionLong.some(1).mapToObj(Long::toString));
+            assertSame(Option.none(), OptionLong.none().mapToObj(Long::toString));
+        }
+
+        @Test
+        void filterKeepsTheOption() {
+            var some = OptionLong.some(1);
+            assertSame(some, some.filter(v -> v > 0));
+            assertSame(OptionLong.none(), some.filter(v -> v < 0));
+        }
+
+        @Test
+        void xOr() {
+            var some = OptionLong.some(1);
+            var none = OptionLong.none();
+            assertSame(some, some.xOr(none));
+            assertSame(some, none.xOr(some));
+            assertTrue(some.xOr(some).isNone());
+            assertTrue(none.xOr(none).isNone());
+        }
+
+        @Test
+        void stream() {
+            assertEquals(3, OptionLong.some(3).stream().sum());
+            assertEquals(0, OptionLong.none().stream().count());
+        }
+
+        @Test
+        void okOr() {
+            assertEquals(ResultLong.ok(3), OptionLong.some(3).okOr("error"));
+            assertEquals(ResultLong.err("error"), OptionLong.none().okOr("error"));
+        }
+
+        @Test
+        void branch() {
+            assertInstanceOf(ControlFlow.Continue.class, OptionLong.some(3).branch());
+            assertFalse(OptionLong.none().branch().isContinue());
+        }
+    }
+}
@@ -18,10 +18,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import the.oronco.adt.exceptions.UnwrappedBadValueException;
 import the.oronco.adt.funcs.ThrowingFunction;
+import the.oronco.tuple.Empty;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 class OptionTest {
 
@@ -251,14 +257,13 @@ class OptionTest {
 
         @Test
         void mapSomeIdentity() throws UnwrappedBadValueException {
-            var someValue = 0;
+            var someValue = 1000; // outside the range of the cached Somes
             var some = Option.some(someValue);
 
             var result = assertClosureCalled(i -> i, some::map);
 
             assertInstanceOf(Option.Some.class, some);
-            assertEquals(result, some);
-            assertNotSame(result, some);
+            assertSame(result, some);
             assertEquals(someValue, result.unwrap());
         }
     }
@@ -321,6 +326,79 @@ class OptionTest {
         }
     }
 
+    @Nested
+    class TestSequencing {
+        @Test
+        void sequenceAllSome() {
+            assertEquals(Option.some(List.of(1, 2)), Option.sequence(Stream.of(Option.some(1), Option.some(2))));
+        }
+
+        @Test
+        void traverseStopsPullingAfterFirstNone() {
+            var evaluated = new AtomicInteger();
+
+            var result = Option.traverse(Stream.of("a", "", "b")
+                                               .peek(ignored -> evaluated.incrementAndGet()), s -> Option.some(s)
+                                                                                                         .filter(v -> !v.isEmpty()));
+
+            assertInstanceOf(Option.None.class, result);
+            assertEquals(2, evaluated.get());
+        }
+
+        @Test
+        void collector() {
+            assertEquals(Option.some(List.of("a", "b")), Stream.of(Option.some("a"), Option.some("b"))
+                                                               .collect(Option.sequenceCollector()));
+            assertInstanceOf(Option.None.class, Stream.of(Option.some("a"), Option.<String>none())
+                                                      .collect(Option.sequenceCollector()));
+        }
+    }
+
+    @Nested
+    class TestFlyweights {
+        private enum Color {RED, GREEN}
+
+        @Test
+        void commonValuesAreShared() {
+            assertSame(Option.some(true), Option.some(true));
+            assertSame(Option.some(-128), Option.some(-128));
+            assertSame(Option.some(127L), Option.some(127L));
+            assertSame(Option.some(Color.GREEN), Option.some(Color.GREEN));
+            assertSame(Option.some(Empty.EMPTY), Option.some(Empty.of()));
+            assertSame(Result.good(), Result.ok(Result.GOOD));
+        }
+
+        @Test
+        void otherValuesAreNotShared() {
+            assertNotSame(Option.some(128), Option.some(128));
+            assertNotSame(Option.some("value"), Option.some("value"));
+            assertNotEquals(Option.some(1), Option.some(1L));
+        }
+
+        @Test
+        void enumsOfOtherClassLoadersAreNotShared() throws Exception {
+            URL classes = Color.class.getProtectionDomain()
+                                     .getCodeSource()
+                                     .getLocation();
+            try (var loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+                Object red = loader.loadClass(Color.class.getName())
+                                   .getEnumConstants()[0];
+
+                assertNotSame(Color.RED.getClass(), red.getClass());
+                assertNotSame(Option.some(red), Option.some(red));
+                assertEquals(Option.some(red), Option.some(red));
+            }
+        }
+
+        @Test
+        void interned() {
+            var interned = Option.someInterned("interned value");
+
+            assertSame(interned, Option.someInterned(new String("interned value")));
+            assertEquals(Option.some("interned value"), interned);
+        }
+    }
+
     private static class TestException extends Exception {
         public TestException(String message) {
             super(message);
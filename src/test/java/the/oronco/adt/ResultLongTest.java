@@ -0,0 +1,96 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import the.oronco.adt.exceptions.ResultExpectedToBeOkException;
+import the.oronco.adt.funcs.ThrowingToLongFunction;
+
+import java.util.OptionalLong;
+
+class ResultLongTest {
+
+    @Nested
+    class TestConversions {
+        @Test
+        void boxedRoundTrip() {
+            ResultLong<String> ok = ResultLong.ok(Long.MAX_VALUE);
+            assertEquals(Result.ok(Long.MAX_VALUE), ok.boxed());
+            assertEquals(ok, ResultLong.from(ok.boxed()));
+
+            ResultLong<String> err = ResultLong.err("error");
+            assertEquals(Result.err("error"), err.boxed());
+            assertEquals(err, ResultLong.from(err.boxed()));
+        }
+
+        @Test
+        void okAndErr() {
+            assertEquals(OptionLong.some(3), ResultLong.ok(3).ok());
+            assertSame(OptionLong.none(), ResultLong.err("error").ok());
+            assertSame(Option.none(), ResultLong.ok(3).err());
+            assertEquals(Option.some("error"), ResultLong.err("error").err());
+        }
+
+        @Test
+        void optional() {
+            assertEquals(OptionalLong.of(5), ResultLong.ok(5).j());
+            assertEquals(OptionalLong.empty(), ResultLong.err("error").j());
+        }
+    }
+
+    @Nested
+    class TestCombinators {
+        @Test
+        void map() {
+            assertEquals(ResultLong.ok(2), ResultLong.ok(1).map(v -> v + 1));
+            ResultLong<String> err = ResultLong.err("error");
+            assertSame(err, err.map(v -> v + 1));
+        }
+
+        @Test
+        void mapErr() {
+            ResultLong<String> ok = ResultLong.ok(1);
+            assertSame(ok, ok.mapErr(String::length));
+            assertEquals(ResultLong.err(5), ResultLong.err("error").mapErr(String::length));
+        }
+
+        @Test
+        void andThen() {
+            ResultLong<String> ok = ResultLong.ok(4);
+            assertEquals(ResultLong.ok(2), ok.andThen(v -> v % 2 == 0 ? ResultLong.ok(v / 2) : ResultLong.err("odd")));
+            assertEquals(ResultLong.err("odd"), ResultLong.<String>ok(3).andThen(v -> ResultLong.err("odd")));
+        }
+
+        @Test
+        void unwrap() throws ResultExpectedToBeOkException {
+            assertEquals(7, ResultLong.ok(7).unwrap());
+            assertEquals(7, ResultLong.err("error").unwrapOr(7));
+            assertThrows(ResultExpectedToBeOkException.class, () -> ResultLong.err("error").unwrap());
+        }
+
+        @Test
+        void errIsItsOwnResidual() {
+            ResultLong<String> err = ResultLong.err("error");
+            var flow = assertInstanceOf(ControlFlow.Break.class, err.branch());
+            assertSame(err, flow.b());
+            assertEquals(new ControlFlow.Continue<>(1L), ResultLong.ok(1).branch());
+        }
+    }
+
+    @Nested
+    class TestThrowingFunction {
+        @Test
+        void wrapsExpectedException() {
+            ThrowingToLongFunction<String, NumberFormatException> parse = ThrowingToLongFunction.of(Long::parseLong);
+            var ok = parse.apply("12");
+            assertTrue(ok.isOkAnd(v -> v == 12));
+            assertFalse(parse.apply("twelve").isOk());
+        }
+    }
+}
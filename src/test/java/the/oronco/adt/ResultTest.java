@@ -0,0 +1,217 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import the.oronco.adt.exceptions.ResultExpectedToBeErrorException;
+import the.oronco.tuple.Pair;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ResultTest {
+
+    private static Result<Integer, String> parse(String value) {
+        try {
+            return Result.ok(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return Result.err(value);
+        }
+    }
+
+    @Nested
+    class TestSequencing {
+        @Test
+        void sequenceAllOk() {
+            var result = Result.sequence(Stream.of(Result.<Integer, String>ok(1), Result.ok(2), Result.ok(3)));
+
+            assertEquals(Result.ok(List.of(1, 2, 3)), result);
+        }
+
+        @Test
+        void sequenceReturnsFirstErr() {
+            var result = Result.sequence(Stream.of(Result.<Integer, String>ok(1), Result.err("first"), Result.err("second")));
+
+            assertEquals(Result.err("first"), result);
+        }
+
+        @Test
+        void sequenceEmpty() {
+            assertEquals(Result.ok(List.of()), Result.sequence(Stream.<Result<Integer, String>>empty()));
+        }
+
+        @Test
+        void traverseStopsPullingAfterFirstErr() {
+            var evaluated = new AtomicInteger();
+
+            var result = Result.traverse(Stream.of("1", "2", "x", "4", "y")
+                                               .peek(ignored -> evaluated.incrementAndGet()), ResultTest::parse);
+
+            assertEquals(Result.err("x"), result);
+            assertEquals(3, evaluated.get());
+        }
+
+        @Test
+        void traverseSizedSource() {
+            var result = Result.traverse(IntStream.range(0, 1000)
+                                                  .boxed(), i -> Result.<Integer, String>ok(i * 2));
+
+            assertEquals(Result.ok(IntStream.range(0, 1000)
+                                            .map(i -> i * 2)
+                                            .boxed()
+                                            .toList()), result);
+        }
+
+        @Test
+        void collectorKeepsFirstErrInEncounterOrder() {
+            var result = IntStream.range(0, 10_000)
+                                  .parallel()
+                                  .mapToObj(i -> i % 1000 == 999 ? Result.<Integer, String>err("error " + i) : Result.<Integer, String>ok(i))
+                                  .collect(Result.sequenceCollector());
+
+            assertEquals(Result.err("error 999"), result);
+        }
+
+        @Test
+        void collectorAllOk() {
+            var result = IntStream.range(0, 10_000)
+                                  .parallel()
+                                  .mapToObj(Result::<Integer, String>ok)
+                                  .collect(Result.sequenceCollector());
+
+            assertEquals(Result.ok(IntStream.range(0, 10_000)
+                                            .boxed()
+                                            .toList()), result);
+        }
+    }
+
+    @Nested
+    class TestParallelTraverse {
+        private static int parseThrowing(String value) throws NumberFormatException {
+            return Integer.parseInt(value);
+        }
+
+        @Test
+        void keepsInputOrder() {
+            var values = IntStream.range(0, 50_000)
+                                  .mapToObj(Integer::toString)
+                                  .toList();
+
+            var result = Result.parallelTraverse(values, TestParallelTraverse::parseThrowing);
+
+            assertEquals(Result.ok(IntStream.range(0, 50_000)
+                                            .boxed()
+                                            .toList()), result);
+        }
+
+        @Test
+        void returnsFirstErrorInInputOrder() throws ResultExpectedToBeErrorException {
+            var values = IntStream.range(0, 50_000)
+                                  .mapToObj(i -> i % 7_000 == 6_999 ? "x" + i : Integer.toString(i))
+                                  .toList();
+
+            var result = Result.parallelTraverse(values, TestParallelTraverse::parseThrowing);
+
+            assertEquals("For input string: \"x6999\"", result.unwrapErr()
+                                                               .getMessage());
+        }
+
+        @Test
+        void skipsValuesAfterTheError() {
+            var evaluated = new AtomicInteger();
+            var values = IntStream.range(0, 10_000)
+                                  .mapToObj(i -> i == 0 ? "x" : Integer.toString(i))
+                                  .toList();
+
+            try (var pool = new ForkJoinPool(1)) {
+                var result = Result.parallelTraverse(values, value -> {
+                    evaluated.incrementAndGet();
+                    return parseThrowing(value);
+                }, pool);
+
+                assertTrue(result.isErr());
+            }
+            assertEquals(1, evaluated.get());
+        }
+
+        @Test
+        void emptyInput() {
+            assertEquals(Result.ok(List.of()), Result.parallelTraverse(List.<String>of(), TestParallelTraverse::parseThrowing));
+        }
+    }
+
+    @Nested
+    class TestPartitioning {
+        private static Stream<Result<Integer, String>> mixed(int size) {
+            return IntStream.range(0, size)
+                            .mapToObj(i -> i % 4 == 0 ? Result.<Integer, String>err("error " + i) : Result.<Integer, String>ok(i));
+        }
+
+        @Test
+        void partitionsInEncounterOrder() {
+            var partitioned = mixed(8).collect(Result.partitioning());
+
+            assertEquals(Pair.of(List.of(1, 2, 3, 5, 6, 7), List.of("error 0", "error 4")), partitioned);
+        }
+
+        @Test
+        void parallelPartitionsInEncounterOrder() {
+            var partitioned = mixed(10_000).parallel()
+                                           .collect(Result.partitioning());
+
+            assertEquals(mixed(10_000).flatMap(Result::stream)
+                                      .toList(), partitioned._0());
+            assertEquals(2_500, partitioned._1()
+                                           .size());
+            assertEquals("error 9996", partitioned._1()
+                                                  .getLast());
+        }
+
+        @Test
+        void boundedKeepsFirstErrorsAndCountsAll() {
+            var partitioned = mixed(10_000).parallel()
+                                           .collect(Result.partitioning(3));
+
+            assertEquals(7_500, partitioned._0()
+                                           .size());
+            assertEquals(List.of("error 0", "error 4", "error 8"), partitioned._1());
+            assertEquals(2_500L, partitioned._2());
+        }
+
+        @Test
+        void concurrentKeepsEveryElement() {
+            var partitioned = mixed(10_000).parallel()
+                                           .collect(Result.partitioningConcurrent());
+
+            assertEquals(mixed(10_000).flatMap(Result::stream)
+                                      .collect(Collectors.toSet()), Set.copyOf(partitioned._0()));
+            assertEquals(2_500, Set.copyOf(partitioned._1())
+                                   .size());
+        }
+
+        @Test
+        void concurrentBounded() {
+            var partitioned = mixed(10_000).parallel()
+                                           .collect(Result.partitioningConcurrent(10));
+
+            assertEquals(7_500, partitioned._0()
+                                           .size());
+            assertEquals(10, partitioned._1()
+                                        .size());
+            assertEquals(2_500L, partitioned._2());
+        }
+
+        @Test
+        void negativeBound() {
+            assertThrows(IllegalArgumentException.class, () -> Result.partitioning(-1));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import the.oronco.adt.exceptions.WrongBranchError;
+
+class TryTest {
+
+    @Test
+    void optionContinuesWithItsValue() {
+        Option<String> some = Option.some("value");
+
+        assertTrue(some.isContinue());
+        assertEquals("value", some.output());
+        assertThrows(WrongBranchError.class, some::residual);
+        assertEquals(new ControlFlow.Continue<>("value"), some.branch());
+    }
+
+    @Test
+    void optionBreaksWithNone() {
+        Option<String> none = Option.none();
+
+        assertFalse(none.isContinue());
+        assertSame(Option.none(), none.residual());
+        assertThrows(WrongBranchError.class, none::output);
+        assertEquals(new ControlFlow.Break<>(Option.none()), none.branch());
+    }
+
+    @Test
+    void resultErrIsItsOwnResidual() {
+        Result<String, String> err = Result.err("error");
+
+        assertFalse(err.isContinue());
+        assertSame(err, err.residual());
+        assertThrows(WrongBranchError.class, err::output);
+        assertEquals(new ControlFlow.Break<>(err), err.branch());
+    }
+
+    @Test
+    void resultOkContinuesWithItsResult() {
+        Result<String, String> ok = Result.ok("value");
+
+        assertTrue(ok.isContinue());
+        assertEquals("value", ok.output());
+        assertThrows(WrongBranchError.class, ok::residual);
+    }
+
+    @Test
+    void controlFlowBreakIsItsOwnResidual() {
+        ControlFlow<String, Integer> brk = new ControlFlow.Break<>("stop");
+        ControlFlow<String, Integer> cntu = new ControlFlow.Continue<>(1);
+
+        assertSame(brk, brk.residual());
+        assertEquals(1, cntu.output());
+        assertThrows(WrongBranchError.class, brk::output);
+        assertThrows(WrongBranchError.class, cntu::residual);
+    }
+
+    @Test
+    void primitiveResultErrIsItsOwnResidual() {
+        ResultLong<String> err = ResultLong.err("error");
+
+        assertFalse(err.isContinue());
+        assertSame(err, err.residual());
+        assertEquals(3L, ResultLong.<String>ok(3).output());
+    }
+}
@@ -0,0 +1,161 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import the.oronco.tuple.Pair;
+import the.oronco.tuple.Triplet;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ValidationTest {
+
+    private static Validation<Integer, String> positive(int value) {
+        return value > 0 ? Validation.valid(value) : Validation.invalid(value + " is not positive");
+    }
+
+    @Nested
+    class TestCombinations {
+        @Test
+        void zipValid() {
+            assertEquals(Validation.valid(Pair.of(1, 2)), positive(1).zip(positive(2)));
+            assertEquals(Validation.valid(Triplet.of(1, 2, 3)), positive(1).zip(positive(2), positive(3)));
+        }
+
+        @Test
+        void zipAccumulatesAllErrorsInOrder() {
+            var zipped = positive(-1).zip(positive(2), positive(-3));
+
+            assertTrue(zipped.isInvalid());
+            assertEquals(List.of("-1 is not positive", "-3 is not positive"), zipped.errors()
+                                                                                     .toList());
+        }
+
+        @Test
+        void zipWith() {
+            assertEquals(Validation.valid(3), positive(1).zipWith(positive(2), Integer::sum));
+            assertEquals(List.of("0 is not positive"), positive(1).zipWith(positive(0), Integer::sum)
+                                                                  .errors()
+                                                                  .toList());
+        }
+
+        @Test
+        void zipKeepsCapacityOfInvalidSide() {
+            Validation<Integer, String> bounded = Validation.invalid("first", 2);
+            var zipped = positive(1).zip(bounded)
+                                    .zip(positive(-1))
+                                    .zip(positive(-2));
+
+            assertEquals(List.of("first", "-1 is not positive"), zipped.errors()
+                                                                       .toList());
+            assertEquals(3, zipped.errors()
+                                  .totalCount());
+        }
+
+        @Test
+        void andThenStopsAtInvalid() {
+            assertEquals(Validation.valid(2), positive(1).andThen(v -> positive(v + 1)));
+            var invalid = positive(0);
+            assertSame(invalid, invalid.andThen(v -> positive(v + 1)));
+        }
+
+        @Test
+        void mapErr() {
+            assertEquals(List.of(17), positive(0).mapErr(String::length)
+                                                 .errors()
+                                                 .toList());
+            var valid = positive(1);
+            assertSame(valid, valid.mapErr(String::length));
+        }
+    }
+
+    @Nested
+    class TestConversions {
+        @Test
+        void fromResult() {
+            assertEquals(Validation.valid(1), Validation.from(Result.ok(1)));
+            assertEquals(List.of("error"), Validation.from(Result.err("error"))
+                                                     .errors()
+                                                     .toList());
+        }
+
+        @Test
+        void toResult() {
+            assertEquals(Result.ok(1), positive(1).toResult());
+            assertEquals(Result.err(ErrorBuffer.of("0 is not positive")), positive(0).toResult());
+        }
+
+        @Test
+        void invalidNeedsAnError() {
+            assertThrows(IllegalArgumentException.class, () -> Validation.invalid(ErrorBuffer.empty()));
+        }
+    }
+
+    @Nested
+    class TestErrorBuffer {
+        @Test
+        void appendKeepsOrderAcrossChunks() {
+            var buffer = ErrorBuffer.<Integer>empty();
+            for (int i = 0; i < 1000; i++) {
+                buffer = buffer.append(i);
+            }
+
+            assertEquals(IntStream.range(0, 1000)
+                                  .boxed()
+                                  .toList(), buffer.toList());
+            assertEquals(Option.some(0), buffer.first());
+        }
+
+        @Test
+        void appendingTwiceToTheSameBufferDoesNotShareErrors() {
+            var base = ErrorBuffer.of("a")
+                                  .append("b");
+            var left = base.append("left");
+            var right = base.append("right");
+
+            assertEquals(List.of("a", "b"), base.toList());
+            assertEquals(List.of("a", "b", "left"), left.toList());
+            assertEquals(List.of("a", "b", "right"), right.toList());
+        }
+
+        @Test
+        void capacityDropsButCountsErrors() {
+            var buffer = ErrorBuffer.of("a", 2)
+                                    .append("b")
+                                    .append("c")
+                                    .appendAll(ErrorBuffer.of("d")
+                                                          .append("e"));
+
+            assertEquals(List.of("a", "b"), buffer.toList());
+            assertEquals(5, buffer.totalCount());
+            assertEquals(3, buffer.droppedCount());
+            assertEquals("[a, b] (+3 dropped)", buffer.toString());
+        }
+
+        @Test
+        void mapKeepsDroppedCount() {
+            var buffer = ErrorBuffer.of("one", 1)
+                                    .append("three")
+                                    .map(String::length);
+
+            assertEquals(List.of(3), buffer.toList());
+            assertEquals(1, buffer.droppedCount());
+        }
+
+        @Test
+        void equality() {
+            assertEquals(ErrorBuffer.of("a")
+                                    .append("b"), ErrorBuffer.of("a")
+                                                             .appendAll(ErrorBuffer.of("b")));
+            assertFalse(ErrorBuffer.of("a")
+                                   .equals(ErrorBuffer.of("a", 1)
+                                                      .append("b")));
+        }
+    }
+}
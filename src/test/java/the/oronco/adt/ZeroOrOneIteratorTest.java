@@ -0,0 +1,84 @@
+package the.oronco.adt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+class ZeroOrOneIteratorTest {
+
+    @Test
+    void yieldsTheValueOnce() {
+        var iterator = ZeroOrOneIterator.of("value");
+
+        assertTrue(iterator.hasNext());
+        assertEquals("value", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void reportsExactSize() {
+        Spliterator<String> spliterator = ZeroOrOneIterator.of("value");
+
+        assertEquals(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL, spliterator.characteristics());
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+        assertNull(spliterator.trySplit());
+        assertTrue(spliterator.tryAdvance(value -> {}));
+        assertEquals(0, spliterator.getExactSizeIfKnown());
+        assertFalse(spliterator.tryAdvance(value -> {}));
+    }
+
+    @Test
+    void emptyIsShared() {
+        assertSame(ZeroOrOneIterator.empty(), ZeroOrOneIterator.empty());
+        assertFalse(ZeroOrOneIterator.empty()
+                                     .hasNext());
+        assertEquals(0, ZeroOrOneIterator.empty()
+                                         .estimateSize());
+    }
+
+    @Test
+    void primitiveIteratorsYieldTheValueOnce() {
+        var longs = OptionLong.some(1_000).iter();
+        var ints = ResultInt.<String>ok(7).iter();
+        var doubles = OptionDouble.some(0.5).iter();
+
+        assertEquals(1_000, longs.nextLong());
+        assertEquals(7, ints.nextInt());
+        assertEquals(0.5, doubles.nextDouble());
+        assertFalse(longs.hasNext() || ints.hasNext() || doubles.hasNext());
+        assertThrows(NoSuchElementException.class, longs::nextLong);
+    }
+
+    @Test
+    void emptyPrimitiveIteratorsAreShared() {
+        assertSame(OptionLong.none().iter(), ResultLong.err("error").iter());
+        assertSame(OptionInt.none().iter(), ResultInt.err("error").iter());
+        assertSame(OptionDouble.none().iter(), ResultDouble.err("error").iter());
+        assertFalse(OptionLong.none().iter().hasNext());
+    }
+
+    @Test
+    void flatMapInParallelKeepsEveryValue() {
+        List<Integer> values = IntStream.range(0, 10_000)
+                                        .parallel()
+                                        .mapToObj(i -> i % 3 == 0 ? Option.<Integer>none() : Option.some(i))
+                                        .flatMap(Option::stream)
+                                        .toList();
+
+        assertEquals(IntStream.range(0, 10_000)
+                              .filter(i -> i % 3 != 0)
+                              .boxed()
+                              .toList(), values);
+    }
+}
@@ -0,0 +1,77 @@
+package the.oronco.tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PrimitiveTupleTest {
+    @Test
+    void boxedAndPrimitiveAccessorsAgree() {
+        var pair = LongPair.of(3, 4);
+
+        assertEquals(3L, pair._0());
+        assertEquals(4L, pair.long1());
+        assertEquals(Pair.of(3L, 4L), pair.toPair());
+        assertEquals(pair, LongPair.of(Pair.of(3L, 4L)));
+        assertEquals(List.of(3L, 4L), pair.j());
+    }
+
+    @Test
+    void equalityAndHashing() {
+        assertEquals(IntTriplet.of(1, 2, 3), IntTriplet.of(1, 2, 3));
+        assertEquals(IntTriplet.of(1, 2, 3)
+                               .hashCode(), IntTriplet.of(1, 2, 3)
+                                                      .hashCode());
+        assertNotEquals(IntTriplet.of(1, 2, 3), IntTriplet.of(3, 2, 1));
+        assertEquals(DoublePair.of(Double.NaN, 0.0), DoublePair.of(Double.NaN, 0.0));
+        assertNotEquals(DoublePair.of(0.0, 0.0), DoublePair.of(-0.0, 0.0));
+    }
+
+    @Test
+    void rotationsAndWithers() {
+        assertEquals(LongTriplet.of(2, 3, 1), LongTriplet.of(1, 2, 3)
+                                                         .rotL());
+        assertEquals(LongTriplet.of(3, 1, 2), LongTriplet.of(1, 2, 3)
+                                                         .rotR());
+        assertEquals(IntPair.of(2, 1), IntPair.of(1, 2)
+                                              .rotL());
+        assertEquals(DoubleTriplet.of(1, 5, 3), DoubleTriplet.of(1, 2, 3)
+                                                             .withDouble1(5));
+    }
+
+    @Test
+    void mixedPairs() {
+        var pair = IntLongPair.of(1, 1L << 40);
+
+        assertEquals(Pair.of(1, 1L << 40), pair.toPair());
+        assertEquals(LongIntPair.of(1L << 40, 1), pair.rotL());
+        assertEquals(pair, pair.rotR()
+                               .rotL());
+        assertEquals(0, pair.indexOf(1));
+        assertEquals(-1, pair.indexOf(1L));
+        assertEquals(1, DoubleIntPair.of(Double.NaN, 2)
+                                     .indexOf(2));
+        assertEquals(0, LongDoublePair.of(3, Double.NaN)
+                                      .withDouble1(0.5)
+                                      .indexOf(3L));
+        assertNotEquals(IntDoublePair.of(1, 0.0), IntDoublePair.of(1, -0.0));
+        assertEquals(IntLongPair.of(2, 3)
+                                .hashCode(), IntLongPair.of(Pair.of(2, 3L))
+                                                        .hashCode());
+    }
+
+    @Test
+    void indexOfOnlyMatchesTheBoxedComponentType() {
+        var pair = DoublePair.of(1.0, Double.NaN);
+
+        assertEquals(1, pair.indexOf(Double.NaN));
+        assertEquals(-1, pair.indexOf(1));
+        assertEquals(-1, LongPair.of(1, 2)
+                                 .indexOf(1));
+        assertThrows(NullPointerException.class, () -> LongPair.of(Pair.of(1L, null)));
+    }
+}
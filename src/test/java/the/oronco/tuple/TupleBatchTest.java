@@ -0,0 +1,118 @@
+package the.oronco.tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+
+class TupleBatchTest {
+    private static final List<Triplet<Long, String, Double>> ROWS = List.of(Triplet.of(1L, "a", 0.5),
+                                                                            Triplet.of(2L, "b", 1.5),
+                                                                            Triplet.of(3L, null, 2.5),
+                                                                            Triplet.of(4L, "d", 3.5));
+
+    private static TripletBatch<Long, String, Double> batch() {
+        return TripletBatch.from(ROWS, Column.longs(), Column.objects(), Column.doubles());
+    }
+
+    @Nested
+    class TestConversions {
+        @Test
+        void roundTrip() {
+            assertEquals(ROWS, batch().toList());
+            assertEquals(List.of(Pair.of(1, "x")), PairBatch.from(new LinkedList<>(List.of(Pair.of(1, "x"))), Column.ints(), Column.objects())
+                                                            .toList());
+        }
+
+        @Test
+        void primitiveColumnsRejectNull() {
+            var rows = new ArrayList<Pair<Long, String>>();
+            rows.add(Pair.of(null, "a"));
+
+            assertThrows(NullPointerException.class, () -> PairBatch.from(rows, Column.longs(), Column.objects()));
+        }
+
+        @Test
+        void columnsMustHaveTheSameSize() {
+            assertThrows(IllegalArgumentException.class, () -> PairBatch.of(Column.ofLongs(1, 2), Column.ofInts(1)));
+        }
+    }
+
+    @Nested
+    class TestRows {
+        @Test
+        void rowViewReadsTheColumns() {
+            var row = batch().row(1);
+
+            assertEquals(2L, row._0());
+            assertEquals("b", row._1());
+            assertEquals(1.5, row._2());
+            assertEquals(1, row.indexOf("b"));
+            assertEquals(Triplet.of(2L, "b", 1.5), row.toTriplet());
+            assertThrows(IndexOutOfBoundsException.class, () -> batch().row(4));
+        }
+
+        @Test
+        void forEachRowMovesASingleView() {
+            var views = new ArrayList<TripletBatch.Row<Long, String, Double>>();
+            var copies = new ArrayList<Triplet<Long, String, Double>>();
+            batch().forEachRow(row -> {
+                views.add(row);
+                copies.add(row.toTriplet());
+            });
+
+            assertEquals(ROWS, copies);
+            assertSame(views.getFirst(), views.getLast());
+        }
+    }
+
+    @Nested
+    class TestColumnWise {
+        @Test
+        void mapReplacesOnlyOneColumn() {
+            var batch = batch();
+            var mapped = batch.map1(s -> s == null ? 0 : s.length(), Column.ints());
+
+            assertEquals(List.of(1, 1, 0, 1), mapped.toList()
+                                                   .stream()
+                                                   .map(Triplet::_1)
+                                                   .toList());
+            assertSame(batch.column0(), mapped.column0());
+            assertSame(batch.column2(), mapped.column2());
+        }
+
+        @Test
+        void primitiveMapAndFilter() {
+            var batch = batch();
+            var doubled = batch.with0(batch.column0()
+                                           .mapLong(v -> v * 2));
+            var filtered = doubled.select(doubled.column0()
+                                                 .whereLong(v -> v > 4));
+
+            assertEquals(List.of(Triplet.of(6L, null, 2.5), Triplet.of(8L, "d", 3.5)), filtered.toList());
+            assertThrows(UnsupportedOperationException.class, () -> batch.column2()
+                                                                         .whereLong(v -> true));
+        }
+
+        @Test
+        void filter() {
+            assertEquals(List.of(ROWS.get(0), ROWS.get(3)), batch().filter2(v -> v < 1 || v > 3)
+                                                                   .toList());
+        }
+
+        @Test
+        void selectChecksTheRows() {
+            var rows = new BitSet();
+            rows.set(4);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> batch().select(rows));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package the.oronco.tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+class TupleHashTest {
+    @Test
+    void hashIsTheSameInEveryRun() {
+        // changing these values changes the iteration order of every hash based collection of tuples
+        assertEquals(-879871200, Pair.of(1, 2)
+                                     .hashCode());
+        assertEquals(1981051490, Triplet.of("a", "b", "c")
+                                       .hashCode());
+        assertEquals(1027535332, LongPair.of(1, 2)
+                                        .hashCode());
+    }
+
+    @Test
+    void gridCoordinatesDoNotCollide() {
+        Set<Integer> hashes = new HashSet<>();
+        Set<Integer> buckets = new HashSet<>();
+        for (int x = 0; x < 1000; x++) {
+            for (int y = 0; y < 1000; y++) {
+                int hash = Pair.of(x, y)
+                               .hashCode();
+                hashes.add(hash);
+                buckets.add((hash ^ hash >>> 16) & (1 << 20) - 1);
+            }
+        }
+
+        // the default record hash 31 * x + y only has 31969 distinct values here
+        assertTrue(hashes.size() > 999_000, "only " + hashes.size() + " distinct hashes");
+        // a random hash fills about 61% of 2^20 buckets with a million keys
+        assertTrue(buckets.size() > 600_000, "only " + buckets.size() + " buckets in use");
+    }
+
+    @Test
+    void hashDependsOnThePositionAndTheSize() {
+        assertNotEquals(Pair.of(1, 2)
+                            .hashCode(), Pair.of(2, 1)
+                                             .hashCode());
+        assertNotEquals(Pair.of(null, null)
+                            .hashCode(), Triplet.of(null, null, null)
+                                                .hashCode());
+        assertNotEquals(LongPair.of(1L << 32, 0)
+                                .hashCode(), LongPair.of(1, 0)
+                                                     .hashCode());
+    }
+
+    @Test
+    void equality() {
+        var pair = Pair.of("a", 1);
+
+        assertEquals(pair, pair);
+        assertEquals(pair, Pair.of("a", 1));
+        assertEquals(Pair.of(null, 1), Pair.of(null, 1));
+        assertNotEquals(pair, Pair.of("a", 2));
+        assertNotEquals(pair, LongPair.of(1, 2));
+        assertNotEquals(pair, null);
+    }
+
+    @Test
+    void hashedTupleCachesTheHash() {
+        var hashed = HashedTuple.of(Triplet.of("x", 1, 2.0));
+
+        assertEquals(Triplet.of("x", 1, 2.0)
+                            .hashCode(), hashed.hashCode());
+        assertEquals(hashed.hashCode(), hashed.hashCode());
+        assertEquals(hashed, HashedTuple.of(Triplet.of("x", 1, 2.0)));
+        assertNotEquals(hashed, HashedTuple.of(Triplet.of("x", 1, 3.0)));
+        assertNotEquals(hashed, hashed.tuple());
+        assertEquals("(x, 1, 2.0)", hashed.toString());
+    }
+
+    @Test
+    void hashedTuplesAsKeys() {
+        var map = new HashMap<HashedTuple<IntPair>, String>();
+        map.put(HashedTuple.of(IntPair.of(1, 2)), "a");
+        map.put(HashedTuple.of(IntPair.of(2, 1)), "b");
+
+        assertEquals("a", map.get(HashedTuple.of(IntPair.of(1, 2))));
+        assertEquals("b", map.get(HashedTuple.of(IntPair.of(2, 1))));
+        assertEquals(2, map.size());
+    }
+}
@@ -0,0 +1,188 @@
+package the.oronco.tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+class TupleMapTest {
+    @Nested
+    class TestLongPairMap {
+        @Test
+        void putGetAndRemove() {
+            var map = new LongPairMap<String>();
+
+            assertNull(map.put(1, 2, "a"));
+            assertNull(map.put(2, 1, "b"));
+            assertEquals("a", map.put(1, 2, "c"));
+            assertEquals("c", map.get(1, 2));
+            assertEquals("b", map.get(LongPair.of(2, 1)));
+            assertEquals("b", map.get(Pair.of(2L, 1L)));
+            assertNull(map.get(1, 1));
+            assertEquals(2, map.size());
+
+            assertEquals("c", map.remove(Pair.of(1L, 2L)));
+            assertNull(map.remove(1, 2));
+            assertFalse(map.containsKey(1, 2));
+            assertTrue(map.containsKey(LongPair.of(2, 1)));
+            assertEquals(1, map.size());
+        }
+
+        @Test
+        void rejectsNulls() {
+            var map = new LongPairMap<String>();
+
+            assertThrows(NullPointerException.class, () -> map.put(1, 2, null));
+            assertThrows(NullPointerException.class, () -> map.get(Pair.of(null, 1L)));
+        }
+
+        @Test
+        void growsIncrementally() {
+            var map = new LongPairMap<Long>();
+            int capacity = TupleTable.MIN_CAPACITY;
+            for (long i = 0; i < capacity / 2 + 1; i++) {
+                map.put(i, -i, i);
+            }
+
+            assertTrue(map.isMigrating());
+            for (long i = 0; i < capacity / 2 + 1; i++) {
+                assertEquals(i, map.get(i, -i));
+            }
+            for (long i = capacity; map.isMigrating(); i++) {
+                map.put(i, -i, i);
+            }
+            assertFalse(map.isMigrating());
+            assertEquals(0L, map.get(0, 0));
+        }
+
+        @Test
+        void behavesLikeAHashMap() {
+            var random = new Random(7);
+            var map = new LongPairMap<Integer>();
+            var expected = new HashMap<LongPair, Integer>();
+            for (int i = 0; i < 50_000; i++) {
+                // few distinct keys, so that updates and removals hit entries in the previous table as well
+                long v0 = random.nextInt(100);
+                long v1 = (long) random.nextInt(100) << 32;
+                switch (random.nextInt(4)) {
+                    case 0 -> assertEquals(expected.remove(LongPair.of(v0, v1)), map.remove(v0, v1));
+                    case 1 -> assertEquals(expected.get(LongPair.of(v0, v1)), map.get(v0, v1));
+                    default -> assertEquals(expected.put(LongPair.of(v0, v1), i), map.put(v0, v1, i));
+                }
+                assertEquals(expected.size(), map.size());
+            }
+
+            var entries = new HashMap<LongPair, Integer>();
+            map.forEachEntry((key, value) -> entries.put(key.toLongPair(), value));
+            assertEquals(expected, entries);
+        }
+
+        @Test
+        void forEachPassesAMovingView() {
+            var map = new LongPairMap<String>();
+            map.put(1, 2, "a");
+            map.put(3, 4, "b");
+            var views = new ArrayList<Tuple.Size2<Long, Long>>();
+            var copies = new HashMap<Pair<Long, Long>, String>();
+            map.forEach((key, value) -> {
+                views.add(key);
+                copies.put(Pair.of(key), value);
+            });
+
+            assertEquals(Map.of(Pair.of(1L, 2L), "a", Pair.of(3L, 4L), "b"), copies);
+            assertSame(views.getFirst(), views.getLast());
+        }
+
+        @Test
+        void clear() {
+            var map = new LongPairMap<String>(100);
+            map.put(1, 2, "a");
+            map.clear();
+
+            assertTrue(map.isEmpty());
+            assertNull(map.get(1, 2));
+            assertEquals("{}", map.toString());
+        }
+    }
+
+    @Nested
+    class TestIntTripletMap {
+        @Test
+        void putGetAndRemove() {
+            var map = new IntTripletMap<String>();
+
+            assertNull(map.put(1, 2, 3, "a"));
+            assertNull(map.put(IntTriplet.of(3, 2, 1), "b"));
+            assertEquals("a", map.get(Triplet.of(1, 2, 3)));
+            assertEquals("b", map.get(3, 2, 1));
+            assertEquals("b", map.remove(3, 2, 1));
+            assertEquals("{(1, 2, 3)=a}", map.toString());
+        }
+
+        @Test
+        void behavesLikeAHashMap() {
+            var random = new Random(11);
+            var map = new IntTripletMap<Integer>();
+            var expected = new HashMap<IntTriplet, Integer>();
+            for (int i = 0; i < 50_000; i++) {
+                int v0 = random.nextInt(20);
+                int v1 = random.nextInt(20);
+                int v2 = -random.nextInt(20);
+                switch (random.nextInt(4)) {
+                    case 0 -> assertEquals(expected.remove(IntTriplet.of(v0, v1, v2)), map.remove(v0, v1, v2));
+                    case 1 -> assertEquals(expected.get(IntTriplet.of(v0, v1, v2)), map.get(v0, v1, v2));
+                    default -> assertEquals(expected.put(IntTriplet.of(v0, v1, v2), i), map.put(v0, v1, v2, i));
+                }
+                assertEquals(expected.size(), map.size());
+            }
+
+            var entries = new HashMap<IntTriplet, Integer>();
+            map.forEachEntry((key, value) -> entries.put(key.toIntTriplet(), value));
+            assertEquals(expected, entries);
+        }
+    }
+
+    @Nested
+    class TestSets {
+        @Test
+        void longPairSet() {
+            var set = new LongPairSet();
+
+            assertTrue(set.add(1, 2));
+            assertFalse(set.add(LongPair.of(1, 2)));
+            assertTrue(set.add(Pair.of(2L, 1L)));
+            assertTrue(set.contains(2, 1));
+            assertTrue(set.remove(1, 2));
+            assertFalse(set.remove(Pair.of(1L, 2L)));
+            assertEquals(1, set.size());
+            assertEquals("[(2, 1)]", set.toString());
+        }
+
+        @Test
+        void intTripletSet() {
+            var set = new IntTripletSet(4);
+            for (int i = 0; i < 1000; i++) {
+                set.add(i, i % 7, -i);
+            }
+            Set<IntTriplet> elements = new HashSet<>();
+            set.forEachKey(key -> elements.add(key.toIntTriplet()));
+
+            assertEquals(1000, set.size());
+            assertEquals(1000, elements.size());
+            assertTrue(set.contains(IntTriplet.of(999, 999 % 7, -999)));
+            assertFalse(set.contains(Triplet.of(999, 0, -999)));
+        }
+    }
+}
@@ -4,9 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -15,7 +18,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import the.oronco.adt.Option;
 import the.oronco.adt.Result;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -89,6 +95,90 @@ class TupleTest {
                                                                .toList())));
     }
 
+    @ParameterizedTest
+    @MethodSource("tuplesWithSizes")
+    void testGetUnchecked(Tuple tuple, int size) {
+        assertAll(IntStream.range(0, size)
+                           .<Executable>mapToObj(i -> () -> assertEquals(i, tuple.getUnchecked(i)))
+                           .toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> tuple.getUnchecked(size));
+        assertThrows(IndexOutOfBoundsException.class, () -> tuple.getUnchecked(-1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tuplesWithSizes")
+    void testGetOrNull(Tuple tuple, int size) {
+        assertAll(IntStream.range(0, size)
+                           .<Executable>mapToObj(i -> () -> assertEquals(i, tuple.getOrNull(i)))
+                           .toList());
+        assertNull(tuple.getOrNull(size));
+        assertNull(tuple.getOrNull(-1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tuplesWithSizes")
+    void testIndexOf(Tuple tuple, int size) {
+        assertAll(IntStream.range(0, size)
+                           .<Executable>mapToObj(i -> () -> assertEquals(i, tuple.indexOf(i)))
+                           .toList());
+        assertEquals(-1, tuple.indexOf(size));
+        assertEquals(-1, tuple.indexOf(null));
+    }
+
+    @Test
+    void testIndexOfFindsTheFirstEqualValue() {
+        var quartet = Quartet.of("a", null, "b", null);
+        assertEquals(1, quartet.indexOf(null));
+        assertEquals(2, quartet.indexOf("b"));
+        assertEquals(Result.ok(Option.none()), quartet.get(3));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tuplesWithSizes")
+    void testIteration(MultiValue<?, ?, ?> tuple, int size) {
+        var expected = IntStream.range(0, size)
+                                .boxed()
+                                .toList();
+        var iterated = new ArrayList<>();
+        tuple.iterator()
+             .forEachRemaining(iterated::add);
+        var consumed = new ArrayList<>();
+        tuple.forEach(consumed::add);
+
+        assertAll(() -> assertEquals(expected, iterated),
+                  () -> assertEquals(expected, consumed),
+                  () -> assertEquals(expected, tuple.j()),
+                  () -> assertEquals(expected.hashCode(), tuple.j()
+                                                                .hashCode()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tuplesWithSizes")
+    void testForEachIndexed(Tuple tuple) {
+        tuple.forEachIndexed((value, index) -> assertEquals(index, value));
+    }
+
+    @Test
+    void testIteratorEnds() {
+        var iterator = Pair.of(0, 1)
+                           .iterator();
+        iterator.next();
+        iterator.next();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testViewAllowsNullsAndIsUnmodifiable() {
+        var view = Triplet.of("a", null, "c")
+                          .j();
+
+        assertEquals(Arrays.asList("a", null, "c"), view);
+        assertTrue(view.contains(null));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("d"));
+    }
+
     @ValueSource
     static Stream<Arguments> tuplesWithSizes() {
         return Stream.of(Arguments.of(Empty.of(), 0),
@@ -101,6 +191,8 @@ class TupleTest {
                          Arguments.of(Septet.of(0, 1, 2, 3, 4, 5, 6), 7),
                          Arguments.of(Octet.of(0, 1, 2, 3, 4, 5, 6, 7), 8),
                          Arguments.of(Ennead.of(0, 1, 2, 3, 4, 5, 6, 7, 8), 9),
-                         Arguments.of(Decade.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), 10));
+                         Arguments.of(Decade.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), 10),
+                         Arguments.of(IntPair.of(0, 1), 2),
+                         Arguments.of(IntTriplet.of(0, 1, 2), 3));
     }
 }